@@ -2,17 +2,32 @@ package ua.com.epam.controller;
 
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
+import ua.com.epam.entity.dto.author.AuthorDescriptionHitDto;
 import ua.com.epam.entity.dto.author.AuthorDto;
+import ua.com.epam.entity.dto.author.AuthorSuggestionDto;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
 import ua.com.epam.exception.entity.NoSuchJsonKeyException;
+import ua.com.epam.exception.entity.type.BatchIsTooLargeException;
+import ua.com.epam.exception.entity.type.InvalidLimitValueException;
 import ua.com.epam.exception.entity.type.InvalidOrderTypeException;
 import ua.com.epam.exception.entity.type.InvalidPageValueException;
 import ua.com.epam.exception.entity.type.InvalidSizeValueException;
 import ua.com.epam.repository.JsonKeysConformity;
+import ua.com.epam.repository.projection.Fieldset;
 import ua.com.epam.service.AuthorService;
+import ua.com.epam.service.BookService;
+import ua.com.epam.service.GenreService;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.util.KeysetPage;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -21,10 +36,38 @@ import java.util.List;
 @RequestMapping("${server.base.url}")
 @Api(value = "Author", description = "Author endpoints", tags = {"Author"})
 public class AuthorController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @Autowired
     private AuthorService authorService;
 
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Value("${batch.max-size:50000}")
+    private int maxBatchSize;
+
+    @Value("${search.max-limit:1000}")
+    private int maxSearchLimit;
+
+    private void checkBatchSize(List<?> batch) {
+        if (batch.size() > maxBatchSize) {
+            throw new BatchIsTooLargeException(maxBatchSize);
+        }
+    }
+
+    private void checkSearchLimit(Integer limit) {
+        if (limit <= 0 || limit > maxSearchLimit) {
+            throw new InvalidLimitValueException(maxSearchLimit);
+        }
+    }
+
     private void checkOrdering(String orderType) {
         if (!orderType.equals("asc") && !orderType.equals("desc")) {
             throw new InvalidOrderTypeException(orderType);
@@ -57,7 +100,14 @@ public class AuthorController {
     public ResponseEntity<?> getAuthor(
             @ApiParam(required = true, value = "existed Author ID")
             @PathVariable
-                    Long authorId) {
+                    Long authorId,
+
+            @ApiIgnore WebRequest request) {
+        authorService.checkAuthorExists(authorId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.AUTHOR))) {
+            return null;
+        }
+
         AuthorDto response = authorService.findAuthor(authorId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -73,7 +123,14 @@ public class AuthorController {
     public ResponseEntity<?> getAuthorOfBook(
             @ApiParam(required = true, value = "existed Book ID")
             @PathVariable
-                    Long bookId) {
+                    Long bookId,
+
+            @ApiIgnore WebRequest request) {
+        bookService.checkBookExists(bookId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.AUTHOR, EntityType.BOOK))) {
+            return null;
+        }
+
         AuthorDto response = authorService.findAuthorOfBook(bookId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -105,13 +162,32 @@ public class AuthorController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiParam(value = "cursor from the X-Next-Cursor header of the previous page, replaces 'page'")
+            @RequestParam(name = "cursor", required = false)
+                    String cursor,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'authorId,authorName,nationality', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.AUTHOR);
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
         checkPaginateParams(page, size);
 
-        List<AuthorDto> response = authorService.findAllAuthors(sortBy, orderType, page, size, pagination);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        if (request.checkNotModified(entityVersions.etag(EntityType.AUTHOR))) {
+            return null;
+        }
+
+        KeysetPage<?> response = authorService.findAllAuthors(sortBy, orderType, page, size, pagination, cursor, fieldset);
+        HttpHeaders headers = new HttpHeaders();
+        if (response.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, response.getNextCursor());
+        }
+        return new ResponseEntity<>(response.getContent(), headers, HttpStatus.OK);
     }
 
     @ApiOperation(value = "search for author by it name and surname", tags = "Author")
@@ -125,8 +201,57 @@ public class AuthorController {
     public ResponseEntity<?> searchForAuthors(
             @ApiParam(value = "Searched query. At least 3 symbols exclude spaces in each word.", required = true)
             @RequestParam(name = "query")
-                    String query) {
-        List<AuthorDto> response = authorService.searchForExistedAuthors(query);
+                    String query,
+
+            @ApiParam(value = "tolerate typos, closest Authors go first")
+            @RequestParam(name = "fuzzy", defaultValue = "false")
+                    Boolean fuzzy) {
+        List<AuthorDto> response = authorService.searchForExistedAuthors(query, fuzzy);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiOperation(value = "full-text search in Author descriptions, return the most relevant first", tags = "Author")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Array of AuthorDescriptionHit objects",
+                    responseContainer = "List", response = AuthorDescriptionHitDto.class),
+            @ApiResponse(code = 400, message = "Something wrong..."),
+            @ApiResponse(code = 503, message = "Search index is being loaded")
+    })
+    @GetMapping(value = "/authors/search/description",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> searchAuthorDescriptions(
+            @ApiParam(value = "Searched words", required = true)
+            @RequestParam(name = "query")
+                    String query,
+
+            @ApiParam(value = "max count of found Authors")
+            @RequestParam(name = "limit", defaultValue = "10")
+                    Integer limit) {
+        checkSearchLimit(limit);
+
+        List<AuthorDescriptionHitDto> response = authorService.searchAuthorDescriptions(query, limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiOperation(value = "complete author name or surname by its beginning", tags = "Author")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Array of AuthorSuggestion objects",
+                    responseContainer = "List", response = AuthorSuggestionDto.class),
+            @ApiResponse(code = 400, message = "Something wrong...")
+    })
+    @GetMapping(value = "/authors/suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> suggestAuthors(
+            @ApiParam(value = "beginning of Author name, surname or full name", required = true)
+            @RequestParam(name = "prefix")
+                    String prefix,
+
+            @ApiParam(value = "max count of suggestions")
+            @RequestParam(name = "limit", defaultValue = "10")
+                    Integer limit) {
+        checkSearchLimit(limit);
+
+        List<AuthorSuggestionDto> response = authorService.suggestAuthors(prefix, limit);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -162,12 +287,24 @@ public class AuthorController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'authorId,authorName,nationality', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.AUTHOR);
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
         checkPaginateParams(page, size);
+        genreService.checkGenreExists(genreId);
 
-        List<AuthorDto> response = authorService.findAllAuthorsInGenre(genreId, sortBy, orderType, page, size, pagination);
+        if (request.checkNotModified(entityVersions.etag(EntityType.AUTHOR, EntityType.BOOK, EntityType.GENRE))) {
+            return null;
+        }
+
+        List<?> response = authorService.findAllAuthorsInGenre(genreId, sortBy, orderType, page, size, pagination, fieldset);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -189,6 +326,25 @@ public class AuthorController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @ApiOperation(value = "create many new Authors at once", tags = {"Author"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "status of every Author of the batch, 201 for the created ones",
+                    response = BatchItemStatusDto.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Something wrong...")
+    })
+    @PostMapping(value = "/authors/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> addNewAuthors(
+            @ApiParam(required = true, value = "Authors to add", name = "Author objects")
+            @RequestBody
+                    List<AuthorDto> batch) {
+        checkBatchSize(batch);
+
+        List<BatchItemStatusDto> response = authorService.addNewAuthors(batch);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiOperation(value = "update existed Author", tags = {"Author"})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "updated Author object", response = AuthorDto.class),
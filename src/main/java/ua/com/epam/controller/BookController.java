@@ -2,17 +2,33 @@ package ua.com.epam.controller;
 
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
+import ua.com.epam.entity.dto.book.BookBatchItemDto;
+import ua.com.epam.entity.dto.book.BookDescriptionHitDto;
 import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.entity.dto.book.BookSuggestionDto;
 import ua.com.epam.exception.entity.NoSuchJsonKeyException;
+import ua.com.epam.exception.entity.type.BatchIsTooLargeException;
+import ua.com.epam.exception.entity.type.InvalidLimitValueException;
 import ua.com.epam.exception.entity.type.InvalidOrderTypeException;
 import ua.com.epam.exception.entity.type.InvalidPageValueException;
 import ua.com.epam.exception.entity.type.InvalidSizeValueException;
 import ua.com.epam.repository.JsonKeysConformity;
+import ua.com.epam.repository.projection.Fieldset;
+import ua.com.epam.service.AuthorService;
 import ua.com.epam.service.BookService;
+import ua.com.epam.service.GenreService;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.util.KeysetPage;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -21,10 +37,38 @@ import java.util.List;
 @RequestMapping("${server.base.url}")
 @Api(value = "Book", description = "Book endpoints", tags = {"Book"})
 public class BookController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @Autowired
     private BookService bookService;
 
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Value("${batch.max-size:50000}")
+    private int maxBatchSize;
+
+    @Value("${search.max-limit:1000}")
+    private int maxSearchLimit;
+
+    private void checkBatchSize(List<?> batch) {
+        if (batch.size() > maxBatchSize) {
+            throw new BatchIsTooLargeException(maxBatchSize);
+        }
+    }
+
+    private void checkSearchLimit(Integer limit) {
+        if (limit <= 0 || limit > maxSearchLimit) {
+            throw new InvalidLimitValueException(maxSearchLimit);
+        }
+    }
+
     private void checkOrdering(String orderType) {
         if (!orderType.equals("asc") && !orderType.equals("desc")) {
             throw new InvalidOrderTypeException(orderType);
@@ -59,7 +103,14 @@ public class BookController {
     public ResponseEntity<?> getBook(
             @ApiParam(required = true, value = "existed Book ID")
             @PathVariable
-                    Long bookId) {
+                    Long bookId,
+
+            @ApiIgnore WebRequest request) {
+        bookService.checkBookExists(bookId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.BOOK))) {
+            return null;
+        }
+
         BookDto response = bookService.findBook(bookId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -91,13 +142,32 @@ public class BookController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiParam(value = "cursor from the X-Next-Cursor header of the previous page, replaces 'page'")
+            @RequestParam(name = "cursor", required = false)
+                    String cursor,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'bookId,bookName,additional.pageCount', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.BOOK);
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
         checkPaginateParams(page, size);
 
-        List<BookDto> response = bookService.findAllBooks(sortBy, orderType, page, size, pagination);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        if (request.checkNotModified(entityVersions.etag(EntityType.BOOK))) {
+            return null;
+        }
+
+        KeysetPage<?> response = bookService.findAllBooks(sortBy, orderType, page, size, pagination, cursor, fieldset);
+        HttpHeaders headers = new HttpHeaders();
+        if (response.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, response.getNextCursor());
+        }
+        return new ResponseEntity<>(response.getContent(), headers, HttpStatus.OK);
     }
 
     @ApiOperation(value = "get all Books of special Genre", tags = {"Book"})
@@ -131,12 +201,24 @@ public class BookController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'bookId,bookName,additional.pageCount', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.BOOK);
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
         checkPaginateParams(page, size);
+        genreService.checkGenreExists(genreId);
+
+        if (request.checkNotModified(entityVersions.etag(EntityType.BOOK, EntityType.GENRE))) {
+            return null;
+        }
 
-        List<BookDto> response = bookService.findBooksInGenre(genreId, sortBy, orderType, page, size, pagination);
+        List<?> response = bookService.findBooksInGenre(genreId, sortBy, orderType, page, size, pagination, fieldset);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -159,11 +241,23 @@ public class BookController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'bookId,bookName,additional.pageCount', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.BOOK);
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
+        authorService.checkAuthorExists(authorId);
+
+        if (request.checkNotModified(entityVersions.etag(EntityType.BOOK, EntityType.AUTHOR))) {
+            return null;
+        }
 
-        List<BookDto> response = bookService.findAuthorBooks(authorId, sortBy, orderType);
+        List<?> response = bookService.findAuthorBooks(authorId, sortBy, orderType, fieldset);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -183,8 +277,21 @@ public class BookController {
 
             @ApiParam(required = true, value = "existed Genre ID")
             @PathVariable
-                    Long genreId) {
-        List<BookDto> response = bookService.findBooksOfAuthorInGenre(authorId, genreId);
+                    Long genreId,
+
+            @ApiParam(value = "comma-separated JSON keys to return, e.g. 'bookId,bookName,additional.pageCount', all of them if omitted")
+            @RequestParam(name = "fields", required = false)
+                    String fields,
+
+            @ApiIgnore WebRequest request) {
+        Fieldset fieldset = Fieldset.parse(fields, JsonKeysConformity.Group.BOOK);
+        authorService.checkAuthorExists(authorId);
+        genreService.checkGenreExists(genreId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.BOOK, EntityType.AUTHOR, EntityType.GENRE))) {
+            return null;
+        }
+
+        List<?> response = bookService.findBooksOfAuthorInGenre(authorId, genreId, fieldset);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -199,8 +306,59 @@ public class BookController {
     public ResponseEntity<?> searchForExistedBooks(
             @ApiParam(value = "Searched query. At least 5 symbols exclude spaces in each word.", required = true)
             @RequestParam(name = "q")
-                    String query) {
-        List<BookDto> response = bookService.searchForExistedBooks(query);
+                    String query,
+
+            @ApiParam(value = "max count of found Books")
+            @RequestParam(name = "limit", defaultValue = "5")
+                    Integer limit) {
+        checkSearchLimit(limit);
+
+        List<BookDto> response = bookService.searchForExistedBooks(query, limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiOperation(value = "full-text search in Book descriptions, return the most relevant first", tags = {"Book"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Array of BookDescriptionHit objects",
+                    responseContainer = "List", response = BookDescriptionHitDto.class),
+            @ApiResponse(code = 400, message = "Something wrong..."),
+            @ApiResponse(code = 503, message = "Search index is being loaded")
+    })
+    @GetMapping(value = "/books/search/description",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> searchBookDescriptions(
+            @ApiParam(value = "Searched words", required = true)
+            @RequestParam(name = "q")
+                    String query,
+
+            @ApiParam(value = "max count of found Books")
+            @RequestParam(name = "limit", defaultValue = "10")
+                    Integer limit) {
+        checkSearchLimit(limit);
+
+        List<BookDescriptionHitDto> response = bookService.searchBookDescriptions(query, limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiOperation(value = "complete book name by its beginning", tags = {"Book"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Array of BookSuggestion objects",
+                    responseContainer = "List", response = BookSuggestionDto.class),
+            @ApiResponse(code = 400, message = "Something wrong...")
+    })
+    @GetMapping(value = "/books/suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> suggestBooks(
+            @ApiParam(value = "beginning of Book name", required = true)
+            @RequestParam(name = "prefix")
+                    String prefix,
+
+            @ApiParam(value = "max count of suggestions")
+            @RequestParam(name = "limit", defaultValue = "10")
+                    Integer limit) {
+        checkSearchLimit(limit);
+
+        List<BookSuggestionDto> response = bookService.suggestBooks(prefix, limit);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -230,6 +388,25 @@ public class BookController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @ApiOperation(value = "create many new Books at once", tags = {"Book"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "status of every Book of the batch, 201 for the created ones",
+                    response = BatchItemStatusDto.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Something wrong...")
+    })
+    @PostMapping(value = "/books/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> addNewBooks(
+            @ApiParam(required = true, value = "Books to add with IDs of their Authors and Genres", name = "Book objects")
+            @RequestBody
+                    List<BookBatchItemDto> batch) {
+        checkBatchSize(batch);
+
+        List<BatchItemStatusDto> response = bookService.addNewBooks(batch);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiOperation(value = "update existed Book", tags = {"Book"})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "updated Book object", response = BookDto.class),
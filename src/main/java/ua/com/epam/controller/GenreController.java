@@ -2,17 +2,28 @@ package ua.com.epam.controller;
 
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
 import ua.com.epam.entity.dto.genre.GenreDto;
 import ua.com.epam.exception.entity.NoSuchJsonKeyException;
+import ua.com.epam.exception.entity.type.BatchIsTooLargeException;
 import ua.com.epam.exception.entity.type.InvalidOrderTypeException;
 import ua.com.epam.exception.entity.type.InvalidPageValueException;
 import ua.com.epam.exception.entity.type.InvalidSizeValueException;
 import ua.com.epam.repository.JsonKeysConformity;
+import ua.com.epam.service.AuthorService;
+import ua.com.epam.service.BookService;
 import ua.com.epam.service.GenreService;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.util.KeysetPage;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -21,10 +32,29 @@ import java.util.List;
 @RequestMapping("${server.base.url}")
 @Api(value = "Genre", description = "Genre endpoints", tags = {"Genre"})
 public class GenreController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @Autowired
     private GenreService genreService;
 
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Value("${batch.max-size:50000}")
+    private int maxBatchSize;
+
+    private void checkBatchSize(List<?> batch) {
+        if (batch.size() > maxBatchSize) {
+            throw new BatchIsTooLargeException(maxBatchSize);
+        }
+    }
+
     private void checkOrdering(String orderType) {
         if (!orderType.equals("asc") && !orderType.equals("desc")) {
             throw new InvalidOrderTypeException(orderType);
@@ -57,7 +87,14 @@ public class GenreController {
     public ResponseEntity<?> getGenre(
             @ApiParam(required = true, value = "existed Genre ID")
             @PathVariable
-                    Long genreId) {
+                    Long genreId,
+
+            @ApiIgnore WebRequest request) {
+        genreService.checkGenreExists(genreId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.GENRE))) {
+            return null;
+        }
+
         GenreDto response = genreService.findGenre(genreId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -73,7 +110,14 @@ public class GenreController {
     public ResponseEntity<?> getBookGenre(
             @ApiParam(required = true, value = "existed Book ID")
             @PathVariable
-                    Long bookId) {
+                    Long bookId,
+
+            @ApiIgnore WebRequest request) {
+        bookService.checkBookExists(bookId);
+        if (request.checkNotModified(entityVersions.etag(EntityType.GENRE, EntityType.BOOK))) {
+            return null;
+        }
+
         GenreDto response = genreService.findGenreOfBook(bookId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -105,13 +149,27 @@ public class GenreController {
 
             @ApiParam(value = "count of objects per one page")
             @RequestParam(name = "size", defaultValue = "10")
-                    Integer size) {
+                    Integer size,
+
+            @ApiParam(value = "cursor from the X-Next-Cursor header of the previous page, replaces 'page'")
+            @RequestParam(name = "cursor", required = false)
+                    String cursor,
+
+            @ApiIgnore WebRequest request) {
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
         checkPaginateParams(page, size);
 
-        List<GenreDto> response = genreService.findAllGenres(sortBy, orderType, page, size, pagination);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        if (request.checkNotModified(entityVersions.etag(EntityType.GENRE))) {
+            return null;
+        }
+
+        KeysetPage<GenreDto> response = genreService.findAllGenres(sortBy, orderType, page, size, pagination, cursor);
+        HttpHeaders headers = new HttpHeaders();
+        if (response.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, response.getNextCursor());
+        }
+        return new ResponseEntity<>(response.getContent(), headers, HttpStatus.OK);
     }
 
     @ApiOperation(value = "search for genre by it genre name", tags = "Genre")
@@ -124,8 +182,12 @@ public class GenreController {
     public ResponseEntity<?> searchForExistedGenres(
             @ApiParam(value = "Searched query. At least 3 symbols exclude spaces in each word.", required = true)
             @RequestParam(name = "query")
-                    String query) {
-        List<GenreDto> response = genreService.searchForExistedGenres(query);
+                    String query,
+
+            @ApiParam(value = "tolerate typos, closest Genres go first")
+            @RequestParam(name = "fuzzy", defaultValue = "false")
+                    Boolean fuzzy) {
+        List<GenreDto> response = genreService.searchForExistedGenres(query, fuzzy);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -148,9 +210,16 @@ public class GenreController {
 
             @ApiParam(allowableValues = "asc,desc", value = "sorting order")
             @RequestParam(name = "orderType", defaultValue = "asc")
-                    String orderType) {
+                    String orderType,
+
+            @ApiIgnore WebRequest request) {
         checkSortByKeyInGroup(sortBy);
         checkOrdering(orderType);
+        authorService.checkAuthorExists(authorId);
+
+        if (request.checkNotModified(entityVersions.etag(EntityType.GENRE, EntityType.BOOK, EntityType.AUTHOR))) {
+            return null;
+        }
 
         List<GenreDto> response = genreService.findAllGenresOfAuthor(authorId, sortBy, orderType);
         return new ResponseEntity<>(response, HttpStatus.OK);
@@ -174,6 +243,25 @@ public class GenreController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @ApiOperation(value = "create many new Genres at once", tags = {"Genre"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "status of every Genre of the batch, 201 for the created ones",
+                    response = BatchItemStatusDto.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Something wrong...")
+    })
+    @PostMapping(value = "/genres/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> addNewGenres(
+            @ApiParam(required = true, value = "Genres to add", name = "Genre objects")
+            @RequestBody
+                    List<GenreDto> batch) {
+        checkBatchSize(batch);
+
+        List<BatchItemStatusDto> response = genreService.addNewGenres(batch);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiOperation(value = "update existed Genre", tags = {"Genre"})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "updated Genre object", response = GenreDto.class),
@@ -14,7 +14,8 @@ import java.io.Serializable;
 public class Genre implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "genre_seq")
+    @SequenceGenerator(name = "genre_seq", sequenceName = "genre_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "genre_id", unique = true, nullable = false)
@@ -0,0 +1,24 @@
+package ua.com.epam.entity.dto.author;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+import ua.com.epam.entity.dto.author.nested.NameDto;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "AuthorDescriptionHit")
+public class AuthorDescriptionHitDto {
+
+    @ApiModelProperty(required = true)
+    private Long authorId;
+
+    @ApiModelProperty(required = true, position = 1)
+    private NameDto authorName;
+
+    @ApiModelProperty(required = true, position = 2, value = "BM25 relevance of the description, the higher the better")
+    private Double score;
+}
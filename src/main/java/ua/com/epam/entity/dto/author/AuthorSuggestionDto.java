@@ -0,0 +1,21 @@
+package ua.com.epam.entity.dto.author;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+import ua.com.epam.entity.dto.author.nested.NameDto;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "AuthorSuggestion")
+public class AuthorSuggestionDto {
+
+    @ApiModelProperty(required = true)
+    private Long authorId;
+
+    @ApiModelProperty(required = true, position = 1)
+    private NameDto authorName;
+}
@@ -0,0 +1,29 @@
+package ua.com.epam.entity.dto.batch;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "BatchItemStatus")
+public class BatchItemStatusDto {
+
+    @ApiModelProperty(required = true, notes = "position of the item in the batch, from 0")
+    private int index;
+
+    @ApiModelProperty(position = 1, notes = "ID of the item, if it has one")
+    private Long id;
+
+    @ApiModelProperty(required = true, position = 2)
+    private int statusCode;
+
+    @ApiModelProperty(required = true, position = 3)
+    private String error;
+
+    @ApiModelProperty(position = 4, notes = "why the item was not created")
+    private String errorMessage;
+}
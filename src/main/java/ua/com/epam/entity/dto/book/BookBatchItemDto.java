@@ -0,0 +1,34 @@
+package ua.com.epam.entity.dto.book;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+import ua.com.epam.service.util.deserializer.CustomLongDeserializer;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "BookBatchItem")
+public class BookBatchItemDto {
+
+    @ApiModelProperty(required = true)
+    @JsonDeserialize(using = CustomLongDeserializer.class)
+    @NotNull(message = "Value 'authorId' is required!")
+    private Long authorId;
+
+    @ApiModelProperty(required = true, position = 1)
+    @JsonDeserialize(using = CustomLongDeserializer.class)
+    @NotNull(message = "Value 'genreId' is required!")
+    private Long genreId;
+
+    @ApiModelProperty(required = true, position = 2)
+    @NotNull(message = "Value 'book' is required!")
+    @Valid
+    private BookDto book;
+}
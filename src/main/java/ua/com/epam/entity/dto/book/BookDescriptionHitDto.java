@@ -0,0 +1,23 @@
+package ua.com.epam.entity.dto.book;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "BookDescriptionHit")
+public class BookDescriptionHitDto {
+
+    @ApiModelProperty(required = true)
+    private Long bookId;
+
+    @ApiModelProperty(required = true, position = 1)
+    private String bookName;
+
+    @ApiModelProperty(required = true, position = 2, value = "BM25 relevance of the description, the higher the better")
+    private Double score;
+}
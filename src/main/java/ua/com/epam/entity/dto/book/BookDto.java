@@ -45,7 +45,8 @@ public class BookDto {
 
     @ApiModelProperty(position = 4)
     @Valid
-    private AdditionalDto additional;
+    @NotNull(message = "Value 'additional' is required!")
+    private AdditionalDto additional = new AdditionalDto();
 
     @ApiModelProperty(position = 5)
     @JsonDeserialize(using = CustomIntegerDeserializer.class)
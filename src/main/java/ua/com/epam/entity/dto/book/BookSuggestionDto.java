@@ -0,0 +1,20 @@
+package ua.com.epam.entity.dto.book;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ApiModel(value = "BookSuggestion")
+public class BookSuggestionDto {
+
+    @ApiModelProperty(required = true)
+    private Long bookId;
+
+    @ApiModelProperty(required = true, position = 1)
+    private String bookName;
+}
@@ -8,6 +8,7 @@ import ua.com.epam.service.util.deserializer.CustomIntegerDeserializer;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.PositiveOrZero;
 
 @Setter
@@ -26,5 +27,6 @@ public class AdditionalDto {
 
     @ApiModelProperty(position = 1)
     @Valid
+    @NotNull(message = "Value 'size' is required!")
     private SizeDto size = new SizeDto();
 }
@@ -0,0 +1,4 @@
+package ua.com.epam.exception.entity;
+
+public class DatasetIsRebuildingException extends RuntimeException {
+}
@@ -0,0 +1,4 @@
+package ua.com.epam.exception.entity.search;
+
+public class SearchIndexIsLoadingException extends RuntimeException {
+}
@@ -0,0 +1,12 @@
+package ua.com.epam.exception.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class InvalidCursorException extends RuntimeException {
+    private String cursor;
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import ua.com.epam.exception.entity.DatasetIsRebuildingException;
 import ua.com.epam.exception.entity.NoSuchJsonKeyException;
 import ua.com.epam.exception.entity.author.AuthorAlreadyExistsException;
 import ua.com.epam.exception.entity.author.AuthorNotFoundException;
@@ -25,6 +26,7 @@ import ua.com.epam.exception.entity.genre.BooksInGenreArePresentException;
 import ua.com.epam.exception.entity.genre.GenreAlreadyExistsException;
 import ua.com.epam.exception.entity.genre.GenreNameAlreadyExistsException;
 import ua.com.epam.exception.entity.genre.GenreNotFoundException;
+import ua.com.epam.exception.entity.search.SearchIndexIsLoadingException;
 import ua.com.epam.exception.entity.search.SearchKeywordsIsTooShortException;
 import ua.com.epam.exception.entity.search.SearchQueryIsBlankException;
 import ua.com.epam.exception.entity.search.SearchQueryIsTooShortException;
@@ -134,6 +136,19 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 HttpStatus.BAD_REQUEST);
     }
 
+    @ResponseBody
+    @ExceptionHandler(value = InvalidLimitValueException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidLimitValue(InvalidLimitValueException ilve) {
+        String message = "Value of 'limit' parameter must be greater than zero and not greater than '%d'!";
+        return new ResponseEntity<>(
+                new ExceptionResponse(
+                        generateDate(),
+                        HttpStatus.BAD_REQUEST.value(),
+                        HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                        String.format(message, ilve.getMaxLimit())),
+                HttpStatus.BAD_REQUEST);
+    }
+
     @ResponseBody
     @ExceptionHandler(value = InvalidOrderTypeException.class)
     public ResponseEntity<ExceptionResponse> handleInvalidOrderType(InvalidOrderTypeException iote) {
@@ -147,6 +162,32 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 HttpStatus.BAD_REQUEST);
     }
 
+    @ResponseBody
+    @ExceptionHandler(value = InvalidCursorException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidCursor(InvalidCursorException ice) {
+        String message = "Cursor '%s' is invalid or was issued for another sorting! Start again without a cursor!";
+        return new ResponseEntity<>(
+                new ExceptionResponse(
+                        generateDate(),
+                        HttpStatus.BAD_REQUEST.value(),
+                        HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                        String.format(message, ice.getCursor())),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = BatchIsTooLargeException.class)
+    public ResponseEntity<ExceptionResponse> handleBatchIsTooLarge(BatchIsTooLargeException bitle) {
+        String message = "Batch can not hold more than '%d' items! Split it into smaller ones!";
+        return new ResponseEntity<>(
+                new ExceptionResponse(
+                        generateDate(),
+                        HttpStatus.BAD_REQUEST.value(),
+                        HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                        String.format(message, bitle.getMaxSize())),
+                HttpStatus.BAD_REQUEST);
+    }
+
     @ResponseBody
     @ExceptionHandler(value = AuthorAlreadyExistsException.class)
     public ResponseEntity<ExceptionResponse> handleAuthorConflict() {
@@ -262,6 +303,30 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
                 HttpStatus.BAD_REQUEST);
     }
 
+    @ResponseBody
+    @ExceptionHandler(value = DatasetIsRebuildingException.class)
+    public ResponseEntity<ExceptionResponse> handleDatasetIsRebuilding() {
+        return new ResponseEntity<>(
+                new ExceptionResponse(
+                        generateDate(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                        "Library data is being rebuilt, only reading is allowed now! Try again later!"),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = SearchIndexIsLoadingException.class)
+    public ResponseEntity<ExceptionResponse> handleSearchIndexIsLoading() {
+        return new ResponseEntity<>(
+                new ExceptionResponse(
+                        generateDate(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                        "Search index is being loaded! Try again later!"),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @Override
     @ResponseBody
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatus status, WebRequest request) {
@@ -0,0 +1,34 @@
+package ua.com.epam.ingestion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identifies the dataset a given {@link IngestionConfig} produces. Only settings that
+ * change the generated rows take part: threads count and batch sizes do not.
+ */
+public final class DatasetFingerprint {
+
+    private DatasetFingerprint() {
+    }
+
+    public static String of(IngestionConfig config) {
+        String description = "generator=" + SeedGenerator.VERSION
+                + ";seed=" + config.getSeed()
+                + ";authors=" + config.getAuthorsCount() + "@" + config.getAuthorIds()
+                + ";genres=" + config.getGenresCount() + "@" + config.getGenreIds()
+                + ";books=" + config.getBooksCount() + "@" + config.getBookIds();
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ua.com.epam.ingestion;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once the seed dataset can be read in full: right after start-up when the
+ * persisted database was reused, or when a background rebuild has finished.
+ * In-memory structures built from the tables should (re)load on this event.
+ */
+public class DatasetReadyEvent extends ApplicationEvent {
+    private final boolean rebuilt;
+
+    public DatasetReadyEvent(Object source, boolean rebuilt) {
+        super(source);
+        this.rebuilt = rebuilt;
+    }
+
+    public boolean isRebuilt() {
+        return rebuilt;
+    }
+}
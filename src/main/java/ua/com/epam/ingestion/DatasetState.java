@@ -0,0 +1,31 @@
+package ua.com.epam.ingestion;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells whether the seed dataset is usable. While it is being rebuilt in the
+ * background the API stays available for reads, but rejects writes.
+ */
+@Component
+public class DatasetState {
+
+    public enum Status {
+        READY,
+        REBUILDING,
+        FAILED
+    }
+
+    private volatile Status status = Status.READY;
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isReadOnly() {
+        return status != Status.READY;
+    }
+
+    void setStatus(Status status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,70 @@
+package ua.com.epam.ingestion;
+
+/**
+ * Hands out distinct IDs from an {@link IdRange} in a shuffled order without storing them.
+ * <p>
+ * The n-th ID is the image of n under a keyed Feistel permutation of the smallest
+ * even-bit domain covering the range; values falling outside of the range are walked
+ * through the permutation again until they land inside (at most 4x expansion, so a
+ * couple of rounds on average). Every index therefore maps to a unique ID in O(1)
+ * time and memory, and the same key always gives the same sequence.
+ */
+public class IdAllocator {
+    private static final int ROUNDS = 4;
+
+    private final IdRange range;
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public IdAllocator(IdRange range, long key) {
+        this.range = range;
+        this.size = range.size();
+        if (size > 1L << 62) {
+            throw new IllegalArgumentException("ID range " + range + " is too wide");
+        }
+
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        long k = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            k = Seeds.mix(k + 0x9E3779B97F4A7C15L);
+            roundKeys[i] = k;
+        }
+    }
+
+    /**
+     * @param index position in the sequence, {@code 0 <= index < range size}
+     * @return ID of the given position, unique among all positions
+     */
+    public long idAt(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of ID range " + range);
+        }
+
+        long value = index;
+        do {
+            value = permute(value);
+        } while (value >= size);
+
+        return range.getMin() + value;
+    }
+
+    public long capacity() {
+        return size;
+    }
+
+    private long permute(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (Seeds.mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+}
@@ -0,0 +1,39 @@
+package ua.com.epam.ingestion;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Inclusive range of business IDs, written as {@code min-max} in properties.
+ */
+@Getter
+@EqualsAndHashCode
+public class IdRange {
+    private final long min;
+    private final long max;
+
+    public IdRange(long min, long max) {
+        if (min < 0 || max < min || max - min == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid ID range: " + min + "-" + max);
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    public static IdRange parse(String value) {
+        String[] bounds = value.trim().replace("_", "").split("\\s*-\\s*");
+        if (bounds.length != 2) {
+            throw new IllegalArgumentException("ID range must look like 'min-max', but was '" + value + "'");
+        }
+        return new IdRange(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]));
+    }
+
+    public long size() {
+        return max - min + 1;
+    }
+
+    @Override
+    public String toString() {
+        return min + "-" + max;
+    }
+}
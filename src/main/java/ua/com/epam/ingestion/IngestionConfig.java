@@ -0,0 +1,97 @@
+package ua.com.epam.ingestion;
+
+import lombok.Getter;
+
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Settings of the random seed data generator. Every value can be overridden by a
+ * property (JVM system property when running {@code DataIngestion} directly).
+ */
+@Getter
+public class IngestionConfig {
+    public static final String AUTHORS_COUNT = "ingestion.authors.count";
+    public static final String GENRES_COUNT = "ingestion.genres.count";
+    public static final String BOOKS_COUNT = "ingestion.books.count";
+    public static final String AUTHORS_ID_RANGE = "ingestion.authors.id-range";
+    public static final String GENRES_ID_RANGE = "ingestion.genres.id-range";
+    public static final String BOOKS_ID_RANGE = "ingestion.books.id-range";
+    public static final String SEED = "ingestion.seed";
+    public static final String THREADS = "ingestion.threads";
+    public static final String ROWS_PER_STATEMENT = "ingestion.script.rows-per-statement";
+    public static final String BATCH_SIZE = "ingestion.jdbc.batch-size";
+    public static final String COMMIT_CHUNK = "ingestion.jdbc.commit-chunk";
+
+    // the original generator drew IDs from 1..9998; bigger datasets get ten IDs per row to choose from
+    private static final long DEFAULT_MAX_ID = 9998L;
+
+    private final int authorsCount;
+    private final int genresCount;
+    private final int booksCount;
+    private final IdRange authorIds;
+    private final IdRange genreIds;
+    private final IdRange bookIds;
+    private final long seed;
+    private final int threads;
+    private final int rowsPerStatement;
+    private final int batchSize;
+    private final int commitChunk;
+
+    private IngestionConfig(Function<String, String> properties) {
+        this.authorsCount = positiveInt(properties, AUTHORS_COUNT, 50);
+        this.genresCount = positiveInt(properties, GENRES_COUNT, 15);
+        this.booksCount = positiveInt(properties, BOOKS_COUNT, 200);
+        this.authorIds = idRange(properties, AUTHORS_ID_RANGE, authorsCount);
+        this.genreIds = idRange(properties, GENRES_ID_RANGE, genresCount);
+        this.bookIds = idRange(properties, BOOKS_ID_RANGE, booksCount);
+        this.seed = seed(properties);
+        this.threads = positiveInt(properties, THREADS, Runtime.getRuntime().availableProcessors());
+        this.rowsPerStatement = positiveInt(properties, ROWS_PER_STATEMENT, 1000);
+        this.batchSize = positiveInt(properties, BATCH_SIZE, 1000);
+        this.commitChunk = positiveInt(properties, COMMIT_CHUNK, 50_000);
+    }
+
+    public static IngestionConfig from(Function<String, String> properties) {
+        return new IngestionConfig(properties);
+    }
+
+    public static IngestionConfig fromSystemProperties() {
+        return from(System::getProperty);
+    }
+
+    private static int positiveInt(Function<String, String> properties, String key, int defaultValue) {
+        String value = properties.apply(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+
+        int parsed = Integer.parseInt(value.trim().replace("_", ""));
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("Property '" + key + "' must be positive, but was " + parsed);
+        }
+        return parsed;
+    }
+
+    // without a configured seed every run produces a new dataset, like it always did
+    private static long seed(Function<String, String> properties) {
+        String value = properties.apply(SEED);
+        if (value == null || value.trim().isEmpty()) {
+            return new Random().nextLong();
+        }
+        return Long.parseLong(value.trim().replace("_", ""));
+    }
+
+    private static IdRange idRange(Function<String, String> properties, String key, int count) {
+        String value = properties.apply(key);
+        IdRange range = value == null || value.trim().isEmpty()
+                ? new IdRange(1, Math.max(DEFAULT_MAX_ID, count * 10L))
+                : IdRange.parse(value);
+
+        if (range.size() < count) {
+            throw new IllegalArgumentException("Property '" + key + "' = " + range + " has only " + range.size()
+                    + " IDs, but " + count + " rows are requested");
+        }
+        return range;
+    }
+}
@@ -0,0 +1,156 @@
+package ua.com.epam.ingestion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Inserts rows straight into the database with one prepared statement per table.
+ * Rows are sent in JDBC batches of {@code batchSize} and committed every
+ * {@code commitChunk} rows, so the transaction log never has to hold a whole table.
+ * Once a table is loaded its id sequence is restarted after the loaded rows.
+ */
+public class JdbcBatchSink implements RowSink {
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchSink.class);
+
+    private final Connection connection;
+    private final int batchSize;
+    private final int commitChunk;
+    private final boolean autoCommit;
+
+    private SeedTable table;
+    private PreparedStatement statement;
+    private int batched;
+    private int uncommitted;
+    private long rows;
+    private long totalRows;
+    private long started;
+    private long jdbcNanos;
+
+    public JdbcBatchSink(Connection connection, int batchSize, int commitChunk) throws IOException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.commitChunk = commitChunk;
+        try {
+            this.autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new IOException("Can't start bulk load transaction", e);
+        }
+    }
+
+    @Override
+    public void begin(SeedTable table) throws IOException {
+        String placeholders = String.join(", ", Collections.nCopies(table.getColumns().length, "?"));
+        String sql = "insert into " + table.getTableName() + "(" + table.columnList() + ") values (" + placeholders + ")";
+
+        try {
+            this.statement = connection.prepareStatement(sql);
+        } catch (SQLException e) {
+            throw new IOException("Can't prepare insert into " + table.getTableName(), e);
+        }
+        this.table = table;
+        this.rows = 0;
+        this.jdbcNanos = 0;
+        this.started = System.nanoTime();
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+
+            if (++batched == batchSize) {
+                flush();
+            }
+            if (++uncommitted >= commitChunk) {
+                flush();
+                commit();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Can't insert " + Arrays.toString(values) + " into " + table.getTableName(), e);
+        }
+    }
+
+    @Override
+    public void end(SeedTable table) throws IOException {
+        try {
+            flush();
+            commit();
+            statement.close();
+            restartSequence(table);
+        } catch (SQLException e) {
+            throw new IOException("Can't finish loading " + table.getTableName(), e);
+        }
+
+        // the total time includes generating the rows, the JDBC time is spent on the database side only
+        double seconds = Math.max(System.nanoTime() - started, 1) / 1e9;
+        double jdbcSeconds = Math.max(jdbcNanos, 1) / 1e9;
+        log.info("Loaded {} rows into '{}' in {} s ({} rows/s), JDBC {} s ({} rows/s)",
+                rows, table.getTableName(), String.format("%.2f", seconds), Math.round(rows / seconds),
+                String.format("%.2f", jdbcSeconds), Math.round(rows / jdbcSeconds));
+
+        totalRows += rows;
+        this.statement = null;
+        this.table = null;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (statement != null) {
+                statement.close();
+                connection.rollback();
+            }
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            throw new IOException("Can't close bulk load transaction", e);
+        }
+    }
+
+    // the generated ids are 1..rows, new entities continue from there
+    private void restartSequence(SeedTable table) throws SQLException {
+        long next = rows + 1;
+        try (Statement sequence = connection.createStatement()) {
+            sequence.executeUpdate("alter sequence " + table.sequenceName() + " restart with " + next);
+        } catch (SQLException e) {
+            // databases without sequences (MySQL) get them emulated by Hibernate as one-row tables
+            connection.rollback();
+            try (Statement sequence = connection.createStatement()) {
+                sequence.executeUpdate("update " + table.sequenceName() + " set next_val = " + next);
+            }
+        }
+        commit();
+    }
+
+    private void flush() throws SQLException {
+        if (batched > 0) {
+            long start = System.nanoTime();
+            statement.executeBatch();
+            jdbcNanos += System.nanoTime() - start;
+            batched = 0;
+        }
+    }
+
+    private void commit() throws SQLException {
+        long start = System.nanoTime();
+        connection.commit();
+        jdbcNanos += System.nanoTime() - start;
+        uncommitted = 0;
+    }
+}
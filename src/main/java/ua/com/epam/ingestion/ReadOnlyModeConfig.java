@@ -0,0 +1,18 @@
+package ua.com.epam.ingestion;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ReadOnlyModeConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ReadOnlyModeInterceptor readOnlyModeInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readOnlyModeInterceptor);
+    }
+}
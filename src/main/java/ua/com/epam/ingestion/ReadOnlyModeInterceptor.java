@@ -0,0 +1,31 @@
+package ua.com.epam.ingestion;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import ua.com.epam.exception.entity.DatasetIsRebuildingException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Rejects modifying requests while the seed dataset is being rebuilt.
+ */
+@Component
+public class ReadOnlyModeInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private DatasetState datasetState;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        boolean reading = method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS;
+
+        if (!reading && datasetState.isReadOnly()) {
+            throw new DatasetIsRebuildingException();
+        }
+        return true;
+    }
+}
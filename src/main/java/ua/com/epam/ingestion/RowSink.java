@@ -0,0 +1,18 @@
+package ua.com.epam.ingestion;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Destination for generated seed rows. Rows of one table are always written
+ * between {@link #begin(SeedTable)} and {@link #end(SeedTable)}, and a sink must
+ * not keep them after {@link #row(Object[])} returns.
+ */
+public interface RowSink extends Closeable {
+
+    void begin(SeedTable table) throws IOException;
+
+    void row(Object[] values) throws IOException;
+
+    void end(SeedTable table) throws IOException;
+}
@@ -0,0 +1,146 @@
+package ua.com.epam.ingestion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.*;
+
+/**
+ * Makes sure the database holds the seed dataset described by the {@code ingestion.*}
+ * properties.
+ * <p>
+ * The {@link DatasetFingerprint} of the loaded dataset is kept in the database itself,
+ * so a persisted database (or H2 file under {@code spring.datasource.dbpath}) that was
+ * filled with the same settings is reused as is and start-up costs nothing. Otherwise
+ * the tables are rebuilt through {@link JdbcBatchSink} in the background once the
+ * application is up, and the API stays read-only until it is done.
+ */
+@Component
+public class SeedDataLoader {
+    private static final Logger log = LoggerFactory.getLogger(SeedDataLoader.class);
+
+    private static final String METADATA_TABLE = "seed_metadata";
+
+    @Autowired
+    private DataSource dataSource;
+
+    // not used directly: makes sure Hibernate has already created the tables
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private DatasetState datasetState;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${ingestion.on-startup:true}")
+    private boolean loadOnStartup;
+
+    private IngestionConfig config;
+    private String fingerprint;
+
+    @PostConstruct
+    public void checkDataset() throws SQLException {
+        if (!loadOnStartup) {
+            return;
+        }
+
+        config = IngestionConfig.from(environment::getProperty);
+        fingerprint = DatasetFingerprint.of(config);
+
+        if (fingerprint.equals(readStoredFingerprint())) {
+            log.info("Seed data is up to date (fingerprint {}), reusing the persisted database", fingerprint);
+        } else {
+            log.info("Seed data is missing or outdated, it will be rebuilt in the background; "
+                    + "the API is read-only until then");
+            datasetState.setStatus(DatasetState.Status.REBUILDING);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (datasetState.getStatus() == DatasetState.Status.REBUILDING) {
+            Thread rebuild = new Thread(this::rebuild, "seed-rebuild");
+            rebuild.setDaemon(true);
+            rebuild.start();
+        } else {
+            eventPublisher.publishEvent(new DatasetReadyEvent(this, false));
+        }
+    }
+
+    private void rebuild() {
+        log.info("Rebuilding seed data: {} authors, {} genres, {} books, seed {}",
+                config.getAuthorsCount(), config.getGenresCount(), config.getBooksCount(), config.getSeed());
+
+        long start = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("delete from " + METADATA_TABLE);
+                // books first, they refer to authors and genres
+                SeedTable[] tables = SeedTable.values();
+                for (int i = tables.length - 1; i >= 0; i--) {
+                    clear(statement, tables[i]);
+                }
+            }
+
+            try (JdbcBatchSink sink = new JdbcBatchSink(connection, config.getBatchSize(), config.getCommitChunk())) {
+                new SeedGenerator(config).generate(sink);
+                rows = sink.getTotalRows();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "insert into " + METADATA_TABLE + "(fingerprint, loaded_at) values (?, ?)")) {
+                statement.setString(1, fingerprint);
+                statement.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                statement.executeUpdate();
+            }
+        } catch (Exception e) {
+            log.error("Seed data rebuild failed, the API stays read-only", e);
+            datasetState.setStatus(DatasetState.Status.FAILED);
+            return;
+        }
+
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        log.info("Seed data rebuilt: {} rows in {} s ({} rows/s including generation)",
+                rows, String.format("%.2f", seconds), Math.round(rows / seconds));
+
+        datasetState.setStatus(DatasetState.Status.READY);
+        eventPublisher.publishEvent(new DatasetReadyEvent(this, true));
+    }
+
+    private void clear(Statement statement, SeedTable table) throws SQLException {
+        try {
+            statement.executeUpdate("truncate table " + table.getTableName());
+        } catch (SQLException e) {
+            // databases that refuse to truncate a table referenced by a foreign key (MySQL) get it emptied row by row
+            statement.executeUpdate("delete from " + table.getTableName());
+        }
+    }
+
+    private String readStoredFingerprint() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("create table if not exists " + METADATA_TABLE
+                    + " (fingerprint varchar(64) not null, loaded_at timestamp)");
+
+            try (ResultSet resultSet = statement.executeQuery("select fingerprint from " + METADATA_TABLE)) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package ua.com.epam.ingestion;
+
+import com.github.javafaker.Faker;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Generates random authors, genres and books and hands every row to a {@link RowSink}
+ * as soon as it is built, so the memory used does not depend on the books count.
+ * <p>
+ * Every row is a pure function of the configured seed, its table and its position:
+ * the generating thread re-seeds its own {@link Faker} before each row. With more than
+ * one thread, rows are built in chunks on a {@link ForkJoinPool} and written back in
+ * their original order, so the same seed gives the same dataset whatever the thread count.
+ */
+public class SeedGenerator {
+    // bump whenever generated rows or seeded tables change, so persisted datasets get rebuilt
+    public static final int VERSION = 2;
+
+    private static final String[] NATIONALITIES = {"Albanian", "American", "Australian", "Austrian", "Belgian",
+            "British", "Bulgarian", "Canadian", "Chinese", "Czech", "Dutch", "Egyptian", "French", "German", "Greek",
+            "Indian", "Irish", "Lithuanian", "Malaysian", "Mexican", "Moldovan", "New Zealander", "Romanian",
+            "Scottish", "Spanish", "Swedish", "Turkish", "Ukrainian", "Welsh", "Syrian", "Slovenian", "Slovakian",
+            "Polish", "Peruvian", "Namibian", "Nepalese", "Afghan", "Andorran", "Angolan", "Armenian", "Bahamian",
+            "Cambodian", "Central African", "Colombian", "Cuban", "Equatorial Guinean", "Icelander", "Indonesian",
+            "Kittian and Nevisian", "Liechtensteiner", "Lithuanian", "Luxembourger", "Maldivan", "Mongolian"};
+
+    private static final String[] LANGUAGES = {"ukrainian", "german", "russian", "polish", "spanish", "belorussian",
+            "chinese", "english", "portuguese", "croatian", "french", "arabic", "armenian", "urdu", "farsi"};
+
+    private static final long BIRTH_FROM = LocalDate.of(1920, 1, 1).toEpochDay();
+    private static final long BIRTH_TO = LocalDate.of(1999, 12, 31).toEpochDay();
+
+    // Faker knows only a few dozen genres; stop asking for new ones after this many repeats in a row
+    private static final int GENRE_POOL_MISSES = 500;
+    private static final int CHUNK_ROWS = 2048;
+    // row streams of a table are indexed from 0, the whole-table streams below are reserved apart from them
+    private static final long ID_SEQUENCE_STREAM = -1;
+    private static final long GENRE_NAME_POOL_STREAM = -2;
+    // chunks that may be generated ahead of the one being written, per thread
+    private static final int CHUNKS_AHEAD = 2;
+
+    private final IngestionConfig config;
+    private final ThreadLocal<RowContext> contexts = ThreadLocal.withInitial(RowContext::new);
+
+    public SeedGenerator(IngestionConfig config) {
+        this.config = config;
+    }
+
+    public void generate(RowSink sink) throws IOException {
+        long seed = config.getSeed();
+        IdAllocator authorIds = new IdAllocator(config.getAuthorIds(),
+                Seeds.derive(seed, SeedTable.AUTHOR.ordinal(), ID_SEQUENCE_STREAM));
+        IdAllocator genreIds = new IdAllocator(config.getGenreIds(),
+                Seeds.derive(seed, SeedTable.GENRE.ordinal(), ID_SEQUENCE_STREAM));
+        IdAllocator bookIds = new IdAllocator(config.getBookIds(),
+                Seeds.derive(seed, SeedTable.BOOK.ordinal(), ID_SEQUENCE_STREAM));
+        List<String> genreNamePool = genreNamePool(config.getGenresCount());
+
+        int authorsCount = config.getAuthorsCount();
+        int genresCount = config.getGenresCount();
+
+        ForkJoinPool pool = config.getThreads() > 1 ? new ForkJoinPool(config.getThreads()) : null;
+        try {
+            write(sink, pool, SeedTable.AUTHOR, authorsCount,
+                    (row, i) -> authorRow(row, i + 1L, authorIds.idAt(i)));
+
+            write(sink, pool, SeedTable.GENRE, genresCount,
+                    (row, i) -> new Object[]{i + 1L, genreIds.idAt(i), genreName(genreNamePool, i), row.f.lorem().paragraph()});
+
+            // books refer to the authors and genres generated above by their positions in the ID sequences
+            write(sink, pool, SeedTable.BOOK, config.getBooksCount(),
+                    (row, i) -> bookRow(row, i + 1L, bookIds.idAt(i),
+                            authorIds.idAt(row.random.nextInt(authorsCount)),
+                            genreIds.idAt(row.random.nextInt(genresCount))));
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private void write(RowSink sink, ForkJoinPool pool, SeedTable table, int count, RowBuilder builder)
+            throws IOException {
+        sink.begin(table);
+
+        if (pool == null) {
+            RowContext row = contexts.get();
+            for (int i = 0; i < count; i++) {
+                sink.row(build(row, table, i, builder));
+            }
+        } else {
+            Deque<ForkJoinTask<Object[][]>> ahead = new ArrayDeque<>();
+            int maxAhead = pool.getParallelism() * CHUNKS_AHEAD;
+            int next = 0;
+
+            while (next < count || !ahead.isEmpty()) {
+                while (next < count && ahead.size() < maxAhead) {
+                    int from = next;
+                    int to = (int) Math.min(count, (long) next + CHUNK_ROWS);
+                    ahead.add(pool.submit(() -> buildChunk(table, from, to, builder)));
+                    next = to;
+                }
+
+                for (Object[] values : ahead.poll().join()) {
+                    sink.row(values);
+                }
+            }
+        }
+
+        sink.end(table);
+    }
+
+    private Object[][] buildChunk(SeedTable table, int from, int to, RowBuilder builder) {
+        RowContext row = contexts.get();
+        Object[][] chunk = new Object[to - from][];
+        for (int i = from; i < to; i++) {
+            chunk[i - from] = build(row, table, i, builder);
+        }
+        return chunk;
+    }
+
+    private Object[] build(RowContext row, SeedTable table, int index, RowBuilder builder) {
+        row.random.setSeed(Seeds.derive(config.getSeed(), table.ordinal(), index));
+        return builder.build(row, index);
+    }
+
+    private Object[] authorRow(RowContext row, long id, long authorId) {
+        Faker f = row.f;
+        return new Object[]{
+                id,
+                authorId,
+                f.name().firstName(),
+                f.name().lastName(),
+                f.address().city(),
+                f.address().country(),
+                LocalDate.ofEpochDay(BIRTH_FROM + (long) (row.random.nextDouble() * (BIRTH_TO - BIRTH_FROM + 1))),
+                f.lorem().paragraph(),
+                NATIONALITIES[row.random.nextInt(NATIONALITIES.length)]};
+    }
+
+    private Object[] bookRow(RowContext row, long id, long bookId, long authorId, long genreId) {
+        Faker f = row.f;
+        return new Object[]{
+                id,
+                bookId,
+                generateBookName(row),
+                LANGUAGES[row.random.nextInt(LANGUAGES.length)],
+                f.lorem().paragraph(),
+                f.number().randomDouble(1, 5, 40),
+                f.number().randomDouble(1, 1, 5),
+                f.number().randomDouble(1, 5, 40),
+                f.number().numberBetween(10, 1000),
+                f.number().numberBetween(1970, 2019),
+                authorId,
+                genreId};
+    }
+
+    private List<String> genreNamePool(int count) {
+        RowContext row = contexts.get();
+        row.random.setSeed(Seeds.derive(config.getSeed(), SeedTable.GENRE.ordinal(), GENRE_NAME_POOL_STREAM));
+
+        Set<String> pool = new LinkedHashSet<>();
+        int misses = 0;
+        while (pool.size() < count && misses < GENRE_POOL_MISSES) {
+            misses = pool.add(row.f.book().genre()) ? 0 : misses + 1;
+        }
+        return new ArrayList<>(pool);
+    }
+
+    // when Faker runs out of genres the names are repeated with a volume suffix: "Fantasy 2", "Fantasy 3"...
+    private static String genreName(List<String> pool, int index) {
+        String name = pool.get(index % pool.size());
+        return index < pool.size() ? name : name + " " + (index / pool.size() + 1);
+    }
+
+    private static String generateBookName(RowContext row) {
+        List<String> words = new ArrayList<>();
+        IntStream.rangeClosed(0, row.f.number().numberBetween(2, 5))
+                .forEach(i -> words.add(row.f.lorem().word()));
+        Collections.shuffle(words, row.random);
+        String first = words.get(0);
+        words.set(0, first.substring(0, 1).toUpperCase() + first.substring(1));
+        return String.join(" ", words);
+    }
+
+    @FunctionalInterface
+    private interface RowBuilder {
+        Object[] build(RowContext row, int index);
+    }
+
+    /**
+     * Faker of one generating thread together with the random it draws from.
+     */
+    private static class RowContext {
+        private final Random random = new Random();
+        private final Faker f = new Faker(random);
+    }
+}
@@ -0,0 +1,33 @@
+package ua.com.epam.ingestion;
+
+import lombok.Getter;
+
+/**
+ * Seeded tables in the order they are written. The first column is the surrogate key: the
+ * generator numbers the rows from 1, and the sinks restart the table's id sequence after them.
+ */
+@Getter
+public enum SeedTable {
+    AUTHOR("author", "id", "author_id", "first_name", "second_name", "birth_city", "birth_country", "birth_date",
+            "author_descr", "nationality"),
+    GENRE("genre", "id", "genre_id", "genre_name", "genre_descr"),
+    BOOK("book", "id", "book_id", "book_name", "book_language", "book_descr", "book_height", "book_length", "book_width",
+            "page_count", "publication_year", "author_id", "genre_id");
+
+    private final String tableName;
+    private final String[] columns;
+
+    SeedTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    // named as in the @SequenceGenerator of the entity
+    public String sequenceName() {
+        return tableName + "_seq";
+    }
+
+    public String columnList() {
+        return String.join(", ", columns);
+    }
+}
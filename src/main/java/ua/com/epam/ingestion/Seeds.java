@@ -0,0 +1,20 @@
+package ua.com.epam.ingestion;
+
+/**
+ * Derives independent, well mixed 64-bit seeds from a single base seed (SplitMix64 finalizer).
+ */
+final class Seeds {
+
+    private Seeds() {
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    static long derive(long seed, long stream, long index) {
+        return mix(mix(seed + 0x9E3779B97F4A7C15L * (stream + 1)) + index);
+    }
+}
@@ -0,0 +1,103 @@
+package ua.com.epam.ingestion;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Streams rows into a SQL script as multi-row INSERT statements. A new statement
+ * is started every {@code rowsPerStatement} rows, so neither the writer nor the
+ * database parser ever has to hold a whole table at once. Each table is followed by
+ * restarting its id sequence after the written rows (H2 syntax).
+ */
+public class SqlScriptSink implements RowSink {
+    private final Writer out;
+    private final int rowsPerStatement;
+
+    private SeedTable table;
+    private int rowsInStatement;
+    private long rows;
+    private boolean firstStatement = true;
+
+    public SqlScriptSink(Path script, int rowsPerStatement) throws IOException {
+        this(Files.newBufferedWriter(script, StandardCharsets.UTF_8), rowsPerStatement);
+    }
+
+    public SqlScriptSink(Writer out, int rowsPerStatement) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    @Override
+    public void begin(SeedTable table) {
+        this.table = table;
+        this.rowsInStatement = 0;
+        this.rows = 0;
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+        if (rowsInStatement == 0) {
+            if (!firstStatement) {
+                out.write('\n');
+            }
+            firstStatement = false;
+            out.write("insert into " + table.getTableName() + "(" + table.columnList() + ") values\n");
+        } else {
+            out.write(",\n");
+        }
+
+        out.write('(');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(", ");
+            }
+            writeValue(values[i]);
+        }
+        out.write(')');
+        rows++;
+
+        if (++rowsInStatement == rowsPerStatement) {
+            closeStatement();
+        }
+    }
+
+    @Override
+    public void end(SeedTable table) throws IOException {
+        if (rowsInStatement > 0) {
+            closeStatement();
+        }
+        out.write("\nalter sequence " + table.sequenceName() + " restart with " + (rows + 1) + ";\n");
+        this.table = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void closeStatement() throws IOException {
+        out.write(";\n");
+        rowsInStatement = 0;
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof Number) {
+            out.write(value.toString());
+        } else if (value instanceof LocalDate) {
+            out.write('\'');
+            out.write(value.toString());
+            out.write('\'');
+        } else {
+            out.write('\'');
+            out.write(value.toString().replace("'", "''"));
+            out.write('\'');
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package ua.com.epam.repository;
 
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ua.com.epam.entity.Author;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,14 +18,27 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
 
     boolean existsByAuthorId(long authorId);
 
+    List<Author> getAllByAuthorIdIn(Collection<Long> authorIds);
+
+    List<Author> getAllByFirstNameStartingWithIgnoreCaseOrSecondNameStartingWithIgnoreCase(String first, String second, PageRequest page);
+
     Optional<Author> getOneByAuthorId(long authorId);
 
     @Query(value = "SELECT a FROM Author a JOIN Book b ON b.authorId = a.authorId AND b.bookId = ?1")
     Author getAuthorOfBook(long bookId);
 
-    @Query(value = "SELECT a FROM Author a")
-    List<Author> getAllAuthors(PageRequest page);
-
-    @Query(value = "SELECT DISTINCT a FROM Author a JOIN Book b ON a.authorId = b.authorId AND b.genreId = ?1")
-    List<Author> getAllAuthorsInGenre(long genreId, PageRequest page);
+    // single statements without reading the row first, they return the count of affected rows
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Author a SET a.firstName = :#{#author.firstName}, a.secondName = :#{#author.secondName}, " +
+            "a.description = :#{#author.description}, a.nationality = :#{#author.nationality}, " +
+            "a.birthDate = :#{#author.birthDate}, a.birthCity = :#{#author.birthCity}, " +
+            "a.birthCountry = :#{#author.birthCountry} " +
+            "WHERE a.authorId = :#{#author.authorId}")
+    int updateAuthor(@Param("author") Author author);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM Author a WHERE a.authorId=?1")
+    int deleteAuthor(long authorId);
 }
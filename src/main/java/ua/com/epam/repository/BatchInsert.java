@@ -0,0 +1,37 @@
+package ua.com.epam.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Inserts many new entities in one transaction. Their ids come from pooled sequences, so
+ * Hibernate can send the inserts as JDBC batches of {@code hibernate.jdbc.batch_size}.
+ * The persistence context is flushed and cleared after every batch, so it never holds
+ * more than one batch of entities, however many are inserted.
+ */
+@Repository
+public class BatchInsert {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Transactional
+    public <T> void persistAll(List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+}
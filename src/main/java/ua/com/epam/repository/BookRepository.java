@@ -1,12 +1,15 @@
 package ua.com.epam.repository;
 
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ua.com.epam.entity.Book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +20,9 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     boolean existsByBookId(long bookId);
 
-    @Query(value = "SELECT b FROM Book b")
-    List<Book> getAllBooks(PageRequest page);
+    List<Book> getAllByBookIdIn(Collection<Long> bookIds);
+
+    List<Book> getAllByBookNameStartingWithIgnoreCase(String prefix, PageRequest page);
 
     @Query(value = "SELECT COUNT(b) FROM Book b WHERE b.genreId=?1")
     Long getAllBooksInGenreCount(long genreId);
@@ -26,12 +30,27 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @Query(value = "SELECT COUNT(b) FROM Book b WHERE b.authorId=?1")
     Long getAllBooksOfAuthorCount(long authorId);
 
-    @Query(value = "SELECT b FROM Book b WHERE b.genreId=?1")
-    List<Book> getAllBooksInGenre(long genreId, PageRequest page);
-
-    @Query(value = "SELECT b FROM Book b WHERE b.authorId=?1")
-    List<Book> getAllAuthorBooksOrdered(long authorId, Sort sort);
-
-    @Query(value = "SELECT b FROM Book b WHERE b.authorId=?1 AND b.genreId=?2")
-    List<Book> getAllAuthorBooksInGenre(long authorId, long genreId);
-}
\ No newline at end of file
+    @Query(value = "SELECT b.bookId FROM Book b WHERE b.genreId=?1")
+    List<Long> getAllBookIdsInGenre(long genreId);
+
+    @Query(value = "SELECT b.bookId FROM Book b WHERE b.authorId=?1")
+    List<Long> getAllBookIdsOfAuthor(long authorId);
+
+    @Query(value = "SELECT DISTINCT b.genreId FROM Book b WHERE b.authorId=?1")
+    List<Long> getAllGenreIdsOfAuthor(long authorId);
+
+    // single statements without reading the row first, they return the count of affected rows
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE Book b SET b.bookName = :#{#book.bookName}, b.bookLang = :#{#book.bookLang}, " +
+            "b.description = :#{#book.description}, b.publicationYear = :#{#book.publicationYear}, " +
+            "b.pageCount = :#{#book.pageCount}, b.bookWidth = :#{#book.bookWidth}, " +
+            "b.bookLength = :#{#book.bookLength}, b.bookHeight = :#{#book.bookHeight} " +
+            "WHERE b.bookId = :#{#book.bookId}")
+    int updateBook(@Param("book") Book book);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM Book b WHERE b.bookId=?1")
+    int deleteBook(long bookId);
+}
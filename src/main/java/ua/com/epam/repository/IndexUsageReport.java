@@ -0,0 +1,114 @@
+package ua.com.epam.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Logs how H2 executes the listings filtered by genre and/or author, so a missing or
+ * unused index on {@code book} shows up as a warning instead of a slow endpoint.
+ * <p>
+ * The queries mirror the SQL Hibernate generates for the filtered listings of the services
+ * and the {@link BookRepository} methods they call, run on IDs taken from the loaded data.
+ */
+@Component
+public class IndexUsageReport {
+    private static final Logger log = LoggerFactory.getLogger(IndexUsageReport.class);
+
+    // H2 names the access path of every table in a comment: "/* PUBLIC.BOOK_GENRE_IDX: ..." or "/* PUBLIC.BOOK.tableScan"
+    private static final Pattern ACCESS = Pattern.compile("/\\* PUBLIC\\.([\\w.]+)");
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("findBooksInGenre",
+                "select book_id, book_name, book_descr from book where genre_id = :genreId order by book_id limit 10");
+        QUERIES.put("getAllBooksInGenreCount",
+                "select count(*) from book where genre_id = :genreId");
+        QUERIES.put("getAllBooksOfAuthorCount",
+                "select count(*) from book where author_id = :authorId");
+        QUERIES.put("findAuthorBooks",
+                "select book_id, book_name, book_descr from book where author_id = :authorId order by book_id");
+        QUERIES.put("findBooksOfAuthorInGenre",
+                "select book_id, book_name, book_descr from book where author_id = :authorId and genre_id = :genreId");
+        QUERIES.put("findAllAuthorsInGenre",
+                "select distinct a.author_id, a.first_name, a.second_name, a.author_descr from author a "
+                        + "inner join book b on (a.author_id = b.author_id and b.genre_id = :genreId) limit 10");
+        QUERIES.put("getAllGenreIdsOfAuthor",
+                "select distinct genre_id from book where author_id = :authorId");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${schema.index-report:true}")
+    private boolean enabled;
+
+    @EventListener(DatasetReadyEvent.class)
+    public void report() {
+        if (!enabled) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!connection.getMetaData().getDatabaseProductName().equals("H2")) {
+                log.info("Index usage report is only available for H2, skipping it");
+                return;
+            }
+
+            long genreId, authorId;
+            try (ResultSet sample = statement.executeQuery("select genre_id, author_id from book limit 1")) {
+                if (!sample.next()) {
+                    log.info("There are no books yet, skipping the index usage report");
+                    return;
+                }
+                genreId = sample.getLong(1);
+                authorId = sample.getLong(2);
+            }
+
+            for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+                String sql = query.getValue()
+                        .replace(":genreId", Long.toString(genreId))
+                        .replace(":authorId", Long.toString(authorId));
+                List<String> access = explain(statement, sql);
+
+                if (access.stream().anyMatch(a -> a.endsWith(".tableScan"))) {
+                    log.warn("Index usage: {} does a full table scan: {}", query.getKey(), access);
+                } else {
+                    log.info("Index usage: {} reads {}", query.getKey(), access);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Index usage report failed", e);
+        }
+    }
+
+    private List<String> explain(Statement statement, String sql) throws SQLException {
+        List<String> access = new ArrayList<>();
+        try (ResultSet plan = statement.executeQuery("explain " + sql)) {
+            while (plan.next()) {
+                Matcher matcher = ACCESS.matcher(plan.getString(1));
+                while (matcher.find()) {
+                    access.add(matcher.group(1));
+                }
+            }
+        }
+        return access;
+    }
+}
@@ -53,6 +53,10 @@ public enum JsonKeysConformity {
                 .anyMatch(k -> k.jsonPropertyKey.equals(jsonKey));
     }
 
+    public static List<JsonKeysConformity> getKeysOfGroup(JsonKeysConformity.Group group) {
+        return JsonKeysConformity.Group.getGroup(group);
+    }
+
     public enum Group {
         AUTHOR("author"),
         GENRE("genre"),
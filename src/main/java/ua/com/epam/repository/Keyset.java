@@ -0,0 +1,61 @@
+package ua.com.epam.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+
+/**
+ * Ordering of a keyset paginated listing: the requested sort property, broken by the
+ * unique business ID, so every row has a stable position to seek after.
+ */
+@Getter
+@AllArgsConstructor
+public class Keyset<T> {
+    private final Class<T> entityClass;
+    private final String idProperty;
+    private final String sortProperty;
+    private final Sort.Direction direction;
+
+    public Sort toSort() {
+        Sort sort = Sort.by(direction, sortProperty);
+        return sortProperty.equals(idProperty) ? sort : sort.and(Sort.by(direction, idProperty));
+    }
+
+    /**
+     * Order of the rows in the listing, with {@code NULL} sort values as the lowest ones,
+     * the way the database orders them.
+     */
+    public Comparator<T> comparator() {
+        return (a, b) -> compare(a, sortValueOf(b), idOf(b));
+    }
+
+    /**
+     * @return negative if the row comes before the position given by a sort value and ID,
+     * positive if after it
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int compare(T row, Object sortValue, long id) {
+        Comparable value = (Comparable) sortValueOf(row);
+        int result;
+        if (value == null || sortValue == null) {
+            result = Boolean.compare(value != null, sortValue != null);
+        } else {
+            result = value.compareTo(sortValue);
+        }
+        if (result == 0) {
+            result = Long.compare(idOf(row), id);
+        }
+        return direction.isAscending() ? result : -result;
+    }
+
+    private Object sortValueOf(T row) {
+        return new BeanWrapperImpl(row).getPropertyValue(sortProperty);
+    }
+
+    private long idOf(T row) {
+        return (Long) new BeanWrapperImpl(row).getPropertyValue(idProperty);
+    }
+}
@@ -0,0 +1,65 @@
+package ua.com.epam.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import ua.com.epam.exception.entity.type.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Position of the last row of a page: its sort value and business ID. Travels to the
+ * client as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private final Sort.Direction direction;
+    private final String sortProperty;
+    private final long id;
+    private final Object sortValue;
+
+    String encode() {
+        String value = sortValue == null ? "N" : "V" + sortValue;
+        String raw = String.join(SEPARATOR, direction.isAscending() ? "A" : "D", sortProperty, Long.toString(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token, Function<String, Class<?>> propertyType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+
+            Sort.Direction direction = parts[0].equals("A") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            String sortProperty = parts[1];
+            long id = Long.parseLong(parts[2]);
+            Object value = parts[3].startsWith("N")
+                    ? null
+                    : parseValue(parts[3].substring(1), propertyType.apply(sortProperty));
+
+            return new KeysetCursor(direction, sortProperty, id, value);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    private static Object parseValue(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        } else if (type == Long.class) {
+            return Long.valueOf(value);
+        } else if (type == Integer.class) {
+            return Integer.valueOf(value);
+        } else if (type == Double.class) {
+            return Double.valueOf(value);
+        } else if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        throw new IllegalArgumentException("Unsupported cursor value type " + type);
+    }
+}
@@ -0,0 +1,47 @@
+package ua.com.epam.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hit and miss counts of the Hibernate query plan cache, which the Micrometer Hibernate
+ * binder does not report. A low hit ratio means queries are built with their values
+ * pasted in instead of bound as parameters.
+ */
+@Component
+public class QueryPlanCacheMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheHitCount)
+                .tag("result", "hit")
+                .description("Lookups of parsed queries in the query plan cache")
+                .register(registry);
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheMissCount)
+                .tag("result", "miss")
+                .description("Lookups of parsed queries in the query plan cache")
+                .register(registry);
+        Gauge.builder("hibernate.query.plan.cache.hit.ratio", statistics, QueryPlanCacheMetrics::hitRatio)
+                .description("Share of queries served from the query plan cache")
+                .register(registry);
+    }
+
+    private static double hitRatio(Statistics statistics) {
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long total = hits + statistics.getQueryPlanCacheMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
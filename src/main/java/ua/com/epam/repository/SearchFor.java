@@ -7,57 +7,85 @@ import ua.com.epam.entity.Genre;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
-import java.util.Collections;
-import java.util.List;
+import javax.persistence.TypedQuery;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * Case-insensitive "contains" search straight in the database.
+ * <p>
+ * Search strings are passed as bind parameters and the number of them is rounded up to
+ * a power of two (the extra slots repeat the last string), so all searches share a
+ * handful of query texts, and Hibernate and the database parse and plan each of them
+ * once. See the {@code hibernate.query.plan.cache} hit and miss counters and the
+ * {@code hibernate.query.plan.cache.hit.ratio} gauge for the plan cache hit rate.
+ */
 @Repository
 public class SearchFor {
+    private static final int MAX_BUCKET = 64;
+    private static final char ESCAPE = '!';
 
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
     public List<Author> authors(String query, List<String> keywordsToSearch) {
-        return getList(query, keywordsToSearch, Collections.singletonList("fullName"), Author.class);
+        return getList(query, keywordsToSearch, "fullName", Author.class);
     }
 
     public List<Genre> genres(String query, List<String> keywordsToSearch) {
-        return getList(query, keywordsToSearch, Collections.singletonList("genreName"), Genre.class);
+        return getList(query, keywordsToSearch, "genreName", Genre.class);
     }
 
     public List<Book> books(String query, List<String> keywordsToSearch) {
-        return getList(query, keywordsToSearch, Collections.singletonList("bookName"), Book.class);
+        return getList(query, keywordsToSearch, "bookName", Book.class);
     }
 
-    private <T> List<T> getList(String query, List<String> keywords, List<String> columns, Class<T> clazz) {
-        String contains = buildSearchQuery(columns, Collections.singletonList(query));
-        String anyMatch, full;
+    private <T> List<T> getList(String query, List<String> keywords, String column, Class<T> clazz) {
+        List<String> values = new ArrayList<>();
+        values.add(query);
+        values.addAll(keywords);
+
+        if (values.size() <= MAX_BUCKET) {
+            return performSearch(column, values, clazz);
+        }
 
-        if (!keywords.isEmpty()) {
-            anyMatch = buildSearchQuery(columns, keywords);
-            full = String.join(" OR ", contains, anyMatch);
-        } else {
-            full = String.join(" OR ", contains);
+        // more strings than the biggest bucket holds: search in chunks and merge the results
+        Set<T> found = new LinkedHashSet<>();
+        for (int from = 0; from < values.size(); from += MAX_BUCKET) {
+            found.addAll(performSearch(column, values.subList(from, Math.min(values.size(), from + MAX_BUCKET)), clazz));
         }
+        return new ArrayList<>(found);
+    }
+
+    private <T> List<T> performSearch(String column, List<String> values, Class<T> clazz) {
+        int bucket = Integer.highestOneBit(values.size() * 2 - 1);
+        String jpql = queries.computeIfAbsent(clazz.getName() + "." + column + "/" + bucket,
+                k -> buildSearchQuery(clazz, column, bucket));
 
-        return performSearch(full, clazz);
+        TypedQuery<T> typedQuery = entityManager.createQuery(jpql, clazz);
+        for (int i = 0; i < bucket; i++) {
+            String value = values.get(Math.min(i, values.size() - 1));
+            typedQuery.setParameter("v" + i, "%" + escape(value.toLowerCase(Locale.ROOT)) + "%");
+        }
+        return typedQuery.getResultList();
     }
 
-    private String buildSearchQuery(List<String> columnNames, List<String> valuesToSearch) {
-        String or = " OR ";
-        String like = " LIKE ";
-        String valueContains = "'%%%s%%'";
+    private String buildSearchQuery(Class<?> clazz, String column, int bucket) {
+        String contains = IntStream.range(0, bucket)
+                .mapToObj(i -> "LOWER(t." + column + ") LIKE :v" + i + " ESCAPE '" + ESCAPE + "'")
+                .collect(Collectors.joining(" OR "));
 
-        return columnNames.stream()
-                .map(c -> valuesToSearch.stream()
-                        .map(v -> "t." + c + like + String.format(valueContains, v.replace("'", "''")))
-                        .collect(Collectors.joining(or)))
-                .collect(Collectors.joining(or));
+        return "SELECT t FROM " + clazz.getName() + " t WHERE " + contains + " ORDER BY t.id";
     }
 
-    private <T> List<T> performSearch(String query, Class<T> clazz) {
-        String prefix = "SELECT t FROM " + clazz.getName() + " t WHERE ";
-        String queryToExecute = prefix + query;
-        return entityManager.createQuery(queryToExecute, clazz).getResultList();
+    // the searched strings are matched literally, not as LIKE patterns
+    private static String escape(String value) {
+        return value.replace(String.valueOf(ESCAPE), "" + ESCAPE + ESCAPE)
+                .replace("%", ESCAPE + "%")
+                .replace("_", ESCAPE + "_");
     }
-}
\ No newline at end of file
+}
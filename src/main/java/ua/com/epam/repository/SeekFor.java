@@ -0,0 +1,143 @@
+package ua.com.epam.repository;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.stereotype.Repository;
+import ua.com.epam.exception.entity.type.InvalidCursorException;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination: instead of skipping {@code OFFSET} rows, every page starts
+ * right after the row a cursor points to, so its cost does not depend on the page depth.
+ * <p>
+ * Rows are ordered by the sort property and then by business ID. {@code NULL} sort values
+ * are taken as the lowest ones, as both H2 and MySQL order them by default.
+ */
+@Repository
+public class SeekFor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<T> pageAfter(Keyset<T> keyset, String cursorToken, int size) {
+        return pageAfter(keyset, cursorToken, size, "t", keyset.getEntityClass());
+    }
+
+    /**
+     * The page {@link #pageAfter(Keyset, String, int)} would read, as rows selected by the
+     * given expression over the entity aliased {@code t}, e.g. a constructor expression.
+     */
+    public <T, R> List<R> pageAfter(Keyset<T> keyset, String cursorToken, int size, String selection, Class<R> rowClass) {
+        RowQuery<T, R> query = new RowQuery<>(keyset, selection, rowClass);
+        KeysetCursor cursor = decode(keyset, cursorToken);
+
+        boolean asc = keyset.getDirection().isAscending();
+        String sort = "t." + keyset.getSortProperty();
+        String id = "t." + keyset.getIdProperty();
+        String dir = asc ? " ASC" : " DESC";
+        String after = asc ? " > " : " < ";
+        String notBefore = asc ? " >= " : " <= ";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", cursor.getId());
+
+        if (keyset.getSortProperty().equals(keyset.getIdProperty())) {
+            return query.list(id + after + ":id", id + dir, params, size);
+        }
+
+        // NULL sort values are the lowest ones: they open an ascending listing and close a descending one
+        if (cursor.getSortValue() == null) {
+            List<R> page = query.list(sort + " IS NULL AND " + id + after + ":id", id + dir, params, size);
+            if (asc && page.size() < size) {
+                page.addAll(query.list(sort + " IS NOT NULL", sort + dir + ", " + id + dir,
+                        new HashMap<>(), size - page.size()));
+            }
+            return page;
+        }
+
+        // the redundant range condition lets the database seek on an index over the sort column
+        params.put("value", cursor.getSortValue());
+        List<R> page = query.list(
+                sort + notBefore + ":value AND (" + sort + after + ":value OR " + id + after + ":id)",
+                sort + dir + ", " + id + dir, params, size);
+        if (!asc && page.size() < size) {
+            page.addAll(query.list(sort + " IS NULL", id + dir, new HashMap<>(), size - page.size()));
+        }
+        return page;
+    }
+
+    /**
+     * The page {@link #pageAfter(Keyset, String, int)} would read, sought in rows held in
+     * memory in the order of the keyset.
+     */
+    public <T> List<T> pageAfter(Keyset<T> keyset, String cursorToken, int size, List<T> ordered) {
+        KeysetCursor cursor = decode(keyset, cursorToken);
+
+        // the first row past the cursor, the row it points to may be gone
+        int from = 0;
+        int to = ordered.size();
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (keyset.compare(ordered.get(mid), cursor.getSortValue(), cursor.getId()) <= 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return new ArrayList<>(ordered.subList(from, Math.min(ordered.size(), from + size)));
+    }
+
+    public <T> String nextCursor(Keyset<T> keyset, List<?> page, int size) {
+        if (page.size() < size) {
+            return null;
+        }
+
+        Object last = page.get(page.size() - 1);
+        return new KeysetCursor(
+                keyset.getDirection(),
+                keyset.getSortProperty(),
+                (Long) valueOf(last, keyset.getIdProperty()),
+                valueOf(last, keyset.getSortProperty()))
+                .encode();
+    }
+
+    // rows are beans, or maps by property name when selected with a sparse fieldset
+    private static Object valueOf(Object row, String property) {
+        if (row instanceof Map) {
+            return ((Map<?, ?>) row).get(property);
+        }
+        return new BeanWrapperImpl(row).getPropertyValue(property);
+    }
+
+    private <T> KeysetCursor decode(Keyset<T> keyset, String cursorToken) {
+        KeysetCursor cursor = KeysetCursor.decode(cursorToken,
+                p -> entityManager.getMetamodel().entity(keyset.getEntityClass()).getAttribute(p).getJavaType());
+
+        if (cursor.getDirection() != keyset.getDirection() || !cursor.getSortProperty().equals(keyset.getSortProperty())) {
+            throw new InvalidCursorException(cursorToken);
+        }
+        return cursor;
+    }
+
+    private class RowQuery<T, R> {
+        private final String select;
+        private final Class<R> rowClass;
+
+        private RowQuery(Keyset<T> keyset, String selection, Class<R> rowClass) {
+            this.select = "SELECT " + selection + " FROM " + keyset.getEntityClass().getName() + " t WHERE ";
+            this.rowClass = rowClass;
+        }
+
+        private List<R> list(String where, String orderBy, Map<String, Object> params, int size) {
+            TypedQuery<R> query = entityManager.createQuery(select + where + " ORDER BY " + orderBy, rowClass);
+            params.forEach(query::setParameter);
+            return query.setMaxResults(size).getResultList();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ua.com.epam.repository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import ua.com.epam.repository.projection.Fieldset;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Listings read as the rows of a {@link Fieldset}: whole objects by their constructor
+ * expression, or only the selected columns as maps by property name. The selection and the
+ * entity are aliased {@code t}. Pages after a cursor are read by {@link SeekFor}.
+ */
+@Repository
+public class SelectFor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <R> List<R> rows(String selection, Class<R> rowClass, String from, Map<String, Object> params, Sort sort) {
+        return query(selection, rowClass, from, params, sort).getResultList();
+    }
+
+    public <R> List<R> rows(String selection, Class<R> rowClass, String from, Map<String, Object> params,
+                            PageRequest page) {
+        return query(selection, rowClass, from, params, page.getSort())
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+    }
+
+    private <R> TypedQuery<R> query(String selection, Class<R> rowClass, String from, Map<String, Object> params,
+                                    Sort sort) {
+        String orderBy = sort.stream()
+                .map(o -> "t." + o.getProperty() + " " + o.getDirection())
+                .collect(Collectors.joining(", "));
+
+        String jpql = "SELECT " + selection + " FROM " + from + (orderBy.isEmpty() ? "" : " ORDER BY " + orderBy);
+        TypedQuery<R> query = entityManager.createQuery(jpql, rowClass);
+        params.forEach(query::setParameter);
+        return query;
+    }
+}
@@ -0,0 +1,37 @@
+package ua.com.epam.repository.projection;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.com.epam.service.util.serializer.AuthorRowSerializer;
+
+import java.time.LocalDate;
+
+/**
+ * Columns of an author listed by the API, read by a JPQL constructor expression instead of
+ * loading {@code Author} entities, so neither the persistence context nor the full name
+ * formula is involved.
+ * <p>
+ * Properties are named as in {@code Author}, so rows can be sorted and paged by keyset
+ * the same way.
+ * <p>
+ * Listings return the rows as they are, {@link AuthorRowSerializer} writes them in the JSON
+ * shape of {@code AuthorDto}.
+ */
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = AuthorRowSerializer.class)
+public class AuthorRow {
+    // the constructor expression over the author aliased 't'
+    public static final String SELECT = "new ua.com.epam.repository.projection.AuthorRow(t.authorId, t.firstName, " +
+            "t.secondName, t.description, t.nationality, t.birthDate, t.birthCountry, t.birthCity)";
+
+    private final Long authorId;
+    private final String firstName;
+    private final String secondName;
+    private final String description;
+    private final String nationality;
+    private final LocalDate birthDate;
+    private final String birthCountry;
+    private final String birthCity;
+}
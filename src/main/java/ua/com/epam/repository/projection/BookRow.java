@@ -0,0 +1,39 @@
+package ua.com.epam.repository.projection;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ua.com.epam.service.util.serializer.BookRowSerializer;
+
+/**
+ * Columns of a book listed by the API, read by a JPQL constructor expression instead of
+ * loading {@code Book} entities: the rows are not managed, so the persistence context
+ * neither keeps nor dirty-checks them.
+ * <p>
+ * Properties are named as in {@code Book}, so rows can be sorted and paged by keyset
+ * the same way; the stored volume and square are read for that only.
+ * <p>
+ * Listings return the rows as they are, {@link BookRowSerializer} writes them in the JSON
+ * shape of {@code BookDto}.
+ */
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = BookRowSerializer.class)
+public class BookRow {
+    // the constructor expression over the book aliased 't'
+    public static final String SELECT = "new ua.com.epam.repository.projection.BookRow(t.bookId, t.bookName, " +
+            "t.bookLang, t.description, t.pageCount, t.bookHeight, t.bookWidth, t.bookLength, t.volume, t.square, " +
+            "t.publicationYear)";
+
+    private final Long bookId;
+    private final String bookName;
+    private final String bookLang;
+    private final String description;
+    private final Integer pageCount;
+    private final Double bookHeight;
+    private final Double bookWidth;
+    private final Double bookLength;
+    private final Double volume;
+    private final Double square;
+    private final Integer publicationYear;
+}
@@ -0,0 +1,130 @@
+package ua.com.epam.repository.projection;
+
+import ua.com.epam.exception.entity.NoSuchJsonKeyException;
+import ua.com.epam.repository.JsonKeysConformity;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Fieldset of a listing: the JSON keys a client asked for with {@code fields=}, checked
+ * against {@link JsonKeysConformity}. Only their columns are selected, as maps by property
+ * name, and only they are written to the response, nested like in the full object.
+ * <p>
+ * Without {@code fields=} the fieldset is the whole object, read as {@link BookRow} or
+ * {@link AuthorRow} and written by their serializers.
+ * <p>
+ * A key may also name a nested object, e.g. {@code additional.size} stands for all its keys.
+ */
+public class Fieldset {
+    private static final Map<JsonKeysConformity.Group, Fieldset> WHOLE = new EnumMap<>(JsonKeysConformity.Group.class);
+
+    static {
+        WHOLE.put(JsonKeysConformity.Group.BOOK, new Fieldset(BookRow.SELECT, BookRow.class));
+        WHOLE.put(JsonKeysConformity.Group.AUTHOR, new Fieldset(AuthorRow.SELECT, AuthorRow.class));
+    }
+
+    private final List<JsonKeysConformity> keys;
+    private final List<String[]> paths;
+    // the constructor expression of whole objects, null for a sparse fieldset
+    private final String select;
+    private final Class<?> rowClass;
+
+    private Fieldset(List<JsonKeysConformity> keys) {
+        this.keys = keys;
+        this.paths = keys.stream()
+                .map(k -> k.getJsonPropertyKey().split("\\."))
+                .collect(Collectors.toList());
+        this.select = null;
+        this.rowClass = Map.class;
+    }
+
+    private Fieldset(String select, Class<?> rowClass) {
+        this.keys = Collections.emptyList();
+        this.paths = Collections.emptyList();
+        this.select = select;
+        this.rowClass = rowClass;
+    }
+
+    /**
+     * @return the whole objects of the group if no fields are asked for
+     */
+    public static Fieldset parse(String fields, JsonKeysConformity.Group group) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return WHOLE.get(group);
+        }
+
+        List<JsonKeysConformity> ofGroup = JsonKeysConformity.getKeysOfGroup(group);
+        Set<JsonKeysConformity> keys = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String key = field.trim();
+            List<JsonKeysConformity> matching = ofGroup.stream()
+                    .filter(k -> k.getJsonPropertyKey().equals(key) || k.getJsonPropertyKey().startsWith(key + "."))
+                    .collect(Collectors.toList());
+
+            if (matching.isEmpty()) {
+                throw new NoSuchJsonKeyException(key);
+            }
+            keys.addAll(matching);
+        }
+        return new Fieldset(new ArrayList<>(keys));
+    }
+
+    public boolean isWhole() {
+        return select != null;
+    }
+
+    /**
+     * Type of the rows the {@link #selection} is read into.
+     */
+    public Class<?> getRowClass() {
+        return rowClass;
+    }
+
+    /**
+     * Selection of the requested properties and the given ones (the ordering of the listing
+     * must be selected too) over the entity aliased {@code t}, as a map by property name.
+     * Whole objects hold every property already.
+     */
+    public String selection(String... alsoSelected) {
+        if (isWhole()) {
+            return select;
+        }
+
+        Set<String> properties = new LinkedHashSet<>();
+        keys.forEach(k -> properties.add(k.getModelPropertyName()));
+        properties.addAll(Arrays.asList(alsoSelected));
+
+        return properties.stream()
+                .map(p -> "t." + p + " AS " + p)
+                .collect(Collectors.joining(", ", "new map(", ")"));
+    }
+
+    /**
+     * @param rows read by the {@link #selection}, whole objects are returned as they are
+     */
+    @SuppressWarnings("unchecked")
+    public List<?> toJson(List<?> rows) {
+        if (isWhole()) {
+            return rows;
+        }
+
+        return rows.stream()
+                .map(row -> toJson((Map<String, Object>) row))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> toJson(Map<String, Object> row) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String[] path = paths.get(i);
+            Map<String, Object> node = json;
+            for (int j = 0; j < path.length - 1; j++) {
+                node = (Map<String, Object>) node.computeIfAbsent(path[j], k -> new LinkedHashMap<>());
+            }
+            node.put(path[path.length - 1], row.get(keys.get(i).getModelPropertyName()));
+        }
+        return json;
+    }
+}
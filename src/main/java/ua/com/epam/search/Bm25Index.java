@@ -0,0 +1,516 @@
+package ua.com.epam.search;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Full-text index of long texts (descriptions) ranked with Okapi BM25, keyed by business ID.
+ * <p>
+ * Texts are split into lower-cased words (terms) and every term keeps a posting list of
+ * the documents containing it with the number of occurrences. Only the short fields to
+ * show in results (names) are stored, the indexed text itself is not kept. A query is
+ * scored term by term over the posting lists of its terms and the best documents are
+ * picked through a bounded heap.
+ * <p>
+ * Updates and removals leave the old document behind as a tombstone that queries skip;
+ * the index is compacted once tombstones outnumber live documents. Until then document
+ * frequencies still count the tombstones, which slightly lowers the weight of the terms
+ * of updated documents.
+ * <p>
+ * The index can be saved to and read from a segment: a compact binary snapshot of the
+ * live documents, see {@link #writeSegment(OutputStream, String)}. Loading follows the
+ * same rules as {@link TrigramIndex}: documents put or removed while the index is loading
+ * take precedence over the loaded ones.
+ */
+public class Bm25Index {
+    private static final int SEGMENT_MAGIC = 0x424D3235;
+    private static final int SEGMENT_VERSION = 1;
+    private static final int MIN_COMPACTED = 1024;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Integer> docOf = new HashMap<>();
+    private long[] keys = new long[16];
+    private String[][] fields = new String[16][];
+    private int[] lengths = new int[16];
+    private int docs;
+    private int tombstones;
+    private long totalLength;
+    private Map<String, Postings> postings = new HashMap<>();
+
+    // while the index is being loaded, keys written by the application win over the loaded ones
+    private Set<Long> touchedWhileLoading = new HashSet<>();
+
+    /**
+     * Adds the document or replaces the one with the same key.
+     *
+     * @param fields short texts returned with the hits, not indexed
+     * @param text   indexed text
+     */
+    public void put(long key, String[] fields, String text) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            addDoc(key, fields, terms(text));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a document read from the database or a log, unless it was put or
+     * removed after loading has started.
+     */
+    public void load(long key, String[] fields, String text) {
+        lock.writeLock().lock();
+        try {
+            checkLoading();
+            if (!touchedWhileLoading.contains(key)) {
+                removeDoc(key);
+                addDoc(key, fields, terms(text));
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document as a log says, unless it was put or removed after loading has started.
+     */
+    public void loadRemoval(long key) {
+        lock.writeLock().lock();
+        try {
+            checkLoading();
+            if (!touchedWhileLoading.contains(key)) {
+                removeDoc(key);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loaded() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} documents containing any word of the query, the most
+     * relevant first
+     */
+    public List<ScoredHit> top(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(terms(query));
+
+        lock.readLock().lock();
+        try {
+            int live = docOf.size();
+            if (live == 0 || limit <= 0) {
+                return new ArrayList<>();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / live);
+
+            double[] scores = new double[docs];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            for (String term : queryTerms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+
+                // tombstones may make the frequency exceed the live count, keep the weight positive
+                double idf = Math.log(1 + Math.max(0.01, (live - list.size + 0.5) / (list.size + 0.5)));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (fields[doc] == null) {
+                        continue;
+                    }
+                    double tf = list.freqs[i];
+                    double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            // the worst of the best documents on top, equal scores go in the order documents were added
+            Comparator<Integer> worstFirst = (a, b) -> scores[a] != scores[b]
+                    ? Double.compare(scores[a], scores[b])
+                    : Integer.compare(b, a);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, touchedCount) + 1, worstFirst);
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (heap.size() < limit) {
+                    heap.add(doc);
+                } else if (worstFirst.compare(doc, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(doc);
+                }
+            }
+
+            ScoredHit[] best = new ScoredHit[heap.size()];
+            for (int i = best.length - 1; i >= 0; i--) {
+                int doc = heap.poll();
+                best[i] = new ScoredHit(keys[doc], fields[doc], scores[doc]);
+            }
+            return new ArrayList<>(Arrays.asList(best));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the live documents as a segment:
+     * <pre>
+     * int magic, int version, UTF stamp,
+     * varint docs, per document: varlong key, varint length, varint fields, UTF field...
+     * varint terms, per term in alphabetical order: UTF term, varint size,
+     *     per posting: varint document number delta, varint occurrences
+     * long CRC32 of everything above
+     * </pre>
+     * Documents are renumbered without tombstones.
+     *
+     * @param stamp identifies the data the index was built from, see {@link #readSegment(InputStream, String)}
+     */
+    public void writeSegment(OutputStream out, String stamp) throws IOException {
+        lock.readLock().lock();
+        try {
+            CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+            data.writeInt(SEGMENT_MAGIC);
+            data.writeInt(SEGMENT_VERSION);
+            data.writeUTF(stamp);
+
+            int[] renumbered = new int[docs];
+            int live = 0;
+            writeVarInt(data, docOf.size());
+            for (int doc = 0; doc < docs; doc++) {
+                if (fields[doc] == null) {
+                    renumbered[doc] = -1;
+                    continue;
+                }
+                renumbered[doc] = live++;
+                writeVarLong(data, keys[doc]);
+                writeVarInt(data, lengths[doc]);
+                writeVarInt(data, fields[doc].length);
+                for (String field : fields[doc]) {
+                    data.writeUTF(field);
+                }
+            }
+
+            List<String> terms = new ArrayList<>();
+            for (Map.Entry<String, Postings> e : postings.entrySet()) {
+                if (e.getValue().countLive(renumbered) > 0) {
+                    terms.add(e.getKey());
+                }
+            }
+            Collections.sort(terms);
+
+            writeVarInt(data, terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                data.writeUTF(term);
+                writeVarInt(data, list.countLive(renumbered));
+                int previous = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = renumbered[list.docs[i]];
+                    if (doc >= 0) {
+                        writeVarInt(data, doc - previous);
+                        writeVarInt(data, list.freqs[i]);
+                        previous = doc;
+                    }
+                }
+            }
+
+            data.flush();
+            new DataOutputStream(out).writeLong(checked.getChecksum().getValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the documents of a segment written by {@link #writeSegment(OutputStream, String)},
+     * see {@link #load(long, String[], String)}. Nothing is loaded if the segment was written
+     * for other data.
+     *
+     * @return {@code false} if the stamp of the segment differs from the given one
+     * @throws IOException if the segment can't be read or is corrupted; the documents read so
+     *                     far stay in the index
+     */
+    public boolean readSegment(InputStream in, String stamp) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+        if (data.readInt() != SEGMENT_MAGIC || data.readInt() != SEGMENT_VERSION) {
+            throw new IOException("Not a segment of a supported version");
+        }
+        if (!data.readUTF().equals(stamp)) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            checkLoading();
+
+            int segmentDocs = readVarInt(data);
+            if (segmentDocs < 0) {
+                throw new IOException("Segment document count is negative");
+            }
+            int[] renumbered = new int[segmentDocs];
+            for (int i = 0; i < segmentDocs; i++) {
+                long key = readVarLong(data);
+                int length = readVarInt(data);
+                int fieldCount = readVarInt(data);
+                if (fieldCount < 0) {
+                    throw new IOException("Segment field count is negative");
+                }
+                String[] texts = new String[fieldCount];
+                for (int f = 0; f < texts.length; f++) {
+                    texts[f] = data.readUTF();
+                }
+
+                if (touchedWhileLoading.contains(key)) {
+                    renumbered[i] = -1;
+                } else {
+                    removeDoc(key);
+                    renumbered[i] = addDoc(key, texts, length);
+                }
+            }
+
+            int terms = readVarInt(data);
+            for (int t = 0; t < terms; t++) {
+                String term = data.readUTF();
+                int size = readVarInt(data);
+                Postings list = null;
+                int doc = 0;
+                for (int i = 0; i < size; i++) {
+                    doc += readVarInt(data);
+                    int freq = readVarInt(data);
+                    if (doc < 0 || doc >= segmentDocs) {
+                        throw new IOException("Segment posting refers to a missing document");
+                    }
+                    if (renumbered[doc] >= 0) {
+                        if (list == null) {
+                            list = postings.computeIfAbsent(term, k -> new Postings());
+                        }
+                        list.add(renumbered[doc], freq);
+                    }
+                }
+            }
+
+            long checksum = checked.getChecksum().getValue();
+            if (new DataInputStream(in).readLong() != checksum) {
+                throw new IOException("Segment checksum mismatch");
+            }
+            // only now, the document numbers above must not change while postings are read
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkLoading() {
+        if (touchedWhileLoading == null) {
+            throw new IllegalStateException("Index is already loaded");
+        }
+    }
+
+    private void addDoc(long key, String[] texts, List<String> terms) {
+        int doc = addDoc(key, texts, terms.size());
+
+        Map<String, Integer> freqs = new HashMap<>();
+        for (String term : terms) {
+            freqs.merge(term, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> e : freqs.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), t -> new Postings()).add(doc, e.getValue());
+        }
+    }
+
+    // adds the document without its postings
+    private int addDoc(long key, String[] texts, int length) {
+        if (docs == keys.length) {
+            keys = Arrays.copyOf(keys, docs * 2);
+            fields = Arrays.copyOf(fields, docs * 2);
+            lengths = Arrays.copyOf(lengths, docs * 2);
+        }
+
+        int doc = docs++;
+        keys[doc] = key;
+        fields[doc] = texts;
+        lengths[doc] = length;
+        totalLength += length;
+        docOf.put(key, doc);
+        return doc;
+    }
+
+    private void removeDoc(long key) {
+        Integer doc = docOf.remove(key);
+        if (doc == null) {
+            return;
+        }
+
+        fields[doc] = null;
+        totalLength -= lengths[doc];
+        tombstones++;
+    }
+
+    private void compactIfNeeded() {
+        if (tombstones > Math.max(MIN_COMPACTED, docOf.size())) {
+            compact();
+        }
+    }
+
+    // renumbers the live documents in the same order, the indexed texts are not needed for that
+    private void compact() {
+        int[] renumbered = new int[docs];
+        int live = 0;
+        for (int doc = 0; doc < docs; doc++) {
+            if (fields[doc] == null) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live;
+                keys[live] = keys[doc];
+                fields[live] = fields[doc];
+                lengths[live] = lengths[doc];
+                docOf.put(keys[live], live);
+                live++;
+            }
+        }
+        Arrays.fill(fields, live, docs, null);
+        docs = live;
+        tombstones = 0;
+
+        Map<String, Postings> compacted = new HashMap<>();
+        for (Map.Entry<String, Postings> e : postings.entrySet()) {
+            Postings list = e.getValue().renumber(renumbered);
+            if (list.size > 0) {
+                compacted.put(e.getKey(), list);
+            }
+        }
+        postings = compacted;
+    }
+
+    private static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number");
+    }
+
+    /**
+     * Growable, ascending list of document numbers with the occurrences of the term in each.
+     */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size++] = freq;
+        }
+
+        private int countLive(int[] renumbered) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (renumbered[docs[i]] >= 0) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+        private Postings renumber(int[] renumbered) {
+            Postings list = new Postings();
+            for (int i = 0; i < size; i++) {
+                if (renumbered[docs[i]] >= 0) {
+                    list.add(renumbered[docs[i]], freqs[i]);
+                }
+            }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package ua.com.epam.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link Bm25Index} kept on disk as {@code <name>.seg}, a segment written by
+ * {@link Bm25Index#writeSegment(OutputStream, String)}, and {@code <name>.log}, the
+ * documents put and removed after the segment was written.
+ * <p>
+ * Every write is appended to the log before it is applied in memory; once the log holds
+ * more than {@code compactAfter} records a new segment is written in its place. Writes
+ * are flushed to the operating system, not synced, so the log may lose its tail or end
+ * with a torn record on a power loss: such a record is dropped on start-up, and the
+ * database stays the source of truth the index can always be rebuilt from.
+ * <p>
+ * Without a stamp nothing is read or written and the index lives in memory only.
+ */
+public class Bm25Store implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(Bm25Store.class);
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final String name;
+    private final Path segment;
+    private final Path logFile;
+    private final String stamp;
+    private final int compactAfter;
+    private final Bm25Index index = new Bm25Index();
+
+    private DataOutputStream logOut;
+    private int logRecords;
+
+    /**
+     * Opens the log for appending, dropping a torn record at its end.
+     *
+     * @param stamp identifies the data in the tables, {@code null} keeps the index in memory only
+     */
+    public Bm25Store(Path directory, String name, String stamp, int compactAfter) throws IOException {
+        this.name = name;
+        this.segment = directory.resolve(name + ".seg");
+        this.logFile = directory.resolve(name + ".log");
+        this.stamp = stamp;
+        this.compactAfter = compactAfter;
+
+        if (stamp != null) {
+            Files.createDirectories(directory);
+            long complete = replayLog(null);
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.truncate(complete);
+            }
+            logOut = openLog(StandardOpenOption.APPEND);
+        }
+    }
+
+    public synchronized void put(long key, String[] fields, String text) {
+        appendToLog(PUT, key, fields, text);
+        index.put(key, fields, text);
+        compactLogIfNeeded();
+    }
+
+    public synchronized void remove(long key) {
+        appendToLog(REMOVE, key, null, null);
+        index.remove(key);
+        compactLogIfNeeded();
+    }
+
+    public String getStamp() {
+        return stamp;
+    }
+
+    public List<ScoredHit> top(String query, int limit) {
+        return index.top(query, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Loads the segment and then the log on top of it, if the segment was written for the
+     * same stamp.
+     *
+     * @return {@code false} if the index has to be loaded from the tables instead
+     */
+    public boolean loadFromDisk() throws IOException {
+        if (stamp == null || !Files.exists(segment)) {
+            return false;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segment))) {
+            if (!index.readSegment(in, stamp)) {
+                return false;
+            }
+        }
+        replayLog(index);
+        return true;
+    }
+
+    /**
+     * Loads a document read from the tables, see {@link Bm25Index#load(long, String[], String)}.
+     */
+    public void load(long key, String[] fields, String text) {
+        index.load(key, fields, text);
+    }
+
+    public void loaded() {
+        index.loaded();
+    }
+
+    /**
+     * Writes a segment of the whole index and empties the log.
+     */
+    public synchronized void persist() throws IOException {
+        if (stamp == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Path written = segment.resolveSibling(segment.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(written))) {
+            index.writeSegment(out, stamp);
+        }
+        Files.move(written, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // replaying the old log on the new segment would only repeat writes it already holds
+        logOut.close();
+        logOut = openLog(StandardOpenOption.TRUNCATE_EXISTING);
+        logRecords = 0;
+
+        log.info("Full-text segment '{}' written: {} documents, {} KB in {} ms", name, index.size(),
+                Files.size(segment) / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (logOut != null) {
+            logOut.close();
+        }
+    }
+
+    private void appendToLog(byte op, long key, String[] fields, String text) {
+        if (logOut == null) {
+            return;
+        }
+
+        try {
+            // the record goes to the stream in one piece, so it is either written or torn at the very end
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(bytes);
+            record.writeByte(op);
+            record.writeLong(key);
+            if (op == PUT) {
+                record.writeInt(fields.length);
+                for (String field : fields) {
+                    record.writeUTF(field);
+                }
+                record.writeUTF(text == null ? "" : text);
+            }
+            bytes.writeTo(logOut);
+            logOut.flush();
+            logRecords++;
+        } catch (IOException e) {
+            log.error("Full-text log '{}' write failed, the write is kept in memory only", name, e);
+        }
+    }
+
+    private void compactLogIfNeeded() {
+        if (logRecords >= compactAfter) {
+            try {
+                persist();
+            } catch (IOException e) {
+                log.error("Full-text segment '{}' write failed, the log keeps growing", name, e);
+            }
+        }
+    }
+
+    private DataOutputStream openLog(StandardOpenOption mode) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)));
+    }
+
+    /**
+     * Reads the log up to the first incomplete record, loading the records into the index
+     * if it is given.
+     *
+     * @return length of the complete records
+     */
+    private long replayLog(Bm25Index into) throws IOException {
+        if (!Files.exists(logFile)) {
+            return 0;
+        }
+
+        long complete = 0;
+        int records = 0;
+        try (CountingInputStream counting = new CountingInputStream(new BufferedInputStream(Files.newInputStream(logFile)));
+             DataInputStream in = new DataInputStream(counting)) {
+            while (true) {
+                int op = in.read();
+                if (op != PUT && op != REMOVE) {
+                    break;
+                }
+                long key = in.readLong();
+                if (op == PUT) {
+                    String[] fields = new String[in.readInt()];
+                    for (int i = 0; i < fields.length; i++) {
+                        fields[i] = in.readUTF();
+                    }
+                    String text = in.readUTF();
+                    if (into != null) {
+                        into.load(key, fields, text);
+                    }
+                } else if (into != null) {
+                    into.loadRemoval(key);
+                }
+                complete = counting.count;
+                records++;
+            }
+        } catch (EOFException | UTFDataFormatException | NegativeArraySizeException e) {
+            log.warn("Full-text log '{}' ends with an incomplete record, it is dropped", name);
+        }
+
+        if (into == null) {
+            logRecords = records;
+        }
+        return complete;
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ua.com.epam.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+/**
+ * BM25 full-text indexes over book and author descriptions, stored as {@link Bm25Store}s
+ * in the {@code fulltext} directory next to the database files.
+ * <p>
+ * The segments are stamped with the fingerprint and load time of the seed dataset. When
+ * the dataset becomes ready and the stamp still matches, the indexes are read from disk
+ * without touching the tables; otherwise they are loaded from the tables and written
+ * anew. The services keep them in sync on every create, update and delete. Until the
+ * first load is over {@link #isReady()} is {@code false}.
+ */
+@Component
+public class DescriptionIndex {
+    private static final Logger log = LoggerFactory.getLogger(DescriptionIndex.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.datasource.dbpath}/fulltext")
+    private String directory;
+
+    @Value("${search.description.compact-after:10000}")
+    private int compactAfter;
+
+    private volatile Bm25Store books;
+    private volatile Bm25Store authors;
+    private volatile boolean ready;
+    // the stores were created on start-up and have not been loaded yet
+    private boolean fresh;
+
+    public Bm25Store books() {
+        return books;
+    }
+
+    public Bm25Store authors() {
+        return authors;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // writes made before the dataset is ready are kept and take precedence over the loaded documents
+    @PostConstruct
+    public void open() throws IOException {
+        openStores(readStamp());
+        fresh = true;
+    }
+
+    @EventListener(DatasetReadyEvent.class)
+    public void reload() {
+        ready = false;
+        long start = System.nanoTime();
+
+        boolean fromDisk;
+        try {
+            String stamp = readStamp();
+            if (!fresh || !Objects.equals(stamp, books.getStamp())) {
+                openStores(stamp);
+            }
+            fresh = false;
+
+            fromDisk = loadFromDisk(books) & loadFromDisk(authors);
+            if (!fromDisk) {
+                loadFromTables();
+            }
+            books.loaded();
+            authors.loaded();
+            if (!fromDisk) {
+                books.persist();
+                authors.persist();
+            }
+        } catch (IOException | SQLException e) {
+            log.error("Full-text index load failed, description search is unavailable", e);
+            return;
+        }
+        ready = true;
+
+        log.info("Full-text index loaded {}: {} book and {} author descriptions in {} ms",
+                fromDisk ? "from disk" : "from the tables", books.size(), authors.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void openStores(String stamp) throws IOException {
+        Path path = Paths.get(directory);
+        Bm25Store oldBooks = books;
+        Bm25Store oldAuthors = authors;
+        // writes made while loading go to the new stores and take precedence over the loaded documents
+        books = new Bm25Store(path, "books", stamp, compactAfter);
+        authors = new Bm25Store(path, "authors", stamp, compactAfter);
+        close(oldBooks);
+        close(oldAuthors);
+    }
+
+    @PreDestroy
+    public void close() {
+        close(books);
+        close(authors);
+    }
+
+    private boolean loadFromDisk(Bm25Store store) {
+        try {
+            return store.loadFromDisk();
+        } catch (IOException e) {
+            log.warn("Full-text segment can't be read, it will be rebuilt from the tables: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // both stores are reloaded, documents read from a segment are replaced
+    private void loadFromTables() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setFetchSize(1000);
+
+            try (ResultSet rs = statement.executeQuery("select book_id, book_name, book_descr from book order by id")) {
+                while (rs.next()) {
+                    books.load(rs.getLong(1), new String[]{rs.getString(2)}, rs.getString(3));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "select author_id, first_name, second_name, author_descr from author order by id")) {
+                while (rs.next()) {
+                    authors.load(rs.getLong(1), new String[]{rs.getString(2), rs.getString(3)}, rs.getString(4));
+                }
+            }
+        }
+    }
+
+    // fingerprint and load time of the seed dataset, null if it was not loaded by the application
+    private String readStamp() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select fingerprint, loaded_at from seed_metadata")) {
+            return rs.next() ? rs.getString(1) + "@" + rs.getTimestamp(2) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static void close(Bm25Store store) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            log.warn("Full-text log can't be closed", e);
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package ua.com.epam.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant index of short texts (names), keyed by business ID.
+ * <p>
+ * Every distinct lower-cased word of the texts is a node of a BK-tree: the children of a
+ * node are keyed by their Levenshtein distance to it, so by the triangle inequality a
+ * search for words within distance {@code k} of the query word only descends into
+ * children keyed {@code d - k .. d + k}, where {@code d} is the distance to the node.
+ * Names share most of their words, so the tree is much smaller than the number of
+ * documents and a search visits a small part of it.
+ * <p>
+ * A document matches when each word of the query is within the allowed distance of some
+ * word of its text; documents are ranked by the sum of these distances. The allowed
+ * distance grows with the length of the query word, see {@link #maxDistance(int)}.
+ * <p>
+ * Words of removed documents stay in the tree to route searches until they outnumber
+ * the words in use, then the tree is rebuilt. Loading follows the same rules as
+ * {@link TrigramIndex}.
+ */
+public class FuzzyIndex {
+    private static final long[] NO_IDS = new long[0];
+    private static final int MIN_REBUILD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String[]> fieldsOf = new HashMap<>();
+    private final Map<Long, String> textOf = new HashMap<>();
+    private final Map<String, Node> nodeOf = new HashMap<>();
+
+    private Node root;
+    private int usedWords;
+    private Set<Long> touchedWhileLoading = new HashSet<>();
+
+    /**
+     * Adds the document or replaces the one with the same key.
+     */
+    public void put(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            addDoc(key, fields);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            if (nodeOf.size() > MIN_REBUILD && nodeOf.size() > 2 * usedWords) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a document read from the database, unless it was put or removed after
+     * loading has started.
+     */
+    public void load(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading == null) {
+                throw new IllegalStateException("Index is already loaded");
+            }
+            if (!touchedWhileLoading.contains(key)) {
+                addDoc(key, fields);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loaded() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fieldsOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * How many edits a query word of the given length may be away from a word of the text.
+     */
+    public static int maxDistance(int wordLength) {
+        return wordLength <= 2 ? 0 : wordLength <= 5 ? 1 : 2;
+    }
+
+    /**
+     * @return up to {@code limit} documents matching every word of the query with typos,
+     * the closest first, then in the order of their texts
+     */
+    public List<SearchHit> similarTo(String query, int limit) {
+        Set<String> words = new LinkedHashSet<>(words(query));
+        if (words.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            // summed distance of every document matching all the words so far
+            Map<Long, Integer> distances = null;
+            for (String word : words) {
+                Map<Long, Integer> matched = closest(word);
+                if (distances == null) {
+                    distances = matched;
+                } else {
+                    Map<Long, Integer> both = new HashMap<>();
+                    for (Map.Entry<Long, Integer> e : distances.entrySet()) {
+                        Integer d = matched.get(e.getKey());
+                        if (d != null) {
+                            both.put(e.getKey(), e.getValue() + d);
+                        }
+                    }
+                    distances = both;
+                }
+                if (distances.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            // the best hits go through a bounded heap, the worst of them on top
+            Comparator<Ranked> bestFirst = Comparator.comparingInt((Ranked r) -> r.distance)
+                    .thenComparing(r -> r.text)
+                    .thenComparingLong(r -> r.key);
+            PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.min(limit, distances.size()) + 1, bestFirst.reversed());
+            for (Map.Entry<Long, Integer> e : distances.entrySet()) {
+                Ranked ranked = new Ranked(e.getKey(), textOf.get(e.getKey()), e.getValue());
+                if (heap.size() < limit) {
+                    heap.add(ranked);
+                } else if (bestFirst.compare(ranked, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ranked);
+                }
+            }
+
+            List<Ranked> best = new ArrayList<>(heap);
+            best.sort(bestFirst);
+            List<SearchHit> hits = new ArrayList<>(best.size());
+            for (Ranked ranked : best) {
+                hits.add(new SearchHit(ranked.key, fieldsOf.get(ranked.key)));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // documents having a word within the allowed distance, with the distance of the closest one
+    private Map<Long, Integer> closest(String word) {
+        Map<Long, Integer> matched = new HashMap<>();
+        if (root == null) {
+            return matched;
+        }
+
+        int k = maxDistance(word.length());
+        Levenshtein levenshtein = new Levenshtein(word);
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            // beyond maxEdge + k neither the node nor any of its children can match
+            int d = levenshtein.distanceTo(node.word, node.maxEdge + k);
+            if (d <= k) {
+                for (int i = 0; i < node.idCount; i++) {
+                    matched.merge(node.ids[i], d, Math::min);
+                }
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                if (Math.abs(node.edges[i] - d) <= k) {
+                    toVisit.push(node.children[i]);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private void addDoc(long key, String[] fields) {
+        String text = String.join(" ", fields);
+        fieldsOf.put(key, fields);
+        textOf.put(key, text);
+        for (String word : words(text)) {
+            Node node = nodeOf.get(word);
+            if (node == null) {
+                node = new Node(word);
+                nodeOf.put(word, node);
+                attach(node);
+            }
+            if (node.addId(key)) {
+                usedWords++;
+            }
+        }
+    }
+
+    private void removeDoc(long key) {
+        fieldsOf.remove(key);
+        String text = textOf.remove(key);
+        if (text != null) {
+            for (String word : words(text)) {
+                Node node = nodeOf.get(word);
+                if (node != null && node.removeId(key)) {
+                    usedWords--;
+                }
+            }
+        }
+    }
+
+    private void attach(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node parent = root;
+        while (true) {
+            int d = Levenshtein.distance(node.word, parent.word);
+            Node child = parent.child(d);
+            if (child == null) {
+                parent.addChild(d, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    // keeps only the words still in use, re-inserted in random order to keep the tree balanced
+    private void rebuild() {
+        List<Node> used = new ArrayList<>(usedWords);
+        for (Node node : nodeOf.values()) {
+            if (node.idCount > 0) {
+                used.add(new Node(node));
+            }
+        }
+        Collections.shuffle(used);
+
+        root = null;
+        nodeOf.clear();
+        for (Node node : used) {
+            nodeOf.put(node.word, node);
+            attach(node);
+        }
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static class Ranked {
+        private final long key;
+        private final String text;
+        private final int distance;
+
+        private Ranked(long key, String text, int distance) {
+            this.key = key;
+            this.text = text;
+            this.distance = distance;
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        private long[] ids = NO_IDS;
+        private int idCount;
+        private int[] edges;
+        private Node[] children;
+        private int childCount;
+        private int maxEdge;
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        // a detached copy with the same documents
+        private Node(Node other) {
+            this.word = other.word;
+            this.ids = Arrays.copyOf(other.ids, other.idCount);
+            this.idCount = other.idCount;
+        }
+
+        private Node child(int edge) {
+            for (int i = 0; i < childCount; i++) {
+                if (edges[i] == edge) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int edge, Node child) {
+            if (children == null) {
+                edges = new int[4];
+                children = new Node[4];
+            } else if (childCount == children.length) {
+                edges = Arrays.copyOf(edges, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            edges[childCount] = edge;
+            children[childCount++] = child;
+            maxEdge = Math.max(maxEdge, edge);
+        }
+
+        // true if the node got its first document
+        private boolean addId(long id) {
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+            }
+            ids[idCount++] = id;
+            return idCount == 1;
+        }
+
+        // true if the node lost its last document
+        private boolean removeId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(ids, i + 1, ids, i, idCount - i - 1);
+                    idCount--;
+                    return idCount == 0;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Levenshtein distance from one word to many others, reusing the two rows of the
+     * dynamic programming table.
+     */
+    private static class Levenshtein {
+        private final String from;
+        private int[] previous;
+        private int[] current;
+
+        private Levenshtein(String from) {
+            this.from = from;
+            this.previous = new int[from.length() + 1];
+            this.current = new int[from.length() + 1];
+        }
+
+        private static int distance(String a, String b) {
+            return new Levenshtein(a).distanceTo(b, Integer.MAX_VALUE);
+        }
+
+        /**
+         * @return the distance, or any value greater than {@code bound} if it is greater
+         */
+        private int distanceTo(String to, int bound) {
+            if (Math.abs(from.length() - to.length()) > bound) {
+                return bound + 1;
+            }
+            for (int i = 0; i <= from.length(); i++) {
+                previous[i] = i;
+            }
+            for (int j = 1; j <= to.length(); j++) {
+                current[0] = j;
+                int rowMin = j;
+                char c = to.charAt(j - 1);
+                for (int i = 1; i <= from.length(); i++) {
+                    int substitution = previous[i - 1] + (from.charAt(i - 1) == c ? 0 : 1);
+                    current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+                    rowMin = Math.min(rowMin, current[i]);
+                }
+                // distances in the table never decrease from row to row
+                if (rowMin > bound) {
+                    return bound + 1;
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[from.length()];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ua.com.epam.search;
+
+import java.util.*;
+
+/**
+ * Picks the best search hits by how many leading words of the query their text starts
+ * with, ignoring case. Hits with the same number of words go in the order of their texts,
+ * and hits that start with none of them follow in the order they were found.
+ * <p>
+ * Every hit is scored once, comparing its text to the lowercased query prefixes in place,
+ * and offered to a min-heap holding the {@code limit} best hits seen so far, so ranking
+ * {@code n} hits takes O(n log limit) time and O(min(limit, n)) extra memory.
+ */
+public class PrefixRanking {
+    private static final Comparator<Scored> BEST_FIRST = (a, b) -> {
+        if (a.score != b.score) {
+            return Integer.compare(b.score, a.score);
+        }
+        if (a.score > 0) {
+            int byText = a.text.compareTo(b.text);
+            if (byText != 0) {
+                return byText;
+            }
+        }
+        return Integer.compare(a.position, b.position);
+    };
+
+    private final String[] prefixes;
+    private final int limit;
+
+    /**
+     * @param words words of the search query
+     * @param limit how many hits to keep
+     */
+    public PrefixRanking(List<String> words, int limit) {
+        // prefixes[i] is the first i + 1 words, each prefix starts the next one
+        this.prefixes = new String[words.size()];
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                prefix.append(' ');
+            }
+            prefix.append(words.get(i).toLowerCase(Locale.ROOT));
+            prefixes[i] = prefix.toString();
+        }
+        this.limit = limit;
+    }
+
+    public List<SearchHit> top(List<SearchHit> hits) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(limit, hits.size()) + 1, BEST_FIRST.reversed());
+
+        for (int position = 0; position < hits.size(); position++) {
+            SearchHit hit = hits.get(position);
+            String text = hit.getText();
+            int score = score(text);
+
+            if (heap.size() < limit) {
+                heap.add(new Scored(hit, text, score, position));
+            } else if (limit > 0 && isBetter(text, score, position, heap.peek())) {
+                heap.poll();
+                heap.add(new Scored(hit, text, score, position));
+            }
+        }
+
+        List<Scored> best = new ArrayList<>(heap);
+        best.sort(BEST_FIRST);
+
+        List<SearchHit> result = new ArrayList<>(best.size());
+        for (Scored scored : best) {
+            result.add(scored.hit);
+        }
+        return result;
+    }
+
+    // number of leading query words the text starts with, compared without lowercasing the text
+    private int score(String text) {
+        int score = 0;
+        while (score < prefixes.length && text.regionMatches(true, 0, prefixes[score], 0, prefixes[score].length())) {
+            score++;
+        }
+        return score;
+    }
+
+    // same order as BEST_FIRST, checked before a rejected hit gets allocated
+    private static boolean isBetter(String text, int score, int position, Scored worst) {
+        if (score != worst.score) {
+            return score > worst.score;
+        }
+        if (score > 0) {
+            int byText = text.compareTo(worst.text);
+            if (byText != 0) {
+                return byText < 0;
+            }
+        }
+        return position < worst.position;
+    }
+
+    private static class Scored {
+        private final SearchHit hit;
+        private final String text;
+        private final int score;
+        private final int position;
+
+        private Scored(SearchHit hit, String text, int score, int position) {
+            this.hit = hit;
+            this.text = text;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
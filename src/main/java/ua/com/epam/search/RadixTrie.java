@@ -0,0 +1,320 @@
+package ua.com.epam.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of lower-cased names for autocompletion, keyed by business ID.
+ * <p>
+ * Chains of single-child nodes are merged into one edge labelled with the whole string,
+ * so the trie has at most two nodes per name. Completing a prefix walks down its
+ * characters and then collects names depth-first in alphabetical order until the limit
+ * is reached: the cost depends on the prefix length and the limit, not on the number
+ * of names. With {@code everyWord} a name can be completed from any of its words.
+ * <p>
+ * Loading follows the same rules as {@link TrigramIndex}: documents put or removed while
+ * the index is loading take precedence over the loaded ones.
+ */
+public class RadixTrie {
+    private static final long[] NO_IDS = new long[0];
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final boolean everyWord;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, String[]> fieldsOf = new HashMap<>();
+
+    private Set<Long> touchedWhileLoading = new HashSet<>();
+
+    public RadixTrie(boolean everyWord) {
+        this.everyWord = everyWord;
+    }
+
+    /**
+     * Adds the document or replaces the one with the same key.
+     *
+     * @param fields texts of the document, completed as if joined by spaces
+     */
+    public void put(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            addDoc(key, fields);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a document read from the database, unless it was put or removed after
+     * loading has started.
+     */
+    public void load(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading == null) {
+                throw new IllegalStateException("Index is already loaded");
+            }
+            if (!touchedWhileLoading.contains(key)) {
+                addDoc(key, fields);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loaded() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fieldsOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} documents whose text (or any word of it, with
+     * {@code everyWord}) starts with the prefix, ignoring case, in alphabetical order
+     */
+    public List<SearchHit> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return new ArrayList<>();
+                }
+
+                int common = commonPrefix(child.label, key, i);
+                if (common < child.label.length() && i + common < key.length()) {
+                    return new ArrayList<>();
+                }
+                node = child;
+                i += common;
+            }
+
+            Set<Long> found = new LinkedHashSet<>();
+            collect(node, found, limit);
+
+            List<SearchHit> hits = new ArrayList<>(found.size());
+            for (long id : found) {
+                hits.add(new SearchHit(id, fieldsOf.get(id)));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean collect(Node node, Set<Long> found, int limit) {
+        for (int i = 0; i < node.idCount; i++) {
+            found.add(node.ids[i]);
+            if (found.size() >= limit) {
+                return true;
+            }
+        }
+        for (Node child : node.children) {
+            if (collect(child, found, limit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addDoc(long key, String[] fields) {
+        fieldsOf.put(key, fields);
+        for (String name : names(fields)) {
+            insert(name, key);
+        }
+    }
+
+    private void removeDoc(long key) {
+        String[] fields = fieldsOf.remove(key);
+        if (fields != null) {
+            for (String name : names(fields)) {
+                delete(name, key);
+            }
+        }
+    }
+
+    // the whole text, and with everyWord also the text from every following word on
+    private List<String> names(String[] fields) {
+        String text = normalize(String.join(" ", fields));
+        List<String> names = new ArrayList<>();
+        names.add(text);
+        if (everyWord) {
+            for (int i = 1; i < text.length(); i++) {
+                if (text.charAt(i - 1) == ' ' && text.charAt(i) != ' ') {
+                    names.add(text.substring(i));
+                }
+            }
+        }
+        return names;
+    }
+
+    private void insert(String name, long id) {
+        Node node = root;
+        int i = 0;
+        while (i < name.length()) {
+            int c = node.childIndex(name.charAt(i));
+            if (c < 0) {
+                Node leaf = new Node(name.substring(i));
+                leaf.addId(id);
+                node.addChild(leaf);
+                return;
+            }
+
+            Node child = node.children[c];
+            int common = commonPrefix(child.label, name, i);
+            if (common < child.label.length()) {
+                // the name leaves the edge half-way: split it
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                node.children[c] = middle;
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        node.addId(id);
+    }
+
+    private void delete(String name, long id) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int i = 0;
+        while (i < name.length()) {
+            Node child = node.child(name.charAt(i));
+            if (child == null || !name.startsWith(child.label, i)) {
+                return;
+            }
+            path.push(node);
+            node = child;
+            i += child.label.length();
+        }
+        node.removeId(id);
+
+        // drop nodes left without names and merge the ones left with a single child
+        while (!path.isEmpty() && node.idCount == 0 && node.children.length <= 1) {
+            Node parent = path.pop();
+            if (node.children.length == 0) {
+                parent.removeChild(node.label.charAt(0));
+            } else {
+                Node only = node.children[0];
+                only.label = node.label + only.label;
+                parent.children[parent.childIndex(node.label.charAt(0))] = only;
+            }
+            node = parent;
+        }
+    }
+
+    private static int commonPrefix(String label, String name, int from) {
+        int max = Math.min(label.length(), name.length() - from);
+        int i = 0;
+        while (i < max && label.charAt(i) == name.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private String label;
+        private long[] ids = NO_IDS;
+        private int idCount;
+        // children sorted by the first character of their labels
+        private char[] firsts = NO_CHARS;
+        private Node[] children = NO_NODES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int childIndex(char first) {
+            int i = Arrays.binarySearch(firsts, first);
+            return i >= 0 ? i : -1;
+        }
+
+        private Node child(char first) {
+            int i = childIndex(first);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private void addChild(Node child) {
+            int at = -Arrays.binarySearch(firsts, child.label.charAt(0)) - 1;
+            char[] newFirsts = new char[firsts.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newFirsts[at] = child.label.charAt(0);
+            newChildren[at] = child;
+            System.arraycopy(firsts, at, newFirsts, at + 1, firsts.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        private void removeChild(char first) {
+            int at = childIndex(first);
+            char[] newFirsts = new char[firsts.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(firsts, at + 1, newFirsts, at, firsts.length - at - 1);
+            System.arraycopy(children, at + 1, newChildren, at, children.length - at - 1);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        private void addId(long id) {
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+            }
+            ids[idCount++] = id;
+        }
+
+        private void removeId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(ids, i + 1, ids, i, idCount - i - 1);
+                    idCount--;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ua.com.epam.search;
+
+import lombok.Getter;
+
+/**
+ * Search hit together with its relevance score, the higher the better.
+ */
+@Getter
+public class ScoredHit extends SearchHit {
+    private final double score;
+
+    public ScoredHit(long key, String[] fields, double score) {
+        super(key, fields);
+        this.score = score;
+    }
+}
@@ -0,0 +1,18 @@
+package ua.com.epam.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Business ID of a found entity together with the indexed texts it was found by.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+    private final long key;
+    private final String[] fields;
+
+    public String getText() {
+        return fields.length == 1 ? fields[0] : String.join(" ", fields);
+    }
+}
@@ -0,0 +1,126 @@
+package ua.com.epam.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory {@link TrigramIndex}es over book names, author full names and genre names,
+ * {@link RadixTrie}s completing book and author names and {@link FuzzyIndex}es matching
+ * author and genre names with typos.
+ * <p>
+ * They are (re)loaded from the database whenever the dataset becomes ready and are kept
+ * in sync by the services on every create, update and delete. Until the first load is
+ * over {@link #isReady()} is {@code false} and searches have to go to the database.
+ */
+@Component
+public class SearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    private volatile TrigramIndex books = new TrigramIndex();
+    private volatile TrigramIndex authors = new TrigramIndex();
+    private volatile TrigramIndex genres = new TrigramIndex();
+    private volatile RadixTrie bookNames = new RadixTrie(false);
+    private volatile RadixTrie authorNames = new RadixTrie(true);
+    private volatile FuzzyIndex fuzzyAuthors = new FuzzyIndex();
+    private volatile FuzzyIndex fuzzyGenres = new FuzzyIndex();
+    private volatile boolean ready;
+
+    public TrigramIndex books() {
+        return books;
+    }
+
+    public TrigramIndex authors() {
+        return authors;
+    }
+
+    public TrigramIndex genres() {
+        return genres;
+    }
+
+    public RadixTrie bookNames() {
+        return bookNames;
+    }
+
+    public RadixTrie authorNames() {
+        return authorNames;
+    }
+
+    public FuzzyIndex fuzzyAuthors() {
+        return fuzzyAuthors;
+    }
+
+    public FuzzyIndex fuzzyGenres() {
+        return fuzzyGenres;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(DatasetReadyEvent.class)
+    public void reload() {
+        ready = false;
+        // writes made while loading go to the new indexes and take precedence over the loaded rows
+        books = new TrigramIndex();
+        authors = new TrigramIndex();
+        genres = new TrigramIndex();
+        bookNames = new RadixTrie(false);
+        authorNames = new RadixTrie(true);
+        fuzzyAuthors = new FuzzyIndex();
+        fuzzyGenres = new FuzzyIndex();
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setFetchSize(1000);
+
+            try (ResultSet rs = statement.executeQuery("select book_id, book_name from book order by id")) {
+                while (rs.next()) {
+                    books.load(rs.getLong(1), rs.getString(2));
+                    bookNames.load(rs.getLong(1), rs.getString(2));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("select author_id, first_name, second_name from author order by id")) {
+                while (rs.next()) {
+                    authors.load(rs.getLong(1), rs.getString(2), rs.getString(3));
+                    authorNames.load(rs.getLong(1), rs.getString(2), rs.getString(3));
+                    fuzzyAuthors.load(rs.getLong(1), rs.getString(2), rs.getString(3));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("select genre_id, genre_name from genre order by id")) {
+                while (rs.next()) {
+                    genres.load(rs.getLong(1), rs.getString(2));
+                    fuzzyGenres.load(rs.getLong(1), rs.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Search index load failed, searches keep going to the database", e);
+            return;
+        }
+
+        books.loaded();
+        authors.loaded();
+        genres.loaded();
+        bookNames.loaded();
+        authorNames.loaded();
+        fuzzyAuthors.loaded();
+        fuzzyGenres.loaded();
+        ready = true;
+
+        log.info("Search index loaded: {} books, {} authors, {} genres in {} ms",
+                books.size(), authors.size(), genres.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,247 @@
+package ua.com.epam.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive substring index over short texts (names), keyed by business ID.
+ * <p>
+ * Every document is split into the trigrams of its lower-cased text, and every trigram
+ * keeps a posting list of the documents containing it. A substring of 3+ characters can
+ * only occur in documents holding all of its trigrams, so a lookup intersects the posting
+ * lists of the substring (starting from the shortest one) and then checks the few
+ * candidates left. Its cost depends on the posting list sizes, not on the number of
+ * documents. Shorter substrings have no trigram to look up and are matched by scanning.
+ * <p>
+ * Updates and removals leave the old document behind as a tombstone that lookups skip;
+ * the index is compacted once tombstones outnumber live documents.
+ */
+public class TrigramIndex {
+    private static final int MIN_COMPACTED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Integer> docOf = new HashMap<>();
+    private long[] keys = new long[16];
+    private String[][] fields = new String[16][];
+    private int docs;
+    private int tombstones;
+    private Map<Long, Postings> postings = new HashMap<>();
+
+    // while the index is being loaded, keys written by the application win over the loaded rows
+    private Set<Long> touchedWhileLoading = new HashSet<>();
+
+    /**
+     * Adds the document or replaces the one with the same key.
+     *
+     * @param fields texts of the document, indexed as if joined by spaces
+     */
+    public void put(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+            addDoc(key, fields);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(key);
+            }
+            removeDoc(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a document read from the database, unless it was put or removed after
+     * loading has started.
+     */
+    public void load(long key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileLoading == null) {
+                throw new IllegalStateException("Index is already loaded");
+            }
+            if (!touchedWhileLoading.contains(key)) {
+                addDoc(key, fields);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loaded() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return documents containing at least one of the substrings, ignoring case,
+     * in the order they were added
+     */
+    public List<SearchHit> containingAny(Collection<String> substrings) {
+        lock.readLock().lock();
+        try {
+            SortedSet<Integer> matched = new TreeSet<>();
+            for (String substring : substrings) {
+                String needle = normalize(substring);
+                if (needle.length() < 3) {
+                    scan(needle, matched);
+                } else {
+                    lookup(needle, matched);
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(matched.size());
+            for (int doc : matched) {
+                hits.add(new SearchHit(keys[doc], fields[doc]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void lookup(String needle, SortedSet<Integer> matched) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            Postings list = postings.get(trigram(needle, i));
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+
+        Postings shortest = lists.get(0);
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.docs[i];
+            if (fields[doc] == null || matched.contains(doc)) {
+                continue;
+            }
+            for (int l = 1; l < lists.size(); l++) {
+                if (!lists.get(l).contains(doc)) {
+                    continue candidates;
+                }
+            }
+            if (text(doc).contains(needle)) {
+                matched.add(doc);
+            }
+        }
+    }
+
+    private void scan(String needle, SortedSet<Integer> matched) {
+        for (int doc = 0; doc < docs; doc++) {
+            if (fields[doc] != null && text(doc).contains(needle)) {
+                matched.add(doc);
+            }
+        }
+    }
+
+    private void addDoc(long key, String[] texts) {
+        if (docs == keys.length) {
+            keys = Arrays.copyOf(keys, docs * 2);
+            fields = Arrays.copyOf(fields, docs * 2);
+        }
+
+        int doc = docs++;
+        keys[doc] = key;
+        fields[doc] = texts;
+        docOf.put(key, doc);
+
+        String text = text(doc);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            long trigram = trigram(text, i);
+            if (seen.add(trigram)) {
+                postings.computeIfAbsent(trigram, t -> new Postings()).add(doc);
+            }
+        }
+    }
+
+    private void removeDoc(long key) {
+        Integer doc = docOf.remove(key);
+        if (doc == null) {
+            return;
+        }
+
+        fields[doc] = null;
+        if (++tombstones > Math.max(MIN_COMPACTED, docOf.size())) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        long[] oldKeys = keys;
+        String[][] oldFields = fields;
+        int oldDocs = docs;
+
+        keys = new long[Math.max(16, docOf.size())];
+        docOf = new HashMap<>();
+        fields = new String[keys.length][];
+        docs = 0;
+        tombstones = 0;
+        postings = new HashMap<>();
+
+        for (int doc = 0; doc < oldDocs; doc++) {
+            if (oldFields[doc] != null) {
+                addDoc(oldKeys[doc], oldFields[doc]);
+            }
+        }
+    }
+
+    private String text(int doc) {
+        return normalize(String.join(" ", fields[doc]));
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String text, int from) {
+        return ((long) text.charAt(from) << 32) | ((long) text.charAt(from + 1) << 16) | text.charAt(from + 2);
+    }
+
+    /**
+     * Growable, ascending list of document numbers.
+     */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+}
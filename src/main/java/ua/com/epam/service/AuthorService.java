@@ -3,24 +3,48 @@ package ua.com.epam.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import ua.com.epam.entity.Author;
+import ua.com.epam.entity.dto.author.AuthorDescriptionHitDto;
 import ua.com.epam.entity.dto.author.AuthorDto;
+import ua.com.epam.entity.dto.author.AuthorSuggestionDto;
+import ua.com.epam.entity.dto.author.nested.NameDto;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
 import ua.com.epam.exception.entity.author.AuthorAlreadyExistsException;
 import ua.com.epam.exception.entity.author.AuthorNotFoundException;
 import ua.com.epam.exception.entity.author.BooksInAuthorArePresentException;
 import ua.com.epam.exception.entity.book.BookNotFoundException;
 import ua.com.epam.exception.entity.genre.GenreNotFoundException;
+import ua.com.epam.exception.entity.search.SearchIndexIsLoadingException;
 import ua.com.epam.exception.entity.search.SearchQueryIsBlankException;
 import ua.com.epam.exception.entity.search.SearchQueryIsTooShortException;
 import ua.com.epam.repository.*;
+import ua.com.epam.repository.projection.Fieldset;
+import ua.com.epam.search.DescriptionIndex;
+import ua.com.epam.search.SearchHit;
+import ua.com.epam.search.SearchIndex;
+import ua.com.epam.service.cache.EntityCache;
+import ua.com.epam.service.cache.EntityIds;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.cache.GenreCatalog;
+import ua.com.epam.service.cache.LongHashSet;
+import ua.com.epam.service.cache.SearchResultCache;
 import ua.com.epam.service.mapper.DtoToModelMapper;
 import ua.com.epam.service.mapper.ModelToDtoMapper;
+import ua.com.epam.service.util.BatchStatuses;
+import ua.com.epam.service.util.KeysetPage;
 
+import javax.validation.Validator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,15 +53,45 @@ public class AuthorService {
     @Autowired
     private AuthorRepository authorRepository;
 
-    @Autowired
-    private GenreRepository genreRepository;
-
     @Autowired
     private BookRepository bookRepository;
 
     @Autowired
     private SearchFor searchFor;
 
+    @Autowired
+    private SeekFor seekFor;
+
+    @Autowired
+    private SelectFor selectFor;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private DescriptionIndex descriptionIndex;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private GenreCatalog genreCatalog;
+
+    @Autowired
+    private EntityIds entityIds;
+
+    @Autowired
+    private BatchInsert batchInsert;
+
+    @Autowired
+    private Validator validator;
+
     @Autowired
     private ModelToDtoMapper toDtoMapper;
 
@@ -54,15 +108,23 @@ public class AuthorService {
                 .collect(Collectors.toList());
     }
 
+    public void checkAuthorExists(long authorId) {
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
+            throw new AuthorNotFoundException(authorId);
+        }
+    }
+
     public AuthorDto findAuthor(long authorId) {
-        Author toGet = authorRepository.getOneByAuthorId(authorId)
-                .orElseThrow(() -> new AuthorNotFoundException(authorId));
+        return entityCache.get(EntityType.AUTHOR, authorId, id -> {
+            Author toGet = authorRepository.getOneByAuthorId(id)
+                    .orElseThrow(() -> new AuthorNotFoundException(id));
 
-        return toDtoMapper.mapAuthorToAuthorDto(toGet);
+            return toDtoMapper.mapAuthorToAuthorDto(toGet);
+        });
     }
 
     public AuthorDto findAuthorOfBook(long bookId) {
-        if (!bookRepository.existsByBookId(bookId)) {
+        if (!entityIds.exists(EntityType.BOOK, bookId, bookRepository::existsByBookId)) {
             throw new BookNotFoundException(bookId);
         }
 
@@ -71,42 +133,58 @@ public class AuthorService {
         return toDtoMapper.mapAuthorToAuthorDto(toGet);
     }
 
-    public List<AuthorDto> findAllAuthors(String sortBy, String order, int page, int size, boolean pageable) {
-        Sort.Direction direction = resolveDirection(order);
+    public KeysetPage<?> findAllAuthors(String sortBy, String order, int page, int size, boolean pageable, String cursor,
+                                        Fieldset fields) {
         String sortParam = JsonKeysConformity.getPropNameByJsonKey(sortBy);
-        Sort sorter = Sort.by(direction, sortParam);
+        Keyset<Author> keyset = new Keyset<>(Author.class, "authorId", sortParam, resolveDirection(order));
+        String selection = fields.selection(keyset.getIdProperty(), keyset.getSortProperty());
 
-        List<Author> authors;
+        List<?> authors;
 
         if (!pageable) {
-            authors = authorRepository.findAll(sorter);
+            return new KeysetPage<>(fields.toJson(selectFor.rows(selection, fields.getRowClass(), "Author t",
+                    Collections.emptyMap(), keyset.toSort())), null);
+        } else if (cursor != null) {
+            authors = seekFor.pageAfter(keyset, cursor, size, selection, fields.getRowClass());
         } else {
-            authors = authorRepository.getAllAuthors(PageRequest.of(page - 1, size, sorter));
+            authors = selectFor.rows(selection, fields.getRowClass(), "Author t", Collections.emptyMap(),
+                    PageRequest.of(page - 1, size, keyset.toSort()));
         }
 
-        return mapToDto(authors);
+        return new KeysetPage<>(fields.toJson(authors), seekFor.nextCursor(keyset, authors, size));
     }
 
-    public List<AuthorDto> searchForExistedAuthors(String searchQuery) {
-        List<Author> result = new ArrayList<>();
-
+    public List<AuthorDto> searchForExistedAuthors(String searchQuery, boolean fuzzy) {
         searchQuery = searchQuery.trim();
 
         if (searchQuery.isEmpty()) throw new SearchQueryIsBlankException();
         else if (searchQuery.length() <= 2) throw new SearchQueryIsTooShortException(searchQuery, 3);
 
+        // typos can only be told apart with the index, until it is loaded substrings are searched
+        boolean typos = fuzzy && searchIndex.isReady();
+        String query = searchQuery;
+        return searchResultCache.get(EntityType.AUTHOR, query, "fuzzy=" + typos, () -> rankAuthors(query, typos));
+    }
+
+    private List<AuthorDto> rankAuthors(String searchQuery, boolean typos) {
+        if (typos) {
+            return findAuthorsInOrder(searchIndex.fuzzyAuthors().similarTo(searchQuery, 5));
+        }
+
+        List<SearchHit> result = new ArrayList<>();
         List<String> splitQuery = Arrays.asList(searchQuery.split(" "));
-        List<Author> searched = searchFor.authors(searchQuery, splitQuery);
+        List<SearchHit> searched = searchAuthors(searchQuery, splitQuery);
 
         if (searched.isEmpty()) return new ArrayList<>();
 
+        // hit fields are the first and the second name
         for (String word : splitQuery) {
             searched.stream()
-                    .filter(a -> a.getFirstName().startsWith(word))
+                    .filter(a -> a.getFields()[0].regionMatches(true, 0, word, 0, word.length()))
                     .forEach(result::add);
 
             searched.stream()
-                    .filter(a -> a.getSecondName().startsWith(word))
+                    .filter(a -> a.getFields()[1].regionMatches(true, 0, word, 0, word.length()))
                     .forEach(result::add);
 
             searched.removeAll(result);
@@ -114,13 +192,69 @@ public class AuthorService {
 
         result.addAll(searched);
 
-        return mapToDto(result.stream()
+        return findAuthorsInOrder(result.stream()
                 .limit(5)
                 .collect(Collectors.toList()));
     }
 
-    public List<AuthorDto> findAllAuthorsInGenre(long genreId, String sortBy, String order, int page, int size, boolean pageable) {
-        if (!genreRepository.existsByGenreId(genreId)) {
+    // full names containing the query or any of its words, from the index once it is loaded
+    private List<SearchHit> searchAuthors(String searchQuery, List<String> splitQuery) {
+        if (searchIndex.isReady()) {
+            List<String> substrings = new ArrayList<>(splitQuery);
+            substrings.add(0, searchQuery);
+            return searchIndex.authors().containingAny(substrings);
+        }
+
+        return searchFor.authors(searchQuery, splitQuery).stream()
+                .map(a -> new SearchHit(a.getAuthorId(), new String[]{a.getFirstName(), a.getSecondName()}))
+                .collect(Collectors.toList());
+    }
+
+    public List<AuthorSuggestionDto> suggestAuthors(String prefix, int limit) {
+        prefix = prefix.trim();
+        if (prefix.isEmpty()) throw new SearchQueryIsBlankException();
+
+        if (searchIndex.isReady()) {
+            return searchIndex.authorNames().complete(prefix, limit).stream()
+                    .map(h -> new AuthorSuggestionDto(h.getKey(), new NameDto(h.getFields()[0], h.getFields()[1])))
+                    .collect(Collectors.toList());
+        }
+
+        return authorRepository.getAllByFirstNameStartingWithIgnoreCaseOrSecondNameStartingWithIgnoreCase(prefix, prefix,
+                PageRequest.of(0, limit, Sort.by("firstName", "secondName", "authorId")))
+                .stream()
+                .map(a -> new AuthorSuggestionDto(a.getAuthorId(), new NameDto(a.getFirstName(), a.getSecondName())))
+                .collect(Collectors.toList());
+    }
+
+    public List<AuthorDescriptionHitDto> searchAuthorDescriptions(String searchQuery, int limit) {
+        searchQuery = searchQuery.trim();
+        if (searchQuery.isEmpty()) throw new SearchQueryIsBlankException();
+
+        // answered by the index alone, there is no table to fall back to
+        if (!descriptionIndex.isReady()) throw new SearchIndexIsLoadingException();
+
+        return descriptionIndex.authors().top(searchQuery, limit).stream()
+                .map(h -> new AuthorDescriptionHitDto(h.getKey(), new NameDto(h.getFields()[0], h.getFields()[1]), h.getScore()))
+                .collect(Collectors.toList());
+    }
+
+    private List<AuthorDto> findAuthorsInOrder(List<SearchHit> hits) {
+        Map<Long, Author> found = authorRepository.getAllByAuthorIdIn(hits.stream()
+                .map(SearchHit::getKey)
+                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Author::getAuthorId, a -> a));
+
+        return mapToDto(hits.stream()
+                .map(h -> found.get(h.getKey()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    public List<?> findAllAuthorsInGenre(long genreId, String sortBy, String order, int page, int size, boolean pageable,
+                                         Fieldset fields) {
+        if (!genreCatalog.contains(genreId)) {
             throw new GenreNotFoundException(genreId);
         }
 
@@ -128,53 +262,105 @@ public class AuthorService {
         String sortParam = JsonKeysConformity.getPropNameByJsonKey(sortBy);
         Sort sorter = Sort.by(direction, sortParam);
 
-        List<Author> authors;
+        // DISTINCT needs the ID to tell authors apart and the ordering column to sort on
+        String selection = "DISTINCT " + fields.selection("authorId", sortParam);
+        String from = "Author t JOIN Book b ON t.authorId = b.authorId AND b.genreId = :genreId";
+        Map<String, Object> params = Collections.singletonMap("genreId", genreId);
+        List<?> authors;
 
         if (!pageable) {
-            authors = authorRepository.findAll(sorter);
+            authors = selectFor.rows(selection, fields.getRowClass(), from, params, sorter);
         } else {
-            authors = authorRepository.getAllAuthorsInGenre(genreId, PageRequest.of(page - 1, size, sorter));
+            authors = selectFor.rows(selection, fields.getRowClass(), from, params, PageRequest.of(page - 1, size, sorter));
         }
 
-        return mapToDto(authors);
+        return fields.toJson(authors);
     }
 
     public AuthorDto addNewAuthor(AuthorDto author) {
-        if (authorRepository.existsByAuthorId(author.getAuthorId())) {
+        if (entityIds.exists(EntityType.AUTHOR, author.getAuthorId(), authorRepository::existsByAuthorId)) {
             throw new AuthorAlreadyExistsException();
         }
 
         Author toPost = toModelMapper.mapAuthorDtoToAuthor(author);
         Author response = authorRepository.save(toPost);
+        indexAuthor(response);
+        entityIds.add(EntityType.AUTHOR, response.getAuthorId());
+        entityVersions.bump(EntityType.AUTHOR);
 
         return toDtoMapper.mapAuthorToAuthorDto(response);
     }
 
-    public AuthorDto updateExistedAuthor(AuthorDto authorDto) {
-        Optional<Author> opt = authorRepository.getOneByAuthorId(authorDto.getAuthorId());
+    /**
+     * Creates every valid author of the batch whose ID is not taken yet, all in one transaction.
+     *
+     * @return the status of every item, in the order of the items
+     */
+    public List<BatchItemStatusDto> addNewAuthors(List<AuthorDto> items) {
+        BatchStatuses statuses = new BatchStatuses(items.size());
+        LongHashSet batchAuthorIds = new LongHashSet(items.size());
+
+        List<Author> toPost = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            AuthorDto item = items.get(i);
+            Long authorId = item == null ? null : item.getAuthorId();
+
+            if (!statuses.validate(i, authorId, item, validator)) {
+                continue;
+            }
+
+            if (!batchAuthorIds.add(authorId)
+                    || entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
+                statuses.reject(i, authorId, HttpStatus.CONFLICT, "Author with such 'authorId' already exists!");
+            } else {
+                toPost.add(toModelMapper.mapAuthorDtoToAuthor(item));
+                positions.add(i);
+            }
+        }
 
-        if (!opt.isPresent()) {
-            throw new AuthorNotFoundException(authorDto.getAuthorId());
+        batchInsert.persistAll(toPost);
+
+        for (int i = 0; i < toPost.size(); i++) {
+            Author created = toPost.get(i);
+            indexAuthor(created);
+            entityIds.add(EntityType.AUTHOR, created.getAuthorId());
+            statuses.created(positions.get(i), created.getAuthorId());
         }
+        if (!toPost.isEmpty()) {
+            entityVersions.bump(EntityType.AUTHOR);
+        }
+
+        return statuses.toList();
+    }
 
-        Author proxy = opt.get();
+    public AuthorDto updateExistedAuthor(AuthorDto authorDto) {
+        Author updated = toModelMapper.mapAuthorDtoToAuthor(authorDto);
 
-        proxy.setFirstName(authorDto.getAuthorName().getFirst());
-        proxy.setSecondName(authorDto.getAuthorName().getSecond());
-        proxy.setDescription(authorDto.getAuthorDescription());
-        proxy.setNationality(authorDto.getNationality());
-        proxy.setBirthDate(authorDto.getBirth().getDate());
-        proxy.setBirthCity(authorDto.getBirth().getCity());
-        proxy.setBirthCountry(authorDto.getBirth().getCountry());
+        if (authorRepository.updateAuthor(updated) == 0) {
+            throw new AuthorNotFoundException(authorDto.getAuthorId());
+        }
 
-        Author updated = authorRepository.save(proxy);
+        indexAuthor(updated);
+        entityCache.invalidate(EntityType.AUTHOR, updated.getAuthorId());
+        entityVersions.bump(EntityType.AUTHOR);
 
         return toDtoMapper.mapAuthorToAuthorDto(updated);
     }
 
+    private void indexAuthor(Author author) {
+        searchIndex.authors().put(author.getAuthorId(), author.getFirstName(), author.getSecondName());
+        searchIndex.fuzzyAuthors().put(author.getAuthorId(), author.getFirstName(), author.getSecondName());
+        descriptionIndex.authors().put(author.getAuthorId(), new String[]{author.getFirstName(), author.getSecondName()},
+                author.getDescription());
+        searchIndex.authorNames().put(author.getAuthorId(), author.getFirstName(), author.getSecondName());
+    }
+
     public void deleteExistedAuthor(long authorId, boolean forcibly) {
-        Author toDelete = authorRepository.getOneByAuthorId(authorId)
-                .orElseThrow(() -> new AuthorNotFoundException(authorId));
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
+            throw new AuthorNotFoundException(authorId);
+        }
 
         long booksCount = bookRepository.getAllBooksOfAuthorCount(authorId);
 
@@ -182,6 +368,30 @@ public class AuthorService {
             throw new BooksInAuthorArePresentException(authorId, booksCount);
         }
 
-        authorRepository.delete(toDelete);
+        List<Long> bookIds = booksCount > 0 ? bookRepository.getAllBookIdsOfAuthor(authorId) : Collections.emptyList();
+        // deleted by someone else since the check
+        if (authorRepository.deleteAuthor(authorId) == 0) {
+            throw new AuthorNotFoundException(authorId);
+        }
+        searchIndex.authors().remove(authorId);
+        searchIndex.fuzzyAuthors().remove(authorId);
+        descriptionIndex.authors().remove(authorId);
+        searchIndex.authorNames().remove(authorId);
+        entityIds.remove(EntityType.AUTHOR, authorId);
+        entityCache.invalidate(EntityType.AUTHOR, authorId);
+        entityVersions.bump(EntityType.AUTHOR);
+        if (booksCount > 0) {
+            // the books of the author are deleted along with it only where the schema cascades the delete
+            Set<Long> remaining = new HashSet<>(bookRepository.getAllBookIdsOfAuthor(authorId));
+            bookIds.removeIf(remaining::contains);
+            for (long bookId : bookIds) {
+                searchIndex.books().remove(bookId);
+                searchIndex.bookNames().remove(bookId);
+                descriptionIndex.books().remove(bookId);
+            }
+            entityIds.removeAll(EntityType.BOOK, bookIds);
+            entityCache.invalidateAll(EntityType.BOOK);
+            entityVersions.bump(EntityType.BOOK);
+        }
     }
 }
\ No newline at end of file
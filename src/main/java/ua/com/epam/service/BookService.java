@@ -3,22 +3,42 @@ package ua.com.epam.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import ua.com.epam.entity.Book;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
+import ua.com.epam.entity.dto.book.BookBatchItemDto;
+import ua.com.epam.entity.dto.book.BookDescriptionHitDto;
 import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.entity.dto.book.BookSuggestionDto;
 import ua.com.epam.exception.entity.author.AuthorNotFoundException;
 import ua.com.epam.exception.entity.book.BookAlreadyExistsException;
 import ua.com.epam.exception.entity.book.BookNotFoundException;
 import ua.com.epam.exception.entity.genre.GenreNotFoundException;
+import ua.com.epam.exception.entity.search.SearchIndexIsLoadingException;
 import ua.com.epam.exception.entity.search.SearchQueryIsBlankException;
 import ua.com.epam.exception.entity.search.SearchQueryIsTooShortException;
 import ua.com.epam.repository.*;
+import ua.com.epam.repository.projection.Fieldset;
+import ua.com.epam.search.DescriptionIndex;
+import ua.com.epam.search.PrefixRanking;
+import ua.com.epam.search.SearchHit;
+import ua.com.epam.search.SearchIndex;
+import ua.com.epam.service.cache.EntityCache;
+import ua.com.epam.service.cache.EntityIds;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.cache.GenreCatalog;
+import ua.com.epam.service.cache.LongHashSet;
+import ua.com.epam.service.cache.SearchResultCache;
 import ua.com.epam.service.mapper.DtoToModelMapper;
 import ua.com.epam.service.mapper.ModelToDtoMapper;
+import ua.com.epam.service.util.BatchStatuses;
+import ua.com.epam.service.util.KeysetPage;
 
+import javax.validation.Validator;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 public class BookService {
@@ -30,10 +50,40 @@ public class BookService {
     private AuthorRepository authorRepository;
 
     @Autowired
-    private GenreRepository genreRepository;
+    private SearchFor searchFor;
 
     @Autowired
-    private SearchFor searchFor;
+    private SeekFor seekFor;
+
+    @Autowired
+    private SelectFor selectFor;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private DescriptionIndex descriptionIndex;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private GenreCatalog genreCatalog;
+
+    @Autowired
+    private EntityIds entityIds;
+
+    @Autowired
+    private BatchInsert batchInsert;
+
+    @Autowired
+    private Validator validator;
 
     @Autowired
     private ModelToDtoMapper toDtoMapper;
@@ -51,67 +101,53 @@ public class BookService {
                 .collect(Collectors.toList());
     }
 
+    public void checkBookExists(long bookId) {
+        if (!entityIds.exists(EntityType.BOOK, bookId, bookRepository::existsByBookId)) {
+            throw new BookNotFoundException(bookId);
+        }
+    }
+
     public BookDto findBook(long bookId) {
-        Book book = bookRepository.getOneByBookId(bookId)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
+        return entityCache.get(EntityType.BOOK, bookId, id -> {
+            Book book = bookRepository.getOneByBookId(id)
+                    .orElseThrow(() -> new BookNotFoundException(id));
 
-        return toDtoMapper.mapBookToBookDto(book);
+            return toDtoMapper.mapBookToBookDto(book);
+        });
     }
 
-    public List<BookDto> findAllBooks(String sortBy, String order, int page, int size, boolean pageable) {
+    private String resolveSortParameter(String sortBy) {
         if (sortBy.equalsIgnoreCase("square")) {
-            return findAllBooksSortedBySquare(order, page, size, pageable);
+            return "square";
         } else if (sortBy.equalsIgnoreCase("volume")) {
-            return findAllBooksSortedByVolume(order, page, size, pageable);
-        }
-
-        String sortParameter = JsonKeysConformity.getPropNameByJsonKey(sortBy);
-        Sort.Direction direction = resolveDirection(order);
-        Sort sorter = Sort.by(direction, sortParameter);
-
-        List<Book> books;
-
-        if (!pageable) {
-            books = bookRepository.findAll(sorter);
-        } else {
-            books = bookRepository.getAllBooks(PageRequest.of(page - 1, size, sorter));
-        }
-
-        return mapToDto(books);
-    }
-
-    private List<BookDto> findAllBooksSortedBySquare(String order, int page, int size, boolean pageable) {
-        Sort.Direction direction = resolveDirection(order);
-        Sort sorter = Sort.by(direction, "square");
-
-        List<Book> books;
-
-        if (!pageable) {
-            books = bookRepository.findAll(sorter);
-        } else {
-            books = bookRepository.getAllBooks(PageRequest.of(page - 1, size, sorter));
+            return "volume";
         }
-
-        return mapToDto(books);
+        return JsonKeysConformity.getPropNameByJsonKey(sortBy);
     }
 
-    private List<BookDto> findAllBooksSortedByVolume(String order, int page, int size, boolean pageable) {
-        Sort.Direction direction = resolveDirection(order);
-        Sort sorter = Sort.by(direction, "volume");
+    public KeysetPage<?> findAllBooks(String sortBy, String order, int page, int size, boolean pageable, String cursor,
+                                      Fieldset fields) {
+        Keyset<Book> keyset = new Keyset<>(Book.class, "bookId", resolveSortParameter(sortBy), resolveDirection(order));
+        String selection = fields.selection(keyset.getIdProperty(), keyset.getSortProperty());
 
-        List<Book> books;
+        List<?> books;
 
         if (!pageable) {
-            books = bookRepository.findAll(sorter);
+            return new KeysetPage<>(fields.toJson(selectFor.rows(selection, fields.getRowClass(), "Book t",
+                    Collections.emptyMap(), keyset.toSort())), null);
+        } else if (cursor != null) {
+            books = seekFor.pageAfter(keyset, cursor, size, selection, fields.getRowClass());
         } else {
-            books = bookRepository.getAllBooks(PageRequest.of(page - 1, size, sorter));
+            books = selectFor.rows(selection, fields.getRowClass(), "Book t", Collections.emptyMap(),
+                    PageRequest.of(page - 1, size, keyset.toSort()));
         }
 
-        return mapToDto(books);
+        return new KeysetPage<>(fields.toJson(books), seekFor.nextCursor(keyset, books, size));
     }
 
-    public List<BookDto> findBooksInGenre(long genreId, String sortBy, String order, int page, int size, boolean pageable) {
-        if (!genreRepository.existsByGenreId(genreId)) {
+    public List<?> findBooksInGenre(long genreId, String sortBy, String order, int page, int size, boolean pageable,
+                                    Fieldset fields) {
+        if (!genreCatalog.contains(genreId)) {
             throw new GenreNotFoundException(genreId);
         }
 
@@ -119,19 +155,22 @@ public class BookService {
         String sortParameter = JsonKeysConformity.getPropNameByJsonKey(sortBy);
         Sort sorter = Sort.by(direction, sortParameter);
 
-        List<Book> books;
+        String from = "Book t WHERE t.genreId = :genreId";
+        Map<String, Object> params = Collections.singletonMap("genreId", genreId);
+        List<?> books;
 
         if (!pageable) {
-            books = bookRepository.findAll(sorter);
+            books = selectFor.rows(fields.selection(), fields.getRowClass(), from, params, sorter);
         } else {
-            books = bookRepository.getAllBooksInGenre(genreId, PageRequest.of(page - 1, size, sorter));
+            books = selectFor.rows(fields.selection(), fields.getRowClass(), from, params,
+                    PageRequest.of(page - 1, size, sorter));
         }
 
-        return mapToDto(books);
+        return fields.toJson(books);
     }
 
-    public List<BookDto> findAuthorBooks(long authorId, String sortBy, String order) {
-        if (!authorRepository.existsByAuthorId(authorId)) {
+    public List<?> findAuthorBooks(long authorId, String sortBy, String order, Fieldset fields) {
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
             throw new AuthorNotFoundException(authorId);
         }
 
@@ -139,24 +178,27 @@ public class BookService {
         String sortParameter = JsonKeysConformity.getPropNameByJsonKey(sortBy);
         Sort sorter = Sort.by(direction, sortParameter);
 
-        return mapToDto(bookRepository.getAllAuthorBooksOrdered(authorId, sorter));
+        return fields.toJson(selectFor.rows(fields.selection(), fields.getRowClass(),
+                "Book t WHERE t.authorId = :authorId", Collections.singletonMap("authorId", authorId), sorter));
     }
 
-    public List<BookDto> findBooksOfAuthorInGenre(long authorId, long genreId) {
-        if (!authorRepository.existsByAuthorId(authorId)) {
+    public List<?> findBooksOfAuthorInGenre(long authorId, long genreId, Fieldset fields) {
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
             throw new AuthorNotFoundException(authorId);
         }
 
-        if (!genreRepository.existsByGenreId(genreId)) {
+        if (!genreCatalog.contains(genreId)) {
             throw new GenreNotFoundException(genreId);
         }
 
-        return mapToDto(bookRepository.getAllAuthorBooksInGenre(authorId, genreId));
+        Map<String, Object> params = new HashMap<>();
+        params.put("authorId", authorId);
+        params.put("genreId", genreId);
+        return fields.toJson(selectFor.rows(fields.selection(), fields.getRowClass(),
+                "Book t WHERE t.authorId = :authorId AND t.genreId = :genreId", params, Sort.unsorted()));
     }
 
-    public List<BookDto> searchForExistedBooks(String searchQuery) {
-        List<Book> result = new ArrayList<>();
-
+    public List<BookDto> searchForExistedBooks(String searchQuery, int limit) {
         searchQuery = searchQuery.trim();
         if (searchQuery.isEmpty()) {
             throw new SearchQueryIsBlankException();
@@ -164,50 +206,88 @@ public class BookService {
             throw new SearchQueryIsTooShortException(searchQuery, 5);
         }
 
+        String query = searchQuery;
+        return searchResultCache.get(EntityType.BOOK, query, "limit=" + limit, () -> rankBooks(query, limit));
+    }
+
+    private List<BookDto> rankBooks(String searchQuery, int limit) {
         List<String> splitQuery = Arrays.asList(searchQuery.split(" "));
-        List<Book> searched = searchFor.books(searchQuery, splitQuery);
+        List<SearchHit> searched = searchBooks(searchQuery, splitQuery);
+
+        return findBooksInOrder(new PrefixRanking(splitQuery, limit).top(searched));
+    }
 
-        if (searched.isEmpty()) {
-            return new ArrayList<>();
+    // book names containing the query or any of its words, from the index once it is loaded
+    private List<SearchHit> searchBooks(String searchQuery, List<String> splitQuery) {
+        if (searchIndex.isReady()) {
+            List<String> substrings = new ArrayList<>(splitQuery);
+            substrings.add(0, searchQuery);
+            return searchIndex.books().containingAny(substrings);
         }
 
-        for (int i = splitQuery.size(); i > 0; i--) {
-            String partial = splitQuery.stream()
-                    .limit(i)
-                    .collect(Collectors.joining(" "));
+        return searchFor.books(searchQuery, splitQuery).stream()
+                .map(b -> new SearchHit(b.getBookId(), new String[]{b.getBookName()}))
+                .collect(Collectors.toList());
+    }
 
-            List<Book> filtered = searched.stream()
-                    .filter(b -> b.getBookName().toLowerCase().startsWith(partial.toLowerCase()))
-                    .sorted(Comparator.comparing(Book::getBookName)).collect(Collectors.toList());
+    public List<BookSuggestionDto> suggestBooks(String prefix, int limit) {
+        prefix = prefix.trim();
+        if (prefix.isEmpty()) {
+            throw new SearchQueryIsBlankException();
+        }
 
-            result.addAll(filtered);
+        if (searchIndex.isReady()) {
+            return searchIndex.bookNames().complete(prefix, limit).stream()
+                    .map(h -> new BookSuggestionDto(h.getKey(), h.getFields()[0]))
+                    .collect(Collectors.toList());
+        }
 
-            if (result.size() >= 5) {
-                return mapToDto(IntStream.range(0, 5)
-                        .mapToObj(result::get)
-                        .collect(Collectors.toList()));
-            }
+        return bookRepository.getAllByBookNameStartingWithIgnoreCase(prefix,
+                PageRequest.of(0, limit, Sort.by("bookName", "bookId")))
+                .stream()
+                .map(b -> new BookSuggestionDto(b.getBookId(), b.getBookName()))
+                .collect(Collectors.toList());
+    }
 
-            searched.removeAll(filtered);
+    public List<BookDescriptionHitDto> searchBookDescriptions(String searchQuery, int limit) {
+        searchQuery = searchQuery.trim();
+        if (searchQuery.isEmpty()) {
+            throw new SearchQueryIsBlankException();
         }
 
-        result.addAll(searched);
+        // answered by the index alone, there is no table to fall back to
+        if (!descriptionIndex.isReady()) {
+            throw new SearchIndexIsLoadingException();
+        }
 
-        return mapToDto(result.stream()
-                .limit(5)
+        return descriptionIndex.books().top(searchQuery, limit).stream()
+                .map(h -> new BookDescriptionHitDto(h.getKey(), h.getFields()[0], h.getScore()))
+                .collect(Collectors.toList());
+    }
+
+    private List<BookDto> findBooksInOrder(List<SearchHit> hits) {
+        Map<Long, Book> found = bookRepository.getAllByBookIdIn(hits.stream()
+                .map(SearchHit::getKey)
+                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Book::getBookId, b -> b));
+
+        return mapToDto(hits.stream()
+                .map(h -> found.get(h.getKey()))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList()));
     }
 
     public BookDto addNewBook(long authorId, long genreId, BookDto newBook) {
-        if (!authorRepository.existsByAuthorId(authorId)) {
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
             throw new AuthorNotFoundException(authorId);
         }
 
-        if (!genreRepository.existsByGenreId(genreId)) {
+        if (!genreCatalog.contains(genreId)) {
             throw new GenreNotFoundException(genreId);
         }
 
-        if (bookRepository.existsByBookId(newBook.getBookId())) {
+        if (entityIds.exists(EntityType.BOOK, newBook.getBookId(), bookRepository::existsByBookId)) {
             throw new BookAlreadyExistsException();
         }
 
@@ -216,37 +296,102 @@ public class BookService {
         toPost.setGenreId(genreId);
 
         Book response = bookRepository.save(toPost);
+        indexBook(response);
+        entityIds.add(EntityType.BOOK, response.getBookId());
+        entityVersions.bump(EntityType.BOOK);
 
         return toDtoMapper.mapBookToBookDto(response);
     }
 
-    public BookDto updateExistedBook(BookDto bookDto) {
-        Optional<Book> opt = bookRepository.getOneByBookId(bookDto.getBookId());
+    /**
+     * Creates every valid book of the batch whose author and genre exist and whose ID is not
+     * taken yet, all in one transaction. Each author and genre is checked once per batch.
+     *
+     * @return the status of every item, in the order of the items
+     */
+    public List<BatchItemStatusDto> addNewBooks(List<BookBatchItemDto> items) {
+        BatchStatuses statuses = new BatchStatuses(items.size());
+        Map<Long, Boolean> authorExists = new HashMap<>();
+        Map<Long, Boolean> genreExists = new HashMap<>();
+        LongHashSet batchBookIds = new LongHashSet(items.size());
+
+        List<Book> toPost = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BookBatchItemDto item = items.get(i);
+            Long bookId = item == null || item.getBook() == null ? null : item.getBook().getBookId();
+
+            if (!statuses.validate(i, bookId, item, validator)) {
+                continue;
+            }
 
-        if (!opt.isPresent()) {
-            throw new BookNotFoundException(bookDto.getBookId());
+            long authorId = item.getAuthorId();
+            long genreId = item.getGenreId();
+            if (!authorExists.computeIfAbsent(authorId,
+                    id -> entityIds.exists(EntityType.AUTHOR, id, authorRepository::existsByAuthorId))) {
+                statuses.reject(i, bookId, HttpStatus.NOT_FOUND,
+                        String.format("Author with 'authorId' = '%d' doesn't exist!", authorId));
+            } else if (!genreExists.computeIfAbsent(genreId, genreCatalog::contains)) {
+                statuses.reject(i, bookId, HttpStatus.NOT_FOUND,
+                        String.format("Genre with 'genreId' = '%d' doesn't exist!", genreId));
+            } else if (!batchBookIds.add(bookId)
+                    || entityIds.exists(EntityType.BOOK, bookId, bookRepository::existsByBookId)) {
+                statuses.reject(i, bookId, HttpStatus.CONFLICT, "Book with such 'bookId' already exists!");
+            } else {
+                Book book = toModelMapper.mapBookDtoToBook(item.getBook());
+                book.setAuthorId(authorId);
+                book.setGenreId(genreId);
+                toPost.add(book);
+                positions.add(i);
+            }
+        }
+
+        batchInsert.persistAll(toPost);
+
+        for (int i = 0; i < toPost.size(); i++) {
+            Book created = toPost.get(i);
+            indexBook(created);
+            entityIds.add(EntityType.BOOK, created.getBookId());
+            statuses.created(positions.get(i), created.getBookId());
+        }
+        if (!toPost.isEmpty()) {
+            entityVersions.bump(EntityType.BOOK);
         }
 
-        Book proxy = opt.get();
+        return statuses.toList();
+    }
+
+    public BookDto updateExistedBook(BookDto bookDto) {
+        Book updated = toModelMapper.mapBookDtoToBook(bookDto);
 
-        proxy.setBookName(bookDto.getBookName());
-        proxy.setBookLang(bookDto.getBookLanguage());
-        proxy.setDescription(bookDto.getBookDescription());
-        proxy.setPublicationYear(bookDto.getPublicationYear());
-        proxy.setPageCount(bookDto.getAdditional().getPageCount());
-        proxy.setBookWidth(bookDto.getAdditional().getSize().getWidth());
-        proxy.setBookLength(bookDto.getAdditional().getSize().getLength());
-        proxy.setBookHeight(bookDto.getAdditional().getSize().getHeight());
+        if (bookRepository.updateBook(updated) == 0) {
+            throw new BookNotFoundException(bookDto.getBookId());
+        }
 
-        Book updated = bookRepository.save(proxy);
+        indexBook(updated);
+        entityCache.invalidate(EntityType.BOOK, updated.getBookId());
+        entityVersions.bump(EntityType.BOOK);
 
         return toDtoMapper.mapBookToBookDto(updated);
     }
 
+    private void indexBook(Book book) {
+        searchIndex.books().put(book.getBookId(), book.getBookName());
+        searchIndex.bookNames().put(book.getBookId(), book.getBookName());
+        descriptionIndex.books().put(book.getBookId(), new String[]{book.getBookName()}, book.getDescription());
+    }
+
     public void deleteExistedBook(long bookId) {
-        Book toDelete = bookRepository.getOneByBookId(bookId)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
+        if (bookRepository.deleteBook(bookId) == 0) {
+            throw new BookNotFoundException(bookId);
+        }
 
-        bookRepository.delete(toDelete);
+        searchIndex.books().remove(bookId);
+        searchIndex.bookNames().remove(bookId);
+        descriptionIndex.books().remove(bookId);
+        entityIds.remove(EntityType.BOOK, bookId);
+        entityCache.invalidate(EntityType.BOOK, bookId);
+        entityVersions.bump(EntityType.BOOK);
     }
 }
@@ -1,10 +1,12 @@
 package ua.com.epam.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import ua.com.epam.entity.Book;
 import ua.com.epam.entity.Genre;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
 import ua.com.epam.entity.dto.genre.GenreDto;
 import ua.com.epam.exception.entity.author.AuthorNotFoundException;
 import ua.com.epam.exception.entity.book.BookNotFoundException;
@@ -15,12 +17,22 @@ import ua.com.epam.exception.entity.genre.GenreNotFoundException;
 import ua.com.epam.exception.entity.search.SearchQueryIsBlankException;
 import ua.com.epam.exception.entity.search.SearchQueryIsTooShortException;
 import ua.com.epam.repository.*;
+import ua.com.epam.search.DescriptionIndex;
+import ua.com.epam.search.SearchHit;
+import ua.com.epam.search.SearchIndex;
+import ua.com.epam.service.cache.EntityCache;
+import ua.com.epam.service.cache.EntityIds;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.cache.GenreCatalog;
+import ua.com.epam.service.cache.SearchResultCache;
 import ua.com.epam.service.mapper.DtoToModelMapper;
 import ua.com.epam.service.mapper.ModelToDtoMapper;
+import ua.com.epam.service.util.BatchStatuses;
+import ua.com.epam.service.util.KeysetPage;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import javax.validation.Validator;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +50,36 @@ public class GenreService {
     @Autowired
     private SearchFor searchFor;
 
+    @Autowired
+    private SeekFor seekFor;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private DescriptionIndex descriptionIndex;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private GenreCatalog genreCatalog;
+
+    @Autowired
+    private EntityIds entityIds;
+
+    @Autowired
+    private BatchInsert batchInsert;
+
+    @Autowired
+    private Validator validator;
+
     @Autowired
     private ModelToDtoMapper toDtoMapper;
 
@@ -48,44 +90,44 @@ public class GenreService {
         return Sort.Direction.fromString(order);
     }
 
-    private List<GenreDto> mapToDto(List<Genre> genres) {
-        return genres.stream()
-                .map(toDtoMapper::mapGenreToGenreDto)
-                .collect(Collectors.toList());
+    public void checkGenreExists(long genreId) {
+        if (!genreCatalog.contains(genreId)) {
+            throw new GenreNotFoundException(genreId);
+        }
     }
 
     public GenreDto findGenre(long genreId) {
-        Genre toGet = genreRepository.getOneByGenreId(genreId)
+        return genreCatalog.find(genreId)
                 .orElseThrow(() -> new GenreNotFoundException(genreId));
-
-        return toDtoMapper.mapGenreToGenreDto(toGet);
     }
 
     public GenreDto findGenreOfBook(long bookId) {
-        bookRepository.getOneByBookId(bookId)
+        Book book = bookRepository.getOneByBookId(bookId)
                 .orElseThrow(() -> new BookNotFoundException(bookId));
-        Genre toGet = genreRepository.getGenreOfBook(bookId);
 
-        return toDtoMapper.mapGenreToGenreDto(toGet);
+        return findGenre(book.getGenreId());
     }
 
-    public List<GenreDto> findAllGenres(String sortBy, String order, int page, int size, boolean pageable) {
-        Sort.Direction direction = resolveDirection(order);
+    public KeysetPage<GenreDto> findAllGenres(String sortBy, String order, int page, int size, boolean pageable, String cursor) {
         String sortParam = JsonKeysConformity.getPropNameByJsonKey(sortBy);
-        Sort sorter = Sort.by(direction, sortParam);
+        Keyset<Genre> keyset = new Keyset<>(Genre.class, "genreId", sortParam, resolveDirection(order));
+        List<Genre> ordered = genreCatalog.ordered(keyset);
 
         List<Genre> genres;
 
         if (!pageable) {
-            genres = genreRepository.findAll(sorter);
+            return new KeysetPage<>(genreCatalog.mapToDto(ordered), null);
+        } else if (cursor != null) {
+            genres = seekFor.pageAfter(keyset, cursor, size, ordered);
         } else {
-            genres = genreRepository.getAllGenres(PageRequest.of(page - 1, size, sorter));
+            int from = (int) Math.min((long) (page - 1) * size, ordered.size());
+            genres = ordered.subList(from, Math.min(ordered.size(), from + size));
         }
 
-        return mapToDto(genres);
+        return new KeysetPage<>(genreCatalog.mapToDto(genres), seekFor.nextCursor(keyset, genres, size));
     }
 
-    public List<GenreDto> searchForExistedGenres(String searchQuery) {
+    public List<GenreDto> searchForExistedGenres(String searchQuery, boolean fuzzy) {
         searchQuery = searchQuery.trim();
 
         if (searchQuery.isEmpty()) {
@@ -94,62 +136,149 @@ public class GenreService {
             throw new SearchQueryIsTooShortException(searchQuery, 3);
         }
 
+        // typos can only be told apart with the index, until it is loaded substrings are searched
+        boolean typos = fuzzy && searchIndex.isReady();
+        String query = searchQuery;
+        return searchResultCache.get(EntityType.GENRE, query, "fuzzy=" + typos, () -> findGenres(query, typos));
+    }
+
+    private List<GenreDto> findGenres(String searchQuery, boolean typos) {
+        if (typos) {
+            return findGenresInOrder(searchIndex.fuzzyGenres().similarTo(searchQuery, Integer.MAX_VALUE));
+        }
+
         List<String> keywords = Arrays.stream(searchQuery.split(" "))
                 .filter(e -> e.length() > 2)
                 .collect(Collectors.toList());
 
-        List<Genre> searched = searchFor.genres(searchQuery, keywords);
+        return findGenresInOrder(searchGenres(searchQuery, keywords));
+    }
+
+    // genre names containing the query or any of its keywords, from the index once it is loaded
+    private List<SearchHit> searchGenres(String searchQuery, List<String> keywords) {
+        if (searchIndex.isReady()) {
+            List<String> substrings = new ArrayList<>(keywords);
+            substrings.add(0, searchQuery);
+            return searchIndex.genres().containingAny(substrings);
+        }
 
-        return mapToDto(searched);
+        return searchFor.genres(searchQuery, keywords).stream()
+                .map(g -> new SearchHit(g.getGenreId(), new String[]{g.getGenreName()}))
+                .collect(Collectors.toList());
+    }
+
+    private List<GenreDto> findGenresInOrder(List<SearchHit> hits) {
+        return hits.stream()
+                .map(h -> genreCatalog.find(h.getKey()))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
     }
 
     public List<GenreDto> findAllGenresOfAuthor(long authorId, String sortBy, String order) {
-        if (!authorRepository.existsByAuthorId(authorId)) {
+        if (!entityIds.exists(EntityType.AUTHOR, authorId, authorRepository::existsByAuthorId)) {
             throw new AuthorNotFoundException(authorId);
         }
 
-        Sort.Direction direction = resolveDirection(order);
         String sortParam = JsonKeysConformity.getPropNameByJsonKey(sortBy);
-        Sort sorter = Sort.by(direction, sortParam);
+        Keyset<Genre> keyset = new Keyset<>(Genre.class, "genreId", sortParam, resolveDirection(order));
+
+        // only the IDs are read, the genres come from the catalogue already in order
+        Set<Long> genreIds = new HashSet<>(bookRepository.getAllGenreIdsOfAuthor(authorId));
+        List<Genre> genres = genreCatalog.ordered(keyset).stream()
+                .filter(g -> genreIds.contains(g.getGenreId()))
+                .collect(Collectors.toList());
 
-        return mapToDto(genreRepository.getAllGenresOfAuthorOrdered(authorId, sorter));
+        return genreCatalog.mapToDto(genres);
     }
 
     public GenreDto addNewGenre(GenreDto genre) {
-        if (genreRepository.existsByGenreId(genre.getGenreId())) {
+        if (genreCatalog.contains(genre.getGenreId())) {
             throw new GenreAlreadyExistsException();
         }
 
-        if (genreRepository.existsByGenreName(genre.getGenreName())) {
+        if (genreCatalog.containsName(genre.getGenreName())) {
             throw new GenreNameAlreadyExistsException();
         }
 
         Genre toPost = toModelMapper.mapGenreDtoToGenre(genre);
         Genre response = genreRepository.save(toPost);
+        indexGenre(response);
+        genreCatalog.put(response);
+        entityVersions.bump(EntityType.GENRE);
 
         return toDtoMapper.mapGenreToGenreDto(response);
     }
 
-    public GenreDto updateExistedGenre(GenreDto genre) {
-        Optional<Genre> opt = genreRepository.getOneByGenreId(genre.getGenreId());
+    /**
+     * Creates every valid genre of the batch whose ID and name are not taken yet, all in one
+     * transaction.
+     *
+     * @return the status of every item, in the order of the items
+     */
+    public List<BatchItemStatusDto> addNewGenres(List<GenreDto> items) {
+        BatchStatuses statuses = new BatchStatuses(items.size());
+        Set<Long> batchGenreIds = new HashSet<>();
+        Set<String> batchGenreNames = new HashSet<>();
+
+        List<Genre> toPost = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            GenreDto item = items.get(i);
+            Long genreId = item == null ? null : item.getGenreId();
+
+            if (!statuses.validate(i, genreId, item, validator)) {
+                continue;
+            }
+
+            if (genreCatalog.contains(genreId) || !batchGenreIds.add(genreId)) {
+                statuses.reject(i, genreId, HttpStatus.CONFLICT, "Genre with such 'genreId' already exists!");
+            } else if (genreCatalog.containsName(item.getGenreName()) || !batchGenreNames.add(item.getGenreName())) {
+                statuses.reject(i, genreId, HttpStatus.CONFLICT, "Genre with such 'genreName' already exists!");
+            } else {
+                toPost.add(toModelMapper.mapGenreDtoToGenre(item));
+                positions.add(i);
+            }
+        }
 
-        if (!opt.isPresent()) {
-            throw new GenreNotFoundException(genre.getGenreId());
+        batchInsert.persistAll(toPost);
+
+        for (int i = 0; i < toPost.size(); i++) {
+            Genre created = toPost.get(i);
+            indexGenre(created);
+            statuses.created(positions.get(i), created.getGenreId());
+        }
+        if (!toPost.isEmpty()) {
+            genreCatalog.putAll(toPost);
+            entityVersions.bump(EntityType.GENRE);
         }
 
-        Genre proxy = opt.get();
+        return statuses.toList();
+    }
 
-        proxy.setGenreId(genre.getGenreId());
-        proxy.setGenreName(genre.getGenreName());
-        proxy.setDescription(genre.getGenreDescription());
+    public GenreDto updateExistedGenre(GenreDto genre) {
+        Genre updated = toModelMapper.mapGenreDtoToGenre(genre);
+
+        if (genreRepository.updateGenre(updated) == 0) {
+            throw new GenreNotFoundException(genre.getGenreId());
+        }
 
-        Genre updated = genreRepository.save(proxy);
+        indexGenre(updated);
+        genreCatalog.put(updated);
+        entityVersions.bump(EntityType.GENRE);
         return toDtoMapper.mapGenreToGenreDto(updated);
     }
 
+    private void indexGenre(Genre genre) {
+        searchIndex.genres().put(genre.getGenreId(), genre.getGenreName());
+        searchIndex.fuzzyGenres().put(genre.getGenreId(), genre.getGenreName());
+    }
+
     public void deleteExistedGenre(long genreId, boolean forcibly) {
-        Genre toDelete = genreRepository.getOneByGenreId(genreId)
-                .orElseThrow(() -> new GenreNotFoundException(genreId));
+        if (!genreCatalog.contains(genreId)) {
+            throw new GenreNotFoundException(genreId);
+        }
 
         long booksCount = bookRepository.getAllBooksInGenreCount(genreId);
 
@@ -157,6 +286,27 @@ public class GenreService {
             throw new BooksInGenreArePresentException(genreId, booksCount);
         }
 
-        genreRepository.delete(toDelete);
+        List<Long> bookIds = booksCount > 0 ? bookRepository.getAllBookIdsInGenre(genreId) : Collections.emptyList();
+        // deleted by someone else since the check
+        if (genreRepository.deleteGenre(genreId) == 0) {
+            throw new GenreNotFoundException(genreId);
+        }
+        searchIndex.genres().remove(genreId);
+        searchIndex.fuzzyGenres().remove(genreId);
+        genreCatalog.remove(genreId);
+        entityVersions.bump(EntityType.GENRE);
+        if (booksCount > 0) {
+            // the books in the genre are deleted along with it only where the schema cascades the delete
+            Set<Long> remaining = new HashSet<>(bookRepository.getAllBookIdsInGenre(genreId));
+            bookIds.removeIf(remaining::contains);
+            for (long bookId : bookIds) {
+                searchIndex.books().remove(bookId);
+                searchIndex.bookNames().remove(bookId);
+                descriptionIndex.books().remove(bookId);
+            }
+            entityIds.removeAll(EntityType.BOOK, bookIds);
+            entityCache.invalidateAll(EntityType.BOOK);
+            entityVersions.bump(EntityType.BOOK);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package ua.com.epam.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Read-through cache of single books, authors and genres by their ids, one size-bounded
+ * Caffeine cache (W-TinyLFU eviction) per entity type.
+ * <p>
+ * A missing entry is loaded while the id is locked, and invalidating an id waits for such
+ * a load to finish, so a value read before a write can't outlive the invalidation that
+ * follows the write. Failed loads, e.g. of ids that don't exist, are not cached.
+ * <p>
+ * Every cache is published as the {@code cache.*} metrics tagged {@code cache=entity.<type>},
+ * together with {@code cache.hit.ratio} and the {@code cache.load} timer of database loads.
+ */
+@Component
+public class EntityCache implements MeterBinder {
+    private final Map<EntityType, Cache<Long, Object>> caches = new EnumMap<>(EntityType.class);
+
+    public EntityCache(@Value("${entity.cache.max-size:10000}") long maxSize,
+                       @Value("${entity.cache.ttl:10m}") Duration ttl) {
+        for (EntityType type : EntityType.values()) {
+            caches.put(type, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    /**
+     * @param load loads the value if it is not cached, may throw to report a missing entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(EntityType type, long id, LongFunction<T> load) {
+        return (T) caches.get(type).get(id, load::apply);
+    }
+
+    public void invalidate(EntityType type, long id) {
+        caches.get(type).invalidate(id);
+    }
+
+    public void invalidateAll(EntityType type) {
+        caches.get(type).invalidateAll();
+    }
+
+    // a rebuilt dataset changes every entity
+    @EventListener(DatasetReadyEvent.class)
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((type, cache) -> {
+            String name = "entity." + type.name().toLowerCase(Locale.ROOT);
+            new CaffeineCacheMetrics(cache, name, Tags.empty()).bindTo(registry);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .tag("cache", name)
+                    .description("The ratio of cache lookups that returned a cached value")
+                    .register(registry);
+            FunctionTimer.builder("cache.load", cache, c -> c.stats().loadCount(), c -> c.stats().totalLoadTime(),
+                    TimeUnit.NANOSECONDS)
+                    .tag("cache", name)
+                    .description("Loads of missing values, failed ones included")
+                    .register(registry);
+        });
+    }
+}
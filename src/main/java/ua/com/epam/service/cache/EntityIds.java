@@ -0,0 +1,176 @@
+package ua.com.epam.service.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Business IDs of all books and authors in {@link LongHashSet}s, so checking that one
+ * exists costs a hash lookup instead of a query. Genres are checked in {@link GenreCatalog}.
+ * <p>
+ * The IDs are (re)loaded from the database whenever the dataset becomes ready and are kept
+ * in sync by the services after every insert and delete; IDs written while loading win over
+ * the loaded ones. Until the first load is over the checks go to the database.
+ */
+@Component
+public class EntityIds {
+    private static final Logger log = LoggerFactory.getLogger(EntityIds.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final Map<EntityType, IdSet> sets = new EnumMap<>(EntityType.class);
+    private volatile boolean ready;
+
+    public EntityIds() {
+        sets.put(EntityType.BOOK, new IdSet());
+        sets.put(EntityType.AUTHOR, new IdSet());
+    }
+
+    /**
+     * @param database asked instead while the IDs are not loaded
+     */
+    public boolean exists(EntityType type, long id, LongPredicate database) {
+        return ready ? sets.get(type).contains(id) : database.test(id);
+    }
+
+    public void add(EntityType type, long id) {
+        sets.get(type).add(id);
+    }
+
+    public void remove(EntityType type, long id) {
+        sets.get(type).remove(id);
+    }
+
+    public void removeAll(EntityType type, Collection<Long> ids) {
+        IdSet set = sets.get(type);
+        ids.forEach(set::remove);
+    }
+
+    @EventListener(DatasetReadyEvent.class)
+    public void reload() {
+        ready = false;
+        sets.values().forEach(IdSet::loading);
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setFetchSize(1000);
+
+            load(statement, "select book_id from book", sets.get(EntityType.BOOK));
+            load(statement, "select author_id from author", sets.get(EntityType.AUTHOR));
+        } catch (SQLException e) {
+            log.error("ID index load failed, existence checks keep going to the database", e);
+            return;
+        }
+        sets.values().forEach(IdSet::loaded);
+        ready = true;
+
+        log.info("ID index loaded: {} books, {} authors in {} ms", sets.get(EntityType.BOOK).size(),
+                sets.get(EntityType.AUTHOR).size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void load(Statement statement, String sql, IdSet set) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                set.load(rs.getLong(1));
+            }
+        }
+    }
+
+    private static class IdSet {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private LongHashSet ids = new LongHashSet();
+        // while the IDs are being loaded, IDs written by the application win over the loaded rows
+        private LongHashSet touchedWhileLoading;
+
+        private boolean contains(long id) {
+            lock.readLock().lock();
+            try {
+                return ids.contains(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(long id) {
+            lock.writeLock().lock();
+            try {
+                touch(id);
+                ids.add(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(long id) {
+            lock.writeLock().lock();
+            try {
+                touch(id);
+                ids.remove(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void loading() {
+            lock.writeLock().lock();
+            try {
+                ids = new LongHashSet();
+                touchedWhileLoading = new LongHashSet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void load(long id) {
+            lock.writeLock().lock();
+            try {
+                if (!touchedWhileLoading.contains(id)) {
+                    ids.add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void loaded() {
+            lock.writeLock().lock();
+            try {
+                touchedWhileLoading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return ids.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void touch(long id) {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ua.com.epam.service.cache;
+
+public enum EntityType {
+    BOOK,
+    AUTHOR,
+    GENRE
+}
@@ -0,0 +1,49 @@
+package ua.com.epam.service.cache;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Write version of every entity type: the services bump it on each create, update and
+ * delete, so anything derived from the entities of a type can tell whether it is stale
+ * by the version it was derived at.
+ * <p>
+ * The services bump a version only after the write is visible through every cache and
+ * index, so data read after the version was taken is never older than the version.
+ */
+@Component
+public class EntityVersions {
+    private final AtomicLongArray versions = new AtomicLongArray(EntityType.values().length);
+    // versions start anew on every start-up, and the database may have been changed in between
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public long current(EntityType type) {
+        return versions.get(type.ordinal());
+    }
+
+    public void bump(EntityType type) {
+        versions.incrementAndGet(type.ordinal());
+    }
+
+    /**
+     * @return strong entity tag of a response built from the entities of the given types only
+     */
+    public String etag(EntityType... types) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (EntityType type : types) {
+            tag.append('-').append(type.ordinal()).append('.').append(current(type));
+        }
+        return tag.append('"').toString();
+    }
+
+    // a rebuilt dataset changes every entity
+    @EventListener(DatasetReadyEvent.class)
+    public void bumpAll() {
+        for (EntityType type : EntityType.values()) {
+            bump(type);
+        }
+    }
+}
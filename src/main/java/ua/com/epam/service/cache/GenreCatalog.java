@@ -0,0 +1,161 @@
+package ua.com.epam.service.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ua.com.epam.entity.Genre;
+import ua.com.epam.entity.dto.genre.GenreDto;
+import ua.com.epam.ingestion.DatasetReadyEvent;
+import ua.com.epam.repository.GenreRepository;
+import ua.com.epam.repository.JsonKeysConformity;
+import ua.com.epam.repository.Keyset;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+
+import java.util.*;
+
+/**
+ * All genres held in memory as an immutable snapshot, listed in advance in the order of
+ * every genre sort key in both directions.
+ * <p>
+ * Reads take the current snapshot without locking. Writes are serialised: each builds a
+ * new snapshot from the current one and swaps it in, so a reader never sees a half-made
+ * change. The snapshot is read from the table on first use and again once the dataset is
+ * ready; the services put and remove genres after the table is written.
+ */
+@Component
+public class GenreCatalog {
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private ModelToDtoMapper toDtoMapper;
+
+    private volatile Snapshot snapshot;
+
+    public Optional<GenreDto> find(long genreId) {
+        return Optional.ofNullable(snapshot().dtos.get(genreId));
+    }
+
+    public boolean contains(long genreId) {
+        return snapshot().dtos.containsKey(genreId);
+    }
+
+    public boolean containsName(String genreName) {
+        return snapshot().names.contains(genreName);
+    }
+
+    /**
+     * @return all genres in the order of the keyset, not to be modified
+     */
+    public List<Genre> ordered(Keyset<Genre> keyset) {
+        return snapshot().ordered.get(keyset.getDirection()).get(keyset.getSortProperty());
+    }
+
+    /**
+     * @param genres genres of the catalog
+     */
+    public List<GenreDto> mapToDto(List<Genre> genres) {
+        Map<Long, GenreDto> dtos = snapshot().dtos;
+        List<GenreDto> result = new ArrayList<>(genres.size());
+        for (Genre genre : genres) {
+            result.add(dtos.get(genre.getGenreId()));
+        }
+        return result;
+    }
+
+    public synchronized void put(Genre genre) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        Map<Long, Genre> genres = new HashMap<>(current.genres);
+        genres.put(genre.getGenreId(), copyOf(genre));
+        snapshot = new Snapshot(genres, toDtoMapper);
+    }
+
+    // one new snapshot for all of them
+    public synchronized void putAll(Collection<Genre> added) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        Map<Long, Genre> genres = new HashMap<>(current.genres);
+        for (Genre genre : added) {
+            genres.put(genre.getGenreId(), copyOf(genre));
+        }
+        snapshot = new Snapshot(genres, toDtoMapper);
+    }
+
+    public synchronized void remove(long genreId) {
+        Snapshot current = snapshot;
+        if (current == null || !current.genres.containsKey(genreId)) {
+            return;
+        }
+
+        Map<Long, Genre> genres = new HashMap<>(current.genres);
+        genres.remove(genreId);
+        snapshot = new Snapshot(genres, toDtoMapper);
+    }
+
+    @EventListener(DatasetReadyEvent.class)
+    public synchronized void load() {
+        Map<Long, Genre> genres = new HashMap<>();
+        for (Genre genre : genreRepository.findAll()) {
+            genres.put(genre.getGenreId(), copyOf(genre));
+        }
+        snapshot = new Snapshot(genres, toDtoMapper);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // the snapshot holds its own instances, entities of the persistence context may change later
+    private static Genre copyOf(Genre genre) {
+        Genre copy = new Genre();
+        copy.setId(genre.getId());
+        copy.setGenreId(genre.getGenreId());
+        copy.setGenreName(genre.getGenreName());
+        copy.setDescription(genre.getDescription());
+        return copy;
+    }
+
+    private static class Snapshot {
+        private final Map<Long, Genre> genres;
+        private final Map<Long, GenreDto> dtos = new HashMap<>();
+        private final Set<String> names = new HashSet<>();
+        private final Map<Sort.Direction, Map<String, List<Genre>>> ordered = new EnumMap<>(Sort.Direction.class);
+
+        private Snapshot(Map<Long, Genre> genres, ModelToDtoMapper toDtoMapper) {
+            this.genres = genres;
+            for (Genre genre : genres.values()) {
+                dtos.put(genre.getGenreId(), toDtoMapper.mapGenreToGenreDto(genre));
+                names.add(genre.getGenreName());
+            }
+
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Map<String, List<Genre>> byKey = new HashMap<>();
+                for (JsonKeysConformity key : JsonKeysConformity.getKeysOfGroup(JsonKeysConformity.Group.GENRE)) {
+                    String property = key.getModelPropertyName();
+                    List<Genre> list = new ArrayList<>(genres.values());
+                    list.sort(new Keyset<>(Genre.class, "genreId", property, direction).comparator());
+                    byKey.put(property, Collections.unmodifiableList(list));
+                }
+                ordered.put(direction, byKey);
+            }
+        }
+    }
+}
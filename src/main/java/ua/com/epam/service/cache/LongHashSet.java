@@ -0,0 +1,126 @@
+package ua.com.epam.service.cache;
+
+/**
+ * Set of primitive longs in one open-addressing table with linear probing, so a lookup is
+ * a multiplication and a few adjacent array reads, with no boxing and no node per entry.
+ * <p>
+ * Free slots hold {@code 0}, the value {@code 0} itself is kept in a flag. Removal shifts
+ * the following entries of the probe sequence back instead of leaving tombstones. The
+ * table doubles once it is more than half full. Not thread-safe.
+ */
+public class LongHashSet {
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    private long[] table;
+    private int mask;
+    private int shift;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        for (int i = slot(value); ; i = (i + 1) & mask) {
+            long v = table[i];
+            if (v == value) {
+                return true;
+            } else if (v == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the value was already there
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            boolean added = !hasZero;
+            hasZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        int i = slot(value);
+        for (long v = table[i]; v != 0; v = table[i]) {
+            if (v == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        if (++size > table.length / 2) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code false} if there was no such value
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            boolean removed = hasZero;
+            hasZero = false;
+            size -= removed ? 1 : 0;
+            return removed;
+        }
+        int i = slot(value);
+        for (long v = table[i]; v != value; v = table[i]) {
+            if (v == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // move back every following entry that can't be reached across the freed slot any more
+        int free = i;
+        for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+            int home = slot(table[j]);
+            if (((j - home) & mask) >= ((j - free) & mask)) {
+                table[free] = table[j];
+                free = j;
+            }
+        }
+        table[free] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long value) {
+        return (int) ((value * PHI) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+        for (long v : old) {
+            if (v != 0) {
+                int i = slot(v);
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = v;
+            }
+        }
+    }
+}
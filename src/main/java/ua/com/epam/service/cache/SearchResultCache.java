@@ -0,0 +1,85 @@
+package ua.com.epam.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of search results, keyed by entity type, trimmed and case-folded query
+ * and search options.
+ * <p>
+ * Keys also hold the {@link EntityVersions} version of the searched type, so a write makes
+ * every earlier result of that type unreachable at once; such results are then evicted by
+ * size or by age like any other. Hits, misses and evictions are published as the
+ * {@code cache.*} metrics tagged {@code cache=search.results}.
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Value("${search.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${search.cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Key, List<?>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param query   query as given, compared trimmed and ignoring case; the search must not
+     *                depend on its case
+     * @param options other parameters the results depend on
+     * @param search  searches if there is no cached result
+     * @return unmodifiable results
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(EntityType type, String query, String options, Supplier<List<T>> search) {
+        Key key = new Key(type, entityVersions.current(type), query.trim().toLowerCase(Locale.ROOT), options);
+        return (List<T>) cache.get(key, k -> Collections.unmodifiableList(search.get()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics(cache, "search.results", Tags.empty()).bindTo(registry);
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final EntityType type;
+        private final long version;
+        private final String query;
+        private final String options;
+
+        private Key(EntityType type, long version, String query, String options) {
+            this.type = type;
+            this.version = version;
+            this.query = query;
+            this.options = options;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package ua.com.epam.service.mapper;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import ua.com.epam.entity.Author;
 import ua.com.epam.entity.Book;
@@ -14,23 +13,20 @@ import ua.com.epam.service.mapper.converter.genre.GenreDtoToGenre;
 
 @Service
 public class DtoToModelMapper {
-    private ModelMapper modelMapper = new ModelMapper();
-
-    public DtoToModelMapper() {
-        modelMapper.addConverter(new AuthorDtoToAuthor());
-        modelMapper.addConverter(new GenreDtoToGenre());
-        modelMapper.addConverter(new BookDtoToBook());
-    }
+    // the converters are called straight, with no type map lookup or reflection per call
+    private final AuthorDtoToAuthor authorDtoToAuthor = new AuthorDtoToAuthor();
+    private final GenreDtoToGenre genreDtoToGenre = new GenreDtoToGenre();
+    private final BookDtoToBook bookDtoToBook = new BookDtoToBook();
 
     public Author mapAuthorDtoToAuthor(AuthorDto author) {
-        return modelMapper.map(author, Author.class);
+        return authorDtoToAuthor.convert(author);
     }
 
     public Genre mapGenreDtoToGenre(GenreDto genre) {
-        return modelMapper.map(genre, Genre.class);
+        return genreDtoToGenre.convert(genre);
     }
 
     public Book mapBookDtoToBook(BookDto book) {
-        return modelMapper.map(book, Book.class);
+        return bookDtoToBook.convert(book);
     }
 }
@@ -1,6 +1,5 @@
 package ua.com.epam.service.mapper;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import ua.com.epam.entity.Author;
 import ua.com.epam.entity.Book;
@@ -14,23 +13,20 @@ import ua.com.epam.service.mapper.converter.genre.GenreToGenreDto;
 
 @Service
 public class ModelToDtoMapper {
-    private ModelMapper modelMapper = new ModelMapper();
-
-    public ModelToDtoMapper() {
-        modelMapper.addConverter(new AuthorToAuthorDto());
-        modelMapper.addConverter(new GenreToGenreDto());
-        modelMapper.addConverter(new BookToBookDto());
-    }
+    // the converters are called straight, with no type map lookup or reflection per call
+    private final AuthorToAuthorDto authorToAuthorDto = new AuthorToAuthorDto();
+    private final GenreToGenreDto genreToGenreDto = new GenreToGenreDto();
+    private final BookToBookDto bookToBookDto = new BookToBookDto();
 
     public AuthorDto mapAuthorToAuthorDto(Author author) {
-        return modelMapper.map(author, AuthorDto.class);
+        return authorToAuthorDto.convert(author);
     }
 
     public GenreDto mapGenreToGenreDto(Genre genre) {
-        return modelMapper.map(genre, GenreDto.class);
+        return genreToGenreDto.convert(genre);
     }
 
     public BookDto mapBookToBookDto(Book book) {
-        return modelMapper.map(book, BookDto.class);
+        return bookToBookDto.convert(book);
     }
 }
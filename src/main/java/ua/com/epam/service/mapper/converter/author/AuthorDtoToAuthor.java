@@ -1,16 +1,11 @@
 package ua.com.epam.service.mapper.converter.author;
 
-import org.modelmapper.Converter;
-import org.modelmapper.spi.MappingContext;
 import ua.com.epam.entity.Author;
 import ua.com.epam.entity.dto.author.AuthorDto;
 
-public class AuthorDtoToAuthor implements Converter<AuthorDto, Author> {
-
-    @Override
-    public Author convert(MappingContext<AuthorDto, Author> mappingContext) {
-        AuthorDto source = mappingContext.getSource();
+public class AuthorDtoToAuthor {
 
+    public Author convert(AuthorDto source) {
         Author author = new Author();
         author.setAuthorId(source.getAuthorId());
         author.setFirstName(source.getAuthorName().getFirst());
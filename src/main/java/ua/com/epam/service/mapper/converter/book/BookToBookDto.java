@@ -1,18 +1,13 @@
 package ua.com.epam.service.mapper.converter.book;
 
-import org.modelmapper.Converter;
-import org.modelmapper.spi.MappingContext;
 import ua.com.epam.entity.Book;
 import ua.com.epam.entity.dto.book.BookDto;
 import ua.com.epam.entity.dto.book.nested.AdditionalDto;
 import ua.com.epam.entity.dto.book.nested.SizeDto;
 
-public class BookToBookDto implements Converter<Book, BookDto> {
-
-    @Override
-    public BookDto convert(MappingContext<Book, BookDto> mappingContext) {
-        Book source = mappingContext.getSource();
+public class BookToBookDto {
 
+    public BookDto convert(Book source) {
         BookDto dto = new BookDto();
         dto.setBookId(source.getBookId());
         dto.setBookName(source.getBookName());
@@ -0,0 +1,56 @@
+package ua.com.epam.service.util;
+
+import org.springframework.http.HttpStatus;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Statuses of the items of one batch create request, in the order of the items. Items are
+ * checked one by one and the first failed check rejects an item; the items left are
+ * reported as created once they are written.
+ */
+public class BatchStatuses {
+    private final BatchItemStatusDto[] statuses;
+
+    public BatchStatuses(int size) {
+        this.statuses = new BatchItemStatusDto[size];
+    }
+
+    /**
+     * Rejects the item with the message of its first constraint violation, as the
+     * validation of a single item would.
+     *
+     * @return {@code false} if the item was rejected
+     */
+    public boolean validate(int index, Long id, Object item, Validator validator) {
+        if (item == null) {
+            reject(index, null, HttpStatus.BAD_REQUEST, "Batch item can not be null!");
+            return false;
+        }
+
+        Optional<String> violation = validator.validate(item).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage);
+        violation.ifPresent(message -> reject(index, id, HttpStatus.BAD_REQUEST, message));
+        return !violation.isPresent();
+    }
+
+    public void reject(int index, Long id, HttpStatus status, String message) {
+        statuses[index] = new BatchItemStatusDto(index, id, status.value(), status.getReasonPhrase(), message);
+    }
+
+    public void created(int index, Long id) {
+        statuses[index] = new BatchItemStatusDto(index, id, HttpStatus.CREATED.value(),
+                HttpStatus.CREATED.getReasonPhrase(), null);
+    }
+
+    public List<BatchItemStatusDto> toList() {
+        return Arrays.asList(statuses);
+    }
+}
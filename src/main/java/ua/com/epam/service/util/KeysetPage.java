@@ -0,0 +1,17 @@
+package ua.com.epam.service.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a listing together with the cursor of the next one
+ * ({@code null} when there is nothing more to read).
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+}
@@ -0,0 +1,39 @@
+package ua.com.epam.service.util.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import ua.com.epam.repository.projection.AuthorRow;
+
+import java.io.IOException;
+
+/**
+ * Writes an {@link AuthorRow} as an {@code AuthorDto} would be written.
+ */
+public class AuthorRowSerializer extends RowSerializer<AuthorRow> {
+
+    public AuthorRowSerializer() {
+        super(AuthorRow.class);
+    }
+
+    @Override
+    public void serialize(AuthorRow row, JsonGenerator jg, SerializerProvider sp) throws IOException {
+        jg.writeStartObject();
+        writeNumberField(jg, "authorId", row.getAuthorId());
+
+        jg.writeObjectFieldStart("authorName");
+        jg.writeStringField("first", row.getFirstName());
+        jg.writeStringField("second", row.getSecondName());
+        jg.writeEndObject();
+
+        jg.writeStringField("nationality", row.getNationality());
+
+        jg.writeObjectFieldStart("birth");
+        jg.writeStringField("date", row.getBirthDate() == null ? null : row.getBirthDate().toString());
+        jg.writeStringField("country", row.getBirthCountry());
+        jg.writeStringField("city", row.getBirthCity());
+        jg.writeEndObject();
+
+        jg.writeStringField("authorDescription", row.getDescription());
+        jg.writeEndObject();
+    }
+}
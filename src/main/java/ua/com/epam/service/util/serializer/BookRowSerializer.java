@@ -0,0 +1,38 @@
+package ua.com.epam.service.util.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import ua.com.epam.repository.projection.BookRow;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link BookRow} as a {@code BookDto} would be written.
+ */
+public class BookRowSerializer extends RowSerializer<BookRow> {
+
+    public BookRowSerializer() {
+        super(BookRow.class);
+    }
+
+    @Override
+    public void serialize(BookRow row, JsonGenerator jg, SerializerProvider sp) throws IOException {
+        jg.writeStartObject();
+        writeNumberField(jg, "bookId", row.getBookId());
+        jg.writeStringField("bookName", row.getBookName());
+        jg.writeStringField("bookLanguage", row.getBookLang());
+        jg.writeStringField("bookDescription", row.getDescription());
+
+        jg.writeObjectFieldStart("additional");
+        writeNumberField(jg, "pageCount", row.getPageCount());
+        jg.writeObjectFieldStart("size");
+        writeNumberField(jg, "height", row.getBookHeight());
+        writeNumberField(jg, "width", row.getBookWidth());
+        writeNumberField(jg, "length", row.getBookLength());
+        jg.writeEndObject();
+        jg.writeEndObject();
+
+        writeNumberField(jg, "publicationYear", row.getPublicationYear());
+        jg.writeEndObject();
+    }
+}
@@ -0,0 +1,42 @@
+package ua.com.epam.service.util.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Base of the serializers that write listing rows in the JSON shape of their DTOs straight
+ * to the generator, so no DTO and nested objects are built per row. Missing values are
+ * written as {@code null}, like the DTOs have them.
+ */
+abstract class RowSerializer<T> extends StdSerializer<T> {
+
+    RowSerializer(Class<T> rowClass) {
+        super(rowClass);
+    }
+
+    static void writeNumberField(JsonGenerator jg, String name, Long value) throws IOException {
+        if (value == null) {
+            jg.writeNullField(name);
+        } else {
+            jg.writeNumberField(name, value);
+        }
+    }
+
+    static void writeNumberField(JsonGenerator jg, String name, Integer value) throws IOException {
+        if (value == null) {
+            jg.writeNullField(name);
+        } else {
+            jg.writeNumberField(name, value);
+        }
+    }
+
+    static void writeNumberField(JsonGenerator jg, String name, Double value) throws IOException {
+        if (value == null) {
+            jg.writeNullField(name);
+        } else {
+            jg.writeNumberField(name, value);
+        }
+    }
+}
@@ -31,6 +31,8 @@ create table book (
     book_height double precision,
     book_length double precision,
     book_width double precision,
+    book_volume double as (book_height * book_width * book_length) stored,
+    book_square double as (book_width * book_length) stored,
     page_count integer,
     publication_year integer,
 
@@ -38,5 +40,13 @@ create table book (
     genre_id bigint not null,
 
     foreign key(author_id) references author(author_id) on delete cascade,
-    foreign key(genre_id) references genre(genre_id) on delete cascade
+    foreign key(genre_id) references genre(genre_id) on delete cascade,
+
+    index book_volume_idx (book_volume, book_id),
+    index book_volume_desc_idx (book_volume desc, book_id desc),
+    index book_square_idx (book_square, book_id),
+    index book_square_desc_idx (book_square desc, book_id desc),
+    index book_genre_idx (genre_id, book_id),
+    index book_genre_author_idx (genre_id, author_id),
+    index book_author_genre_idx (author_id, genre_id)
 );
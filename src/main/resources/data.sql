@@ -1,270 +1,276 @@
-insert into author(author_id, first_name, second_name, birth_city, birth_country, birth_date, author_descr, nationality) values
-(6188, 'Connor', 'Lehner', 'Lake Tysonshire', 'United States Minor Outlying Islands', '1964-12-29', 'Incidunt voluptatem adipisci. Aut blanditiis minus corporis dolores est unde. Magnam quaerat incidunt et iusto ut aut. Et sequi possimus est pariatur alias aliquid vel.', 'Indian'),
-(2539, 'Faustino', 'Heller', 'South Dustinview', 'Comoros', '1956-12-02', 'Aut expedita enim natus ut sit. Autem accusantium suscipit optio. Voluptatum reiciendis porro natus quia error pariatur sequi. Fugiat occaecati aut. Incidunt et optio iusto tempore quia quidem optio.', 'Turkish'),
-(9790, 'Leopold', 'Lang', 'Keeganmouth', 'New Zealand', '1934-06-19', 'Veniam qui magni molestiae voluptatem eos nemo. Dolor sapiente vel eaque expedita nulla ea impedit. Sed minima omnis iste ex et voluptates sunt. Et sit rerum ad ipsum mollitia. Consequatur voluptas sit blanditiis et aut non recusandae.', 'Canadian'),
-(7003, 'Lawrence', 'Towne', 'Joaquinville', 'American Samoa', '1941-05-13', 'Aliquid corporis ratione voluptas hic inventore. Deserunt ut consequuntur aliquam eaque dignissimos. Eos illo esse in voluptatum. Perspiciatis quo quo natus dicta. Voluptate sit reprehenderit aut aliquam voluptatem.', 'Egyptian'),
-(6199, 'Aiden', 'Schamberger', 'Port Zolaview', 'Myanmar', '1982-11-14', 'Fuga ipsa est. Quasi delectus corporis et ut error facilis accusamus. Velit commodi laborum earum.', 'Swedish'),
-(4043, 'Ophelia', 'Schaden', 'Carlifort', 'Saint Vincent and the Grenadines', '1923-12-05', 'Libero quidem amet dolores similique earum ut. Qui eos pariatur dolore debitis animi iusto. Sed eum dolores iure. Sit delectus voluptates.', 'Czech'),
-(9733, 'Adrain', 'Mitchell', 'North Elyssa', 'Romania', '1987-03-03', 'Omnis beatae vero itaque ex. Rerum reiciendis voluptas sapiente praesentium. Quos sit dolor occaecati placeat iusto. Ipsam rerum ut nihil perferendis nostrum tempora.', 'Syrian'),
-(2499, 'Michelle', 'Mertz', 'Yostfort', 'French Guiana', '1924-03-19', 'Itaque praesentium qui voluptas unde. Exercitationem totam dolorem. Facere error modi eaque illo nulla ratione. Praesentium necessitatibus impedit porro alias accusamus.', 'Slovakian'),
-(2034, 'Audreanne', 'Harber', 'Ryanntown', 'Andorra', '1999-07-22', 'Occaecati non qui ut ut rerum delectus quo. Debitis ipsum quisquam assumenda doloribus molestias harum. Iure est rerum ipsa adipisci omnis et. Fuga id aut vel autem voluptatem cumque aut. Placeat voluptas velit aut porro nesciunt rerum.', 'Belgian'),
-(7891, 'Krystel', 'Baumbach', 'Shemarview', 'Mongolia', '1983-04-20', 'Earum dolores voluptas assumenda. Et et odio id vero. Voluptatem fugit asperiores.', 'Armenian'),
-(3552, 'Constantin', 'Waelchi', 'North Omertown', 'Haiti', '1991-02-26', 'Laudantium id nisi. Possimus blanditiis rerum aperiam. Delectus nihil eos.', 'Belgian'),
-(95, 'Brock', 'Jones', 'Lake Harleytown', 'Uganda', '1925-05-23', 'Incidunt et nostrum exercitationem. Et nihil et et aperiam sunt. Dolore ullam provident recusandae quo qui ducimus in. Excepturi eum temporibus exercitationem itaque.', 'Cuban'),
-(9877, 'Kelsi', 'Bartoletti', 'Terryshire', 'Sri Lanka', '1974-05-18', 'Maxime rerum quaerat magni fuga minima sequi voluptates. Consequatur voluptatem sit. Repellendus minus eveniet veritatis labore perferendis. Eius temporibus id. Cumque vel nobis mollitia ex et.', 'New Zealander'),
-(1602, 'Brent', 'Denesik', 'Orieberg', 'Guatemala', '1925-10-03', 'A ab fuga. Quia commodi sequi ut tenetur corporis. Quae tenetur suscipit vel quia eligendi porro provident. Quia totam a.', 'Austrian'),
-(8771, 'Alden', 'Mraz', 'West Gregory', 'Bouvet Island (Bouvetoya)', '1974-10-21', 'Et iste voluptatem in vitae amet porro placeat. Saepe sint veniam voluptatem aperiam. Et saepe cum.', 'Turkish'),
-(3049, 'Theodora', 'Bogisich', 'North Morganmouth', 'Canada', '1920-07-01', 'Quia impedit dolores unde alias sed. Non assumenda laborum. Voluptatem quod omnis tempora commodi doloribus quo.', 'Kittian and Nevisian'),
-(8361, 'Sadie', 'Macejkovic', 'Laylashire', 'Slovenia', '1972-01-12', 'Quae est tempora. Ullam similique nam autem aut debitis rem. Debitis delectus dicta occaecati vero magni magnam quia.', 'Nepalese'),
-(6980, 'Jairo', 'Erdman', 'East Cade', 'Guatemala', '1947-09-26', 'Et dolorum qui beatae aliquid vel molestias. Enim quae sapiente dolor temporibus cumque est blanditiis. Similique maiores quos repellat assumenda est voluptate. Totam saepe accusantium totam recusandae ea et eligendi. Ut nam excepturi nobis quas et velit.', 'Icelander'),
-(137, 'Lexie', 'Upton', 'Schuppeburgh', 'Trinidad and Tobago', '1975-04-20', 'Qui doloremque odio voluptas eaque corporis itaque. Facere eos eaque similique omnis facere quam vero. Labore et consequatur quod animi sint asperiores eum. Labore ut enim autem neque porro.', 'Lithuanian'),
-(5406, 'Guiseppe', 'Welch', 'North Isabel', 'Malawi', '1933-01-06', 'Non consequatur et blanditiis officiis. Occaecati veniam dolor ipsam porro. Esse deserunt excepturi et tempore enim. Adipisci voluptatum rerum nisi iusto iure. Repudiandae neque vel asperiores ut culpa aut rerum.', 'Lithuanian'),
-(7936, 'Cayla', 'Koch', 'McKenzieview', 'Armenia', '1937-10-18', 'Et porro molestiae excepturi laboriosam. Autem reprehenderit odio recusandae nulla. Qui delectus voluptates veniam accusantium praesentium non quam. Sed exercitationem repellat aut. Ut modi inventore quod ipsa error accusantium.', 'Greek'),
-(2938, 'Hailie', 'Kling', 'South Luciousfort', 'Indonesia', '1950-11-11', 'Voluptas dolor nobis. Eos magni quod eaque eum voluptatem. Qui sunt alias ducimus quod recusandae. Saepe repellendus eaque culpa voluptatibus. Eius sapiente nisi deserunt omnis non aut.', 'Syrian'),
-(290, 'Rubye', 'Bayer', 'East Jaquelin', 'Italy', '1946-10-14', 'Facere repudiandae impedit. Porro omnis tempore perferendis atque. Animi voluptatem modi voluptatem architecto. Tenetur enim vero saepe nisi et quia.', 'Syrian'),
-(4702, 'Braulio', 'Grant', 'Bauchside', 'Oman', '1975-01-23', 'Ea quod voluptates. Et voluptas soluta. Dolorem nihil voluptatem nesciunt. Et ducimus ut dolorem. Et eum quas doloremque pariatur molestiae.', 'Liechtensteiner'),
-(1518, 'Crawford', 'Tremblay', 'New Garthmouth', 'Marshall Islands', '1925-06-09', 'Dolores aperiam sit cupiditate ratione soluta autem magni. Voluptatum voluptate quod earum. Non ex et libero. Temporibus est minus perspiciatis optio quo voluptas.', 'Kittian and Nevisian'),
-(3974, 'Michaela', 'Davis', 'Carloside', 'Guernsey', '1944-04-02', 'Adipisci qui similique et velit amet laborum. Dicta temporibus expedita tenetur molestiae. Et et sed est eaque est et. Omnis mollitia aut iste et ut.', 'Cuban'),
-(3021, 'Joshua', 'Pfannerstill', 'Ewaldland', 'Switzerland', '1994-03-11', 'Distinctio alias laudantium repudiandae. Deserunt fugit voluptatibus. Nihil pariatur rerum eos veritatis. Cupiditate minus natus sunt. Debitis nam amet voluptate ab dicta hic.', 'Nepalese'),
-(7752, 'Robbie', 'Ullrich', 'Madonnaland', 'Trinidad and Tobago', '1943-05-18', 'Debitis enim sed harum soluta expedita rerum amet. Quibusdam quod incidunt doloribus. Et labore qui. Sunt ut nihil. Sed voluptates dolorem ut voluptates porro.', 'Kittian and Nevisian'),
-(2072, 'Rosalee', 'Schaefer', 'North Bo', 'Svalbard & Jan Mayen Islands', '1959-04-16', 'Eos nemo rerum fugiat distinctio aspernatur aut. Harum numquam necessitatibus occaecati sit quaerat deserunt praesentium. Maiores illo officia et voluptates. Neque ea accusamus similique voluptatem. Corporis officia voluptatem aut amet esse.', 'Austrian'),
-(1639, 'Andre', 'Collins', 'New Domenick', 'Saint Pierre and Miquelon', '1927-04-02', 'Porro voluptatum molestias occaecati deserunt alias. Aliquam molestias dolorem aut ipsam totam. Maiores blanditiis aut harum. Perferendis cumque itaque aut.', 'Greek'),
-(9224, 'Karolann', 'Muller', 'North Lucianofort', 'Kenya', '1992-03-17', 'Qui sit sint. Nostrum accusamus velit tempora qui. Esse non excepturi earum eum laborum. Mollitia officiis ea.', 'British'),
-(2401, 'Eulalia', 'Schultz', 'Stromanborough', 'Benin', '1988-10-20', 'Atque doloremque qui. Exercitationem ex occaecati omnis alias. Dolores illo delectus rerum qui atque ea. Quaerat consequuntur quisquam exercitationem voluptas. Consectetur et ducimus enim delectus.', 'American'),
-(2857, 'Vernie', 'Okuneva', 'Port Ceceliabury', 'Morocco', '1959-07-14', 'Ex quam odit molestiae eum vel tenetur impedit. Magni aut provident. Qui nemo quia delectus et quaerat. Ut id recusandae. Hic porro nisi asperiores iusto qui quidem vel.', 'Albanian'),
-(807, 'Adrianna', 'Bosco', 'New Novella', 'Norway', '1991-06-05', 'Aut ipsum sint ut autem ratione. Rerum possimus facilis. Quaerat ut omnis. Alias est non.', 'Mexican'),
-(7521, 'Dan', 'Trantow', 'West Edd', 'Greenland', '1941-12-06', 'Et architecto tempora optio. Labore mollitia consequatur provident explicabo vel voluptatum. Vel quidem corrupti doloremque. Quod possimus est saepe doloremque voluptatum placeat. Eveniet recusandae harum aut accusantium.', 'Australian'),
-(806, 'Tess', 'Brown', 'Torpview', 'Burkina Faso', '1938-08-20', 'Non recusandae voluptatem minima sapiente. Dicta qui nulla beatae. Aut nam ad aliquid.', 'Maldivan'),
-(133, 'Terrence', 'Pagac', 'Davisburgh', 'Burkina Faso', '1999-09-21', 'Sed et magni vitae dolorem officia nihil. Autem suscipit et quod eius. Architecto molestiae et veritatis. Velit vel iste voluptas quod. Iste cum et rerum laudantium.', 'Slovakian'),
-(2920, 'Jairo', 'Schumm', 'Granvillefurt', 'Lesotho', '1953-11-30', 'Iusto ullam assumenda dignissimos omnis molestias sed. Ut ad maiores enim sapiente velit voluptates. Vel aspernatur repellendus.', 'Slovakian'),
-(4645, 'Sandra', 'Steuber', 'Port Gust', 'Dominica', '1920-04-13', 'Sint ab voluptate similique. Sit ad ratione consequatur. Nostrum earum architecto ut vero sunt quis. Aut rerum ipsa consequatur minima. Ullam ducimus voluptas deserunt facere qui.', 'Indonesian'),
-(8308, 'Amely', 'Torp', 'Tiannastad', 'Myanmar', '1962-09-20', 'Omnis cumque voluptatem. Id sapiente quis sunt aliquam eos vel. Impedit soluta libero quisquam esse. Ut rem mollitia sit.', 'Welsh'),
-(4697, 'Dan', 'Larkin', 'Lebsackstad', 'Latvia', '1950-10-12', 'Rem velit est veritatis et animi animi. Id rem dolorem et dolore. Animi dolore sed voluptatum voluptas. Expedita qui amet officiis cum. Impedit impedit molestiae voluptatem sint blanditiis.', 'Romanian'),
-(8384, 'Lewis', 'Waters', 'South Macihaven', 'Zimbabwe', '1941-08-19', 'Sapiente laudantium enim. Eos tempore ab in officia molestiae. Molestiae occaecati perspiciatis.', 'Central African'),
-(1003, 'Raquel', 'Hickle', 'South Mikelbury', 'Turkmenistan', '1972-03-11', 'Repellendus quo non sit et aut. Quod aut et vitae et ullam aut. Sed at ea error et officiis. Voluptatem non mollitia nesciunt enim. Eos numquam omnis ea aut libero dolorem.', 'Lithuanian'),
-(4311, 'Watson', 'Moore', 'Kuphalside', 'Romania', '1930-06-20', 'At reiciendis quasi aut quaerat et. Animi qui in rerum cumque fuga. Beatae quidem sunt accusantium atque sit distinctio nam.', 'Romanian'),
-(6024, 'Amanda', 'Hyatt', 'Edmouth', 'Botswana', '1965-12-16', 'Quibusdam ea voluptas earum explicabo earum sit. Odio consequuntur consequatur blanditiis natus. Sit omnis veritatis eum accusantium veritatis enim aliquam. Consequatur commodi occaecati et quaerat. Et sed eum labore non enim expedita et.', 'Slovakian'),
-(4326, 'Jason', 'Johnson', 'Lake Alene', 'Qatar', '1935-11-18', 'Ullam repellendus a cum autem molestias vel nobis. Magnam voluptatem mollitia velit. Animi doloremque ex. Voluptatem at est dolore. Eligendi possimus quos quibusdam nihil et earum est.', 'Australian'),
-(8246, 'Coy', 'VonRueden', 'North Dawsonshire', 'Venezuela', '1960-11-25', 'Vitae dolorum ipsum nulla dolorum quas pariatur eligendi. Similique iusto veniam ut aliquam minima. Magni asperiores sed sed ut vel et earum. Est soluta iste fugiat tenetur illum.', 'Central African'),
-(6645, 'Torey', 'Kuhic', 'Lake Caitlynview', 'Dominica', '1931-08-14', 'Quis quam sed quos sint commodi blanditiis laborum. Molestias ducimus ut rerum dolorem. Suscipit voluptatem quod.', 'Maldivan'),
-(5119, 'Ona', 'Lang', 'New Maxwellstad', 'Swaziland', '1925-05-13', 'Atque fugiat inventore ipsam dolores dolorum harum exercitationem. Accusamus dolor culpa. Nam ut est accusantium ratione at.', 'Kittian and Nevisian'),
-(3241, 'Taryn', 'Heaney', 'East Ora', 'Anguilla', '1957-01-28', 'Aut suscipit fugit iste. Hic blanditiis nisi beatae culpa autem sed et. Est optio vero nam omnis. Nihil provident totam odio quam rerum. Qui animi et ut.', 'Malaysian');
+insert into author(id, author_id, first_name, second_name, birth_city, birth_country, birth_date, author_descr, nationality) values
+(1, 2349, 'Virgie', 'Dach', 'New Felicita', 'Latvia', '1966-11-30', 'Aut et eligendi. Quo dolorem dolores voluptatem possimus sed aut. Mollitia sapiente quia et dolor rerum. Ullam et qui beatae numquam aut molestiae.', 'Greek'),
+(2, 1805, 'Jana', 'Harvey', 'Susiefurt', 'Cook Islands', '1940-01-26', 'Numquam quae non et. Reiciendis corrupti molestiae alias odit consequatur. Dolorem architecto quia suscipit maiores ex. Mollitia omnis voluptatum quibusdam. Optio voluptatem facere possimus aut molestiae magnam sit.', 'Maldivan'),
+(3, 5732, 'Sonya', 'Tremblay', 'Lake Bartonstad', 'Azerbaijan', '1937-05-10', 'Sint et maxime ut nihil quisquam aut. Iure est quia unde doloribus quidem sit. Reprehenderit laboriosam ducimus laborum et. Sit vitae dolore ullam repellat. Quia vitae cum et aut.', 'Nepalese'),
+(4, 2307, 'Magdalen', 'VonRueden', 'Shanieberg', 'Cambodia', '1943-02-24', 'Beatae animi et aperiam molestiae maiores possimus. Cum eveniet quia eos dolorem quibusdam. Et qui quasi eos. Fugit at id nostrum quibusdam. Vero omnis pariatur.', 'German'),
+(5, 8386, 'Anita', 'Lowe', 'Jacobsonbury', 'United Arab Emirates', '1998-02-17', 'Deleniti ut quo error alias est. Rerum corrupti cupiditate. Iure et at fugiat nisi sed distinctio.', 'American'),
+(6, 458, 'Jo', 'Schneider', 'West Janelle', 'San Marino', '1935-01-26', 'Fuga id illo reprehenderit pariatur minima. Aliquam optio voluptatem. Dolore nesciunt a est debitis iste enim nobis.', 'Chinese'),
+(7, 6747, 'Delia', 'Nienow', 'Pfannerstillchester', 'Eritrea', '1960-03-03', 'Non vitae velit sed sunt. Qui itaque ut consequuntur sint saepe esse consequuntur. Unde alias non quibusdam voluptas aliquam quia.', 'Egyptian'),
+(8, 6650, 'Araceli', 'Langworth', 'Robinfort', 'Turkey', '1968-01-02', 'Sit delectus labore. Dolores aut dolorem. Voluptatem voluptatibus nisi iste labore deleniti cupiditate. Sit aperiam consequatur.', 'Spanish'),
+(9, 7213, 'Gustave', 'Schulist', 'Pfannerstillville', 'Italy', '1974-08-05', 'Aliquid tempora voluptas. Sed nesciunt laudantium repellat est placeat. Quia qui reprehenderit. Voluptas saepe illo et iste facere nemo est. Rerum cumque assumenda vel est.', 'Greek'),
+(10, 8213, 'Watson', 'Beahan', 'Greenborough', 'Madagascar', '1960-05-11', 'Et commodi quaerat impedit fuga unde omnis in. Aut rerum excepturi unde quaerat odit reiciendis. Provident modi dolorem nemo aut quas eum.', 'Spanish'),
+(11, 4518, 'Martine', 'Doyle', 'East Ceasarstad', 'Poland', '1948-07-07', 'Sint eos beatae eum. Et eveniet consectetur voluptatem neque voluptas. Voluptatem quisquam eum autem et reprehenderit eum.', 'Austrian'),
+(12, 4566, 'Lexus', 'Murphy', 'South Jaron', 'South Africa', '1927-07-18', 'Excepturi voluptas et enim aut illo. Omnis occaecati expedita. Est totam et officiis est ea voluptatem. Qui harum eaque. Eveniet quisquam sed inventore.', 'Angolan'),
+(13, 4546, 'Jessica', 'Bernier', 'West Declanberg', 'Hong Kong', '1928-09-01', 'Ut mollitia repudiandae harum ipsa iure placeat. Quae quos id quasi. Ut quae non. Illum praesentium temporibus. Quidem nesciunt quas aut id.', 'Moldovan'),
+(14, 5659, 'Willow', 'Senger', 'Dejahmouth', 'Republic of Korea', '1935-03-31', 'Ratione harum recusandae eos enim. Enim eligendi eos sequi. Quia a ipsam eos quo rerum. Omnis qui atque.', 'Egyptian'),
+(15, 9323, 'Tony', 'Kuphal', 'Lake Caroline', 'Djibouti', '1942-11-05', 'Cumque modi tenetur laudantium illum atque expedita tenetur. Sunt sed aut. Sed ut culpa cum modi. Quae distinctio neque illum. Deleniti laborum voluptatem.', 'Namibian'),
+(16, 3757, 'Freda', 'Bogisich', 'West Esteban', 'Iceland', '1975-09-15', 'Rerum consequatur ea assumenda et nam cum. Non error quisquam. Sed quos quibusdam ducimus. Molestiae facilis ullam quis. Enim in quia aut facere non incidunt.', 'French'),
+(17, 7048, 'Floyd', 'Kertzmann', 'New Juliana', 'Grenada', '1924-11-07', 'Distinctio ex voluptatem. Corporis minima optio corrupti omnis eum itaque. Nihil placeat ducimus.', 'Canadian'),
+(18, 4595, 'Morris', 'Zieme', 'Webertown', 'Togo', '1943-03-21', 'Non maiores ut magni. Eligendi sequi rem. Quia a cupiditate provident. Rerum in nihil repellat perferendis. Impedit optio qui et pariatur corporis atque odit.', 'Lithuanian'),
+(19, 8897, 'Camila', 'Stark', 'Lake Maynardhaven', 'Namibia', '1963-12-20', 'Fugiat fuga deserunt. Commodi suscipit ullam quaerat ut eius. Omnis officia possimus. Exercitationem commodi excepturi eum occaecati a.', 'Albanian'),
+(20, 6625, 'Daija', 'Wiegand', 'Maxineside', 'Spain', '1931-03-12', 'Recusandae animi commodi. Provident officia non aperiam necessitatibus. Et explicabo tenetur soluta iusto est.', 'Turkish'),
+(21, 8852, 'Green', 'Johns', 'New Shaniebury', 'Brunei Darussalam', '1955-02-14', 'Iure velit itaque incidunt fugit a id omnis. Voluptatum beatae necessitatibus iure quibusdam itaque. Est et quibusdam vel ex.', 'Turkish'),
+(22, 1473, 'Orin', 'Kreiger', 'West Ramona', 'Kyrgyz Republic', '1922-06-22', 'Assumenda ad voluptas mollitia doloribus maxime at voluptatem. Vitae provident quod aliquam ut voluptate qui. Aut et sunt velit consequatur. Dolorem exercitationem debitis quaerat et quod qui quisquam.', 'Namibian'),
+(23, 1776, 'Crystel', 'Larson', 'New Robbiechester', 'India', '1938-02-06', 'Tenetur et qui deleniti. Eaque non vitae impedit. Temporibus qui ipsum quia suscipit sed ipsa.', 'Welsh'),
+(24, 2406, 'Erick', 'Legros', 'North Jany', 'Nepal', '1945-06-04', 'Rerum eos quae dignissimos dignissimos. Autem perferendis voluptas consectetur delectus ea architecto. Sapiente eum aut culpa.', 'Cuban'),
+(25, 3997, 'Junior', 'DuBuque', 'Botsfordview', 'Fiji', '1970-05-10', 'Ipsum qui quaerat magni quo asperiores autem nostrum. Eos quia id et atque inventore. Et quae consequuntur. Corporis molestias corporis officia quaerat dolor adipisci. Qui in quidem nihil error praesentium.', 'Canadian'),
+(26, 2921, 'Randy', 'Bernier', 'Connerside', 'Jamaica', '1933-06-04', 'Dolorum repellat vero qui hic eos nam. Minus odio voluptas porro quibusdam. Voluptas sit iste vel perspiciatis voluptate. Non id beatae voluptas iure. Et et nulla excepturi quae optio.', 'Austrian'),
+(27, 1584, 'Georgiana', 'Bernier', 'Wilmerberg', 'Andorra', '1960-02-17', 'Occaecati voluptatum beatae aut qui autem fuga libero. Dignissimos at odit voluptatem. Dolorem soluta iste ratione ipsum repellendus id aliquam. Voluptas quos ut perferendis possimus ex architecto error.', 'Luxembourger'),
+(28, 1431, 'Hollis', 'Littel', 'Dietrichbury', 'Guam', '1969-06-20', 'Non esse molestias eaque illo necessitatibus. Id omnis id animi qui vero et. Eos consequatur distinctio quos officiis voluptatem. Et hic tenetur.', 'Central African'),
+(29, 5069, 'Mafalda', 'Streich', 'West Hallieport', 'Sweden', '1938-04-06', 'Aperiam qui rerum qui dolor libero minima. Magni illo rerum quia. Sapiente corrupti quibusdam alias qui consequuntur.', 'Belgian'),
+(30, 4301, 'Filomena', 'Howell', 'Koelpinstad', 'Ireland', '1957-06-16', 'Saepe ut magnam at ratione cumque ut. Ipsam maiores ad laboriosam. Sed officiis maiores illum perspiciatis.', 'Moldovan'),
+(31, 5414, 'Isobel', 'Schumm', 'Kossville', 'Malaysia', '1995-04-22', 'Dicta eum autem iste officiis et. Hic odio omnis consequatur rerum commodi ut. Eaque aut quas tenetur deleniti quia facilis. Vel esse sed soluta. Sit enim id.', 'Syrian'),
+(32, 547, 'Rocky', 'Hansen', 'New Daijafurt', 'French Polynesia', '1955-09-21', 'Modi ea et at modi vel. Iste deleniti est rerum. Sit dolorem magni odio.', 'Bahamian'),
+(33, 3753, 'Katrina', 'Johns', 'Shadshire', 'United Arab Emirates', '1929-04-25', 'Vero quia ad necessitatibus ratione. Vero ipsa est quia minima. Qui voluptatem earum autem eos debitis. Et hic eveniet eos praesentium nam labore sed. Id voluptatem vel vel earum architecto.', 'Angolan'),
+(34, 1341, 'Ellen', 'Marquardt', 'Faheytown', 'Andorra', '1995-03-26', 'Deleniti sit occaecati vitae. Iure voluptate doloremque sint et quae molestiae. Architecto quasi tenetur alias.', 'Indian'),
+(35, 6327, 'Arne', 'Rau', 'New Tavares', 'Somalia', '1963-06-02', 'Ex architecto hic quis in. Earum enim sit autem corporis nisi saepe. Atque aut aut blanditiis. Ipsa doloribus sit amet non est debitis nam.', 'Bahamian'),
+(36, 9546, 'Cynthia', 'Hudson', 'Port Ramona', 'Malaysia', '1983-12-17', 'Repudiandae omnis sit aut. Quod enim earum quia ut voluptatum. Doloribus accusantium eum dolore numquam.', 'Mexican'),
+(37, 1816, 'Cole', 'Koepp', 'Celestinefurt', 'Cook Islands', '1993-03-28', 'Molestias temporibus corporis perferendis perferendis. Impedit non assumenda. Aut nostrum et doloremque ducimus.', 'Dutch'),
+(38, 2007, 'Sheila', 'Prosacco', 'Marksview', 'Denmark', '1991-08-01', 'Iusto harum veritatis enim. Id doloribus eum. Aut cum aspernatur soluta eos quo necessitatibus.', 'Andorran'),
+(39, 9316, 'Mozell', 'Zemlak', 'Port Marjolaine', 'Iran', '1966-01-13', 'Sit dolorum laborum eos vel voluptas. Ducimus iste in sed quas enim. Libero sit quod ipsa ut error laudantium similique. Nemo et earum aperiam qui illo. Id earum et amet porro.', 'Czech'),
+(40, 989, 'Nasir', 'Denesik', 'East Vernerberg', 'Saint Lucia', '1922-11-14', 'Fuga consectetur est cumque odit repudiandae qui. Quia esse modi qui sunt et excepturi iste. Fugiat voluptatem accusantium animi illo odio tempore. Est quas non excepturi.', 'Welsh'),
+(41, 7445, 'Nico', 'Collins', 'Port Adellville', 'Belgium', '1952-05-30', 'Nihil omnis libero sed deleniti sunt. Et vel deserunt doloribus laborum. Dolores omnis corrupti numquam et. Ratione beatae illo velit est nostrum. Cumque repellat sed minima minima laborum.', 'German'),
+(42, 4255, 'Maurine', 'Dickens', 'Purdyburgh', 'Turks and Caicos Islands', '1927-10-11', 'Iusto eum est vitae nihil minus facere. Aperiam quasi ut odio deserunt est autem. Velit voluptas enim.', 'Canadian'),
+(43, 1407, 'Milan', 'Huels', 'Coleport', 'Comoros', '1987-06-27', 'Quae ad tempore. Maxime tenetur voluptatem deserunt et nesciunt. Perferendis omnis et ipsa iure fuga.', 'Peruvian'),
+(44, 302, 'Makenzie', 'Padberg', 'Brookefort', 'Mexico', '1928-08-10', 'Maxime quaerat vitae sed illum. Sed aliquid molestiae nam eligendi. Voluptatibus mollitia accusantium ad quia qui et voluptas. Nam suscipit neque dolorem. Delectus et ipsum.', 'Bulgarian'),
+(45, 6825, 'Elyssa', 'Corwin', 'East Talon', 'Senegal', '1929-10-07', 'Consequatur rerum consequuntur sint. Ratione dignissimos repellendus. Sed vitae sed enim hic. Et quia voluptates qui voluptate sunt.', 'Namibian'),
+(46, 6837, 'Dena', 'Langworth', 'Dooleyfort', 'Niue', '1975-11-15', 'Pariatur placeat voluptatibus voluptatem eos et fuga architecto. Neque voluptatem aspernatur numquam dolores. Dolorum saepe quo consequuntur ab ullam provident quaerat. Suscipit quo nam accusamus non dignissimos earum consequatur. Qui in dolore maiores a minus debitis recusandae.', 'Luxembourger'),
+(47, 5238, 'Lexi', 'Crooks', 'Kohlerport', 'Cameroon', '1933-07-27', 'Voluptatum quia rerum ipsam. Ut et impedit. Et omnis quo voluptatem.', 'Irish'),
+(48, 5070, 'Lelah', 'Langosh', 'North Wilfredo', 'Turkey', '1972-09-23', 'Suscipit autem id enim repellendus possimus. Quia quos reprehenderit et alias molestiae ut dolorem. Nam sint temporibus impedit ratione iste.', 'Canadian'),
+(49, 3243, 'Fritz', 'Farrell', 'Lake Kobyfort', 'Sierra Leone', '1998-04-19', 'Aut rerum ipsam nisi molestiae. Ipsum nemo rem aliquid optio. Ipsa unde ea.', 'Cuban'),
+(50, 1023, 'Yessenia', 'Turcotte', 'South Elijahland', 'Finland', '1921-09-06', 'Veritatis dicta aliquam iste dolor. Qui delectus voluptatem voluptate eligendi odio veritatis omnis. Maxime at officia aut in nisi soluta voluptas. Culpa ducimus non ratione blanditiis et rerum optio. Quod dolorem quo corrupti veniam cupiditate dolorum.', 'Syrian');
 
-insert into genre(genre_id, genre_name, genre_descr) values
-(3680, 'Textbook', 'Similique voluptatem et corrupti placeat explicabo dolor dolor. Reprehenderit reprehenderit minus commodi tempore aut quasi maxime. Qui perferendis consectetur dolores qui commodi.'),
-(691, 'Western', 'Iusto eveniet vel enim labore alias repudiandae amet. Earum non dolores. Voluptatem sed quasi porro est et qui.'),
-(4906, 'Fiction in verse', 'Quod tenetur neque quisquam fugiat ut ipsa delectus. Amet alias quia quo sed necessitatibus. Consequatur dolorum debitis consequatur cupiditate quia.'),
-(1121, 'Narrative nonfiction', 'Perspiciatis sed perferendis facere et itaque impedit. Cupiditate id amet. Aliquam facilis doloribus numquam ea aut porro. At molestiae est maiores nihil soluta voluptatum impedit.'),
-(4648, 'Essay', 'Odio dignissimos autem vero et reprehenderit omnis incidunt. Laudantium hic voluptatum non minus error est unde. Iusto ipsa nisi ullam laborum aut. Eligendi porro quia reprehenderit cumque.'),
-(8168, 'Crime/Detective', 'Et et totam nihil. Similique aut ut inventore molestiae nemo. Vel fugiat consequatur rerum molestiae sit harum.'),
-(1054, 'Folklore', 'Ipsam maiores quis eaque distinctio in beatae. Maxime deserunt perferendis qui sequi adipisci. Et odit facilis. Harum amet quam eos distinctio.'),
-(3560, 'Historical fiction', 'Perspiciatis accusantium est. Est laboriosam aliquam earum eos. Est ex ullam nisi omnis praesentium. Quasi voluptatum ipsum tempore ut placeat ducimus optio. Similique omnis est ullam omnis.'),
-(1136, 'Mystery', 'Dolorum velit numquam quaerat iste iusto. Qui in enim. Possimus odio perspiciatis ea inventore iusto autem. Fuga natus esse nisi qui cum illo qui. Quis consequuntur sit et quaerat vero nobis ut.'),
-(8476, 'Fable', 'Autem est quibusdam et. Tempore quae quo qui est deserunt consequatur totam. Rerum molestiae consequatur.'),
-(4311, 'Speech', 'Numquam dolorem est. Impedit consequatur est dolore voluptatem ab aspernatur non. Deleniti sit enim quae corrupti dicta.'),
-(6613, 'Metafiction', 'Optio exercitationem illum perspiciatis. Qui et omnis omnis eveniet quo est. Ipsum aut debitis. Officiis enim perspiciatis voluptas et voluptas culpa explicabo.'),
-(6906, 'Short story', 'Rem voluptas et itaque ducimus quod nobis. Enim incidunt suscipit aut saepe dolor. Labore distinctio ab est a expedita. Saepe voluptas reprehenderit nostrum et reprehenderit.'),
-(1575, 'Realistic fiction', 'Voluptatem voluptate velit dolores perspiciatis. A libero ullam nisi rem. Omnis quasi temporibus omnis corrupti. Amet ut non optio vel voluptatem.'),
-(8138, 'Reference book', 'Et aut in sapiente eius molestiae totam. Occaecati quasi reiciendis dolor soluta quia. Iusto aperiam consequuntur tempore dignissimos blanditiis. Ex voluptatibus animi corporis suscipit.');
+alter sequence author_seq restart with 51;
 
-insert into book (book_id, book_name, book_language, book_descr, book_height, book_length, book_width, page_count, publication_year, author_id, genre_id) values
-(5379, 'Omnis tempora molestias voluptatem', 'german', 'Dolores quasi a ut consequatur hic qui omnis. Occaecati eos tempore autem dolorum omnis error. Est aut dolore est rerum optio est.', 29.7, 4.7, 12.2, 859, 1973, 1518, 4906),
-(7956, 'Non dolorem dolore id', 'croatian', 'Laborum quae laborum aspernatur adipisci ut. Et voluptatibus corrupti sunt. Voluptas laboriosam tempora id qui quis.', 11.3, 3.8, 19.7, 102, 2000, 2539, 1054),
-(3548, 'Sapiente et qui iusto', 'armenian', 'Voluptatum ducimus dolorum recusandae. Eaque suscipit nulla velit. Quas dolores earum inventore.', 32.1, 2.1, 26.4, 397, 1998, 7936, 8138),
-(7919, 'Est qui laudantium', 'belorussian', 'Earum quidem ipsum asperiores. Hic et sed. Soluta doloremque totam adipisci minima voluptatem ullam veritatis. Cum voluptatibus vel deleniti mollitia architecto dolor.', 30.5, 2.9, 29.3, 441, 1995, 9224, 1575),
-(2993, 'Labore dolores qui', 'arabic', 'Eum dignissimos voluptatem corrupti adipisci dolorum omnis. Aperiam amet sapiente culpa corporis molestiae numquam cupiditate. Aspernatur eligendi porro. Odit occaecati qui amet est. Expedita molestias dolore eveniet alias eaque.', 15.9, 4.4, 22.9, 188, 1989, 9224, 4311),
-(5111, 'Aut quo nam', 'belorussian', 'Provident adipisci adipisci. Ut error ab vero nobis. Incidunt rerum rem deleniti dolor perspiciatis. Ducimus ut aut placeat.', 22.7, 1.4, 17.3, 668, 2000, 8246, 1054),
-(2497, 'Vel repellat quibusdam', 'russian', 'Odit eveniet corrupti. Voluptas reprehenderit sed est. Nam earum nisi consectetur accusamus quam.', 9.4, 2.4, 32.8, 349, 1993, 2857, 1054),
-(4714, 'Velit ut libero', 'german', 'Dignissimos facilis aliquam ea quam hic et odio. Rerum error quod quo voluptatem ipsam eius. Voluptates dolorem sed facere qui unde.', 26.6, 3.7, 31.0, 67, 2015, 2034, 3560),
-(8003, 'Maiores aut ipsa repellendus', 'arabic', 'Expedita distinctio aut saepe iusto eos minima consectetur. Quia pariatur porro. Mollitia ut molestias nesciunt est nihil eos.', 13.4, 4.4, 29.5, 40, 2008, 3049, 1121),
-(2745, 'At totam sunt', 'french', 'Aut beatae vitae accusamus qui fugit. Sit molestiae odit dolor ullam. Ipsam nesciunt cumque accusamus voluptatum aut ad. Ducimus dolor ut molestias. Ducimus est labore harum ipsam dolore consequatur quia.', 32.3, 2.4, 33.0, 291, 1975, 2401, 3560),
-(8812, 'Id est consequatur et', 'armenian', 'Quis commodi laboriosam quidem non recusandae eius. Sed architecto deleniti quia eligendi dolor sed. Qui dignissimos saepe enim quia culpa. Possimus et iusto. Quam commodi et animi voluptates id saepe perspiciatis.', 33.3, 2.9, 18.5, 216, 2018, 9790, 4311),
-(8832, 'Doloremque ut neque', 'russian', 'Explicabo omnis occaecati voluptate libero. Dignissimos sed omnis quo commodi nemo. Aspernatur in dignissimos. Consequatur sunt vitae eligendi sunt.', 21.7, 4.5, 20.9, 834, 2016, 290, 8168),
-(9691, 'Rerum nobis facere tenetur', 'english', 'Ut fugit repellat quisquam beatae a consectetur sed. Quaerat tenetur id enim maxime aut consequuntur. Quaerat ipsum provident maiores nisi mollitia sint. Ut et aut doloribus et accusamus modi.', 19.0, 4.8, 8.5, 300, 2006, 7752, 8476),
-(4485, 'Odio fugit eveniet nihil', 'french', 'Est quisquam id quia consectetur corrupti facilis. Sed aspernatur inventore. Ex id ut vel natus nulla distinctio. Animi autem ut eos eos omnis officiis. Consequatur magni ut velit consectetur perspiciatis odio voluptas.', 24.7, 3.6, 7.1, 827, 1991, 806, 8168),
-(1708, 'Voluptatum doloribus nihil a', 'belorussian', 'Soluta eos voluptas. Blanditiis laborum voluptate cumque fugit iure sapiente hic. Et eveniet cupiditate ut.', 15.2, 4.0, 30.8, 286, 1975, 2072, 8476),
-(4296, 'Reprehenderit blanditiis dignissimos dolorem', 'portuguese', 'Laboriosam eveniet ex nam. Recusandae numquam non necessitatibus perferendis ipsa quod unde. Eos a maiores perspiciatis.', 30.9, 3.5, 17.2, 706, 1995, 7521, 8476),
-(5505, 'Voluptatibus laudantium voluptatem qui', 'arabic', 'Quas soluta eos consequatur et. Velit deleniti accusamus qui unde sint. Eum ea et labore facere reiciendis omnis. Et tenetur nostrum ut et consequatur quia. Quo expedita dicta cumque.', 30.5, 3.4, 31.0, 633, 1986, 9877, 691),
-(1014, 'Adipisci dolorem molestiae qui', 'chinese', 'Cupiditate voluptatem odit similique laudantium sequi. Enim id est sed possimus. Pariatur qui vel est magnam possimus sit.', 32.5, 2.0, 28.6, 838, 2015, 4043, 4648),
-(8106, 'Sit est omnis mollitia', 'french', 'Omnis dolore aperiam error dolorem quia laborum repellendus. Quo quaerat culpa tempora error qui illo ducimus. Soluta ut rem laboriosam.', 11.5, 3.7, 12.5, 214, 1996, 3552, 3560),
-(3771, 'Nobis voluptatem impedit', 'spanish', 'Consequuntur est cupiditate in quis non non voluptatem. Quasi expedita accusamus quaerat aspernatur cum aspernatur explicabo. Dolorem nisi nulla adipisci omnis cumque dolores. Omnis nihil fuga expedita.', 22.4, 3.0, 29.7, 910, 2000, 9224, 8476),
-(3154, 'Aliquam sed voluptate ut', 'spanish', 'Vel iusto sint nulla nesciunt dolor. Id voluptatem tempora ut. Eaque aspernatur corrupti. Quae harum consectetur earum.', 31.6, 4.3, 23.2, 753, 2010, 8361, 691),
-(6625, 'Iste voluptatem blanditiis', 'polish', 'Mollitia sapiente voluptatem modi omnis quo. Nihil qui corporis. Enim atque est vitae dolores quia iusto. Omnis voluptatem rerum velit ratione tenetur.', 8.4, 2.4, 15.8, 183, 2000, 4702, 4648),
-(3044, 'Aspernatur facere iste quia', 'french', 'Fugiat quaerat ab quam autem. Sunt quo maiores ut. Molestiae aut sed a nesciunt occaecati eos animi.', 15.3, 3.6, 22.0, 648, 1997, 807, 8168),
-(1663, 'Laboriosam provident architecto', 'urdu', 'Qui omnis hic voluptas tempora. Iste autem dignissimos cupiditate numquam quia dolores repellendus. In corrupti magni aut doloribus fugiat. Non itaque unde est debitis repellat quasi sed. Molestiae ut quo est ab qui eveniet dolor.', 17.2, 2.5, 23.3, 794, 1990, 7936, 691),
-(190, 'Earum voluptatem ipsa', 'spanish', 'Similique deserunt aut eos. Qui incidunt et. At aut aspernatur aliquid minima voluptatum autem excepturi. Qui est maxime unde qui.', 30.9, 2.9, 11.1, 96, 2009, 133, 691),
-(9548, 'Soluta quisquam enim', 'armenian', 'Suscipit excepturi id. Adipisci beatae consequatur ipsum. Est dolor corporis quia ducimus natus consequatur. Ipsa saepe eveniet nesciunt. Et atque ex sunt quas magnam molestias.', 22.5, 1.8, 18.5, 748, 1993, 2539, 6906),
-(5546, 'Tempore quasi facilis corrupti', 'portuguese', 'Labore nihil molestiae doloremque aperiam perspiciatis assumenda. In in aspernatur hic. Iure earum dolorem sit. Est voluptas assumenda libero et et quaerat.', 28.9, 2.4, 16.0, 113, 2014, 3552, 1121),
-(6661, 'Qui ipsam illo voluptas', 'belorussian', 'Non aut id libero incidunt eos. Nam deleniti natus. Maiores illo sint adipisci ducimus.', 23.6, 3.5, 18.5, 445, 1986, 8771, 3680),
-(3972, 'Consequatur mollitia magnam', 'english', 'Eligendi est possimus. Eos laborum harum dolor eos et voluptatem libero. Aut vitae adipisci reiciendis odit suscipit vel. Ducimus repellendus est consequatur odio.', 25.8, 4.4, 24.3, 314, 1999, 806, 1054),
-(7217, 'Suscipit voluptates voluptatum', 'armenian', 'Voluptatem provident earum non excepturi aut perspiciatis nulla. Eos quo eaque vitae quia. Tempore voluptatum ea perferendis molestiae earum minus ab.', 16.0, 1.2, 34.2, 982, 1975, 7521, 3560),
-(3033, 'Alias rerum optio expedita', 'chinese', 'Qui blanditiis et veniam modi. Expedita omnis et. Libero omnis est unde in voluptatem optio assumenda. Eos beatae totam qui.', 6.6, 3.8, 7.0, 795, 1973, 290, 3560),
-(1135, 'Iusto consequatur ullam nihil', 'polish', 'Eveniet vel ad. Omnis ut laborum non perferendis. Doloremque eveniet hic quibusdam ab aliquid.', 29.8, 4.8, 20.6, 32, 1988, 8361, 691),
-(1093, 'Quibusdam odio recusandae esse', 'portuguese', 'Deserunt aut aut quia aliquam quis maiores. Ad aut repudiandae ut voluptatum. Assumenda et est. Perspiciatis non explicabo.', 32.3, 4.8, 8.7, 560, 2015, 4311, 3560),
-(1584, 'Dignissimos tempore minima assumenda', 'arabic', 'Corporis ipsum aut aut mollitia error aut non. Aut suscipit magnam debitis cumque earum error excepturi. Laborum doloribus expedita veniam vel perferendis. Eveniet ullam culpa.', 24.3, 3.6, 17.7, 762, 1974, 6024, 8138),
-(792, 'Sed ut ullam', 'french', 'Pariatur nemo fuga minus qui veritatis. Enim voluptatum consequatur libero. Ut et ut libero explicabo ut.', 31.3, 2.8, 9.0, 490, 2018, 4043, 8476),
-(8077, 'Sed explicabo recusandae ut', 'english', 'Dolor officiis inventore excepturi. Autem incidunt quibusdam id quo mollitia. Aperiam voluptatem voluptatibus. Et corporis rerum suscipit sunt enim.', 14.6, 4.7, 9.6, 127, 1972, 2938, 4906),
-(2008, 'Eos omnis eaque', 'english', 'Maxime omnis placeat dolorem nesciunt nobis blanditiis corporis. Sint illum enim officia eligendi exercitationem. Dolores et voluptates accusamus ut non ut. Accusamus voluptatem vitae mollitia corporis reiciendis expedita. Voluptatem rerum beatae voluptatem qui.', 15.8, 2.7, 19.5, 892, 1987, 4645, 8476),
-(7216, 'Facilis praesentium autem', 'armenian', 'Aut culpa sit. Est unde sit. Quod nobis eius et exercitationem eum quisquam.', 9.8, 1.8, 29.0, 268, 1993, 2401, 8138),
-(7726, 'Animi asperiores quam omnis', 'portuguese', 'Sed et voluptatem perferendis. Et omnis non beatae vero. Est voluptatibus nulla temporibus delectus sit ducimus. Necessitatibus consequuntur omnis qui sed.', 20.8, 2.0, 15.1, 148, 2001, 2857, 6906),
-(8962, 'Qui odio natus', 'french', 'Voluptatem odio in. Iste aut asperiores reprehenderit dolor modi minus voluptas. Animi rem fugiat velit.', 20.3, 3.0, 19.5, 768, 1978, 2539, 6613),
-(3090, 'Aut reiciendis est consequatur', 'russian', 'Et velit sed consequatur. Nihil deserunt quae. Beatae quaerat molestias voluptas illum adipisci. Optio sunt itaque suscipit et fugiat quis. Adipisci eum similique nam et.', 27.1, 3.9, 16.7, 20, 1991, 9790, 6613),
-(725, 'Ut voluptatem non', 'french', 'Animi esse esse doloremque non eos minus voluptatum. Quis quam cum. Consequatur labore et sunt laudantium eum commodi.', 8.7, 3.2, 21.2, 174, 2018, 7752, 4906),
-(69, 'Laborum voluptatum id reiciendis', 'english', 'Dolores tempore ullam distinctio nihil repudiandae. Provident alias quaerat minus velit vel iure earum. At illum adipisci libero.', 17.5, 3.6, 12.5, 810, 1990, 8308, 3680),
-(764, 'Fugiat vel qui sint', 'portuguese', 'Dicta quaerat amet eaque consequatur voluptatem. Praesentium explicabo esse voluptas id sunt. Perspiciatis fugit magnam est perspiciatis. Inventore possimus est. Ut harum dolor.', 18.7, 1.1, 19.4, 546, 2003, 3241, 6906),
-(9217, 'In velit sit', 'armenian', 'Et atque delectus veritatis esse. Voluptatem mollitia maiores veniam et repudiandae. Excepturi provident nostrum in. Ex accusamus fugit adipisci corporis.', 19.0, 2.6, 6.1, 460, 2016, 2938, 1575),
-(2594, 'Qui earum ex nobis', 'arabic', 'Velit aut dolor aperiam deserunt. Deserunt ut velit laboriosam impedit molestiae quo. Dolore deserunt in.', 15.0, 1.5, 26.1, 239, 2012, 3241, 8476),
-(7902, 'Velit facere est aut', 'portuguese', 'Quibusdam expedita consequatur earum sit maxime. Perspiciatis ipsum accusantium voluptates corrupti minima ut. Eius culpa fuga dolores aut repellat ad.', 26.7, 2.7, 18.2, 217, 2002, 1602, 8138),
-(4827, 'Laboriosam quis id autem', 'urdu', 'Omnis iure fugiat et aut animi eos. Aliquid tempora occaecati inventore et. Eum veritatis quaerat nemo. Iure qui laudantium itaque fugit aut dignissimos. Dolore quibusdam itaque aut qui vel incidunt iste.', 29.9, 2.6, 28.8, 717, 1992, 8308, 6906),
-(7847, 'Qui commodi fugiat', 'ukrainian', 'Harum vero voluptatem ut totam error et similique. Nisi voluptas maxime nisi veniam ipsam aut. Voluptas velit minus omnis tenetur.', 24.8, 4.0, 19.4, 214, 2014, 7521, 691),
-(9732, 'Libero id ut', 'polish', 'Accusantium autem qui magnam nesciunt. Et libero non dolor provident quidem sunt. Dolorem dolores qui quia deserunt fugiat. Sequi dolorum facilis non.', 11.2, 2.7, 23.0, 947, 2012, 7003, 8168),
-(5654, 'Unde et consequatur', 'french', 'Aperiam consectetur ut ratione et aut. Quasi sint quia inventore molestiae harum. Consequatur atque quibusdam aut omnis. Repellendus illo nemo molestiae debitis. Aspernatur laudantium perspiciatis voluptatem.', 33.5, 5.0, 19.7, 727, 1973, 290, 1121),
-(5025, 'Alias sed blanditiis', 'chinese', 'Sint dolorem autem. Voluptatum tempore eos saepe ut maxime sapiente impedit. Consequatur officia quod excepturi quae dolorum.', 8.0, 3.1, 24.6, 470, 1982, 4043, 691),
-(1945, 'Tempore a alias qui', 'english', 'Veritatis sit nisi est saepe cum eligendi. Sunt ab quod et consequuntur deserunt. Enim rerum provident voluptas eius sequi. Et maiores est excepturi quia quo minus quos. Distinctio sint totam perferendis ut dolores id recusandae.', 18.9, 3.5, 13.0, 149, 1982, 9733, 6906),
-(2461, 'Voluptas dolores dolorem', 'croatian', 'Qui fugiat necessitatibus itaque iste. Nihil enim totam explicabo. Sit eos vero. Error corporis molestiae tempore quam aliquid et. Vero et omnis tenetur expedita ut temporibus ullam.', 12.1, 2.2, 19.2, 944, 1979, 3021, 6906),
-(5041, 'Deserunt tempora eos doloremque', 'ukrainian', 'Voluptates quidem consequuntur sed autem delectus sit. Et eaque odio laudantium ut et. Corrupti doloremque maiores omnis est enim odio sint.', 21.6, 1.0, 27.9, 966, 1993, 7752, 691),
-(3523, 'Impedit dolor eos', 'portuguese', 'Nihil harum fuga tempora qui. Ut officia ut earum explicabo consectetur. Cumque quam vitae nostrum. Et consequuntur sint enim. Inventore porro perspiciatis non ipsum.', 9.1, 2.8, 23.4, 297, 1997, 8771, 1575),
-(5470, 'Ut ut exercitationem velit', 'german', 'Qui et qui quia ratione. Accusantium unde quia nihil quod hic quia. Ipsum dolorem ut. Ea repellendus corrupti quo eos quos eum praesentium. Molestias quidem quia officiis.', 8.7, 1.6, 21.8, 926, 2018, 7936, 6613),
-(7898, 'Et facilis veritatis', 'polish', 'In sit repellat nisi est quia et ut. Rem maiores laborum velit. Quia dolorem maxime aperiam. Vel cum pariatur reiciendis eum.', 28.8, 2.5, 19.6, 168, 2016, 9224, 1575),
-(8371, 'Excepturi cum quia voluptatum', 'portuguese', 'Omnis porro voluptatibus nostrum dolores. Et quos dicta culpa et voluptates praesentium. Corrupti dicta qui hic ducimus sit et. Rerum ipsa at voluptates consequatur eius.', 12.0, 2.0, 19.8, 633, 1984, 7003, 6906),
-(2623, 'Animi ea qui', 'german', 'Rerum ut quidem nostrum autem. Velit maiores alias. Eum hic sed facere debitis non quibusdam. Velit nulla cumque delectus et id est labore. Omnis sed ducimus tenetur consequuntur similique qui nihil.', 11.6, 2.7, 14.4, 16, 2000, 133, 1575),
-(4836, 'Dolores aut sequi', 'russian', 'Cumque sunt vel eos enim. Unde et aut nam delectus at ut. Porro nihil consectetur tempore velit. Officiis dolorem omnis aut.', 22.4, 2.1, 5.4, 267, 2011, 8771, 8168),
-(8616, 'Labore omnis quia qui', 'urdu', 'Quas facere et quia sapiente. Odio dolores doloribus laboriosam accusamus ratione. Nulla necessitatibus hic enim. Qui eos ut itaque voluptatem omnis voluptatem.', 14.9, 3.9, 8.4, 589, 1981, 2499, 8476),
-(2550, 'Quis commodi aut', 'spanish', 'Libero libero molestias omnis aut id. Quia eos aut. Et similique harum officia. Et molestiae illo odio facere enim. Consequatur quis voluptatibus nulla.', 31.9, 4.3, 16.3, 665, 1979, 4311, 8168),
-(4186, 'Deserunt vero architecto necessitatibus', 'german', 'Ut cupiditate quis neque enim sapiente aut iure. Optio amet neque ut. Quia excepturi et consequatur velit. Non velit ut qui.', 24.5, 4.3, 17.3, 24, 1977, 3021, 8168),
-(997, 'Fuga cupiditate repellat', 'farsi', 'Magni nesciunt nulla. Sunt expedita quis. Hic occaecati eveniet nemo ut quos unde est. Incidunt rerum non aut laborum. Neque labore qui recusandae ut quasi earum numquam.', 14.9, 4.8, 31.4, 664, 1987, 8771, 691),
-(6476, 'A rerum ratione', 'russian', 'Minima illo in consectetur cum voluptatem odit consequatur. Ut sed praesentium. Et nemo ipsam sint. Vel nisi nesciunt. Impedit omnis est fuga aperiam odio facilis minus.', 19.4, 4.9, 11.1, 708, 1976, 1518, 4648),
-(9734, 'Quae est sed vitae', 'belorussian', 'Voluptas nihil ex quidem rerum aut omnis. Eveniet consequatur voluptas reiciendis. Ut quia aut ut sit. Voluptatem suscipit quis ipsum. Veritatis ad sapiente aut quia aliquam modi aut.', 17.9, 1.2, 17.7, 275, 2015, 1602, 4311),
-(138, 'Accusamus assumenda nisi', 'urdu', 'Nihil qui eveniet est eum. Sint at autem suscipit corrupti fuga. Autem quia dolorum deserunt voluptatem impedit sint. Rerum quos ipsa beatae quos et consequuntur perferendis. Quo aut dolorum qui eum quia est.', 5.8, 4.7, 18.1, 69, 1992, 290, 8168),
-(6524, 'Nostrum quas ipsa rem', 'croatian', 'Excepturi excepturi expedita numquam. Minima ducimus quam vero sint. Velit odio rerum dolorum magni excepturi iure.', 27.9, 1.2, 5.9, 942, 2000, 8771, 6906),
-(2868, 'Consequatur vitae tenetur', 'french', 'Ipsum officiis voluptatum minima. Tempore cum rem beatae provident dolores laboriosam et. Assumenda consequatur sed. Aperiam ea adipisci molestiae dolorum.', 10.4, 1.8, 18.7, 768, 1988, 6645, 1121),
-(6645, 'Nulla magni nisi', 'french', 'Quam quis qui quia maxime vitae alias. Ut itaque adipisci iste omnis autem est sint. Molestiae quasi porro repellat.', 17.2, 2.7, 29.8, 355, 1980, 4697, 4648),
-(2804, 'Et est delectus delectus', 'french', 'Eveniet harum qui qui repellendus. Omnis deserunt qui corrupti ullam. Doloremque quisquam deleniti aliquam et asperiores est nihil. Voluptatem rem at iusto maxime. Qui vero pariatur modi vero explicabo laboriosam.', 33.7, 3.1, 30.9, 148, 1985, 1602, 1054),
-(6183, 'Rerum atque adipisci quidem', 'ukrainian', 'Molestias vel incidunt modi commodi velit molestiae. Ut dolorem quod. Deleniti et veritatis sequi.', 9.5, 2.9, 14.9, 267, 1990, 6024, 1575),
-(2808, 'Rerum perferendis voluptatibus', 'croatian', 'Quisquam et aliquam dolor. Eum ratione ut laudantium. Ut sint molestias similique. Distinctio nihil minima.', 26.8, 4.8, 27.9, 919, 1970, 9224, 3680),
-(2206, 'Qui ea dolor', 'french', 'Consequatur suscipit maxime quia facere praesentium aliquid sit. Sint laborum velit. Vel illo reiciendis nulla aspernatur. Architecto alias ea labore deleniti sint. Ullam nihil blanditiis enim reprehenderit.', 26.2, 2.1, 31.6, 817, 1980, 807, 1136),
-(6643, 'Ullam laudantium ratione fugit', 'polish', 'Eum ipsam rerum blanditiis et. Ut suscipit molestiae et fugit maiores sit. Sint labore maiores et hic. Iure incidunt blanditiis perspiciatis ut.', 15.3, 2.3, 12.0, 899, 1988, 8361, 8168),
-(9623, 'Assumenda recusandae iure debitis', 'english', 'Quaerat sit odit eum. Velit voluptatem voluptates fugiat aut assumenda quis ad. Quasi accusantium et voluptatibus quia aliquam. Sunt consequatur magnam corporis commodi. Id deserunt qui repudiandae dolores.', 24.5, 3.3, 30.6, 803, 1990, 6980, 8476),
-(1779, 'Nobis assumenda nesciunt minus', 'polish', 'Mollitia maiores nulla totam. Ipsam numquam reprehenderit quidem rerum. Natus et voluptas est aut deleniti in.', 12.8, 1.5, 33.4, 443, 1976, 4326, 3560),
-(9191, 'Ipsum repellat laudantium', 'russian', 'Consectetur dolorem aut est non nihil labore rem. Fugiat deleniti quo debitis odio consequatur. Doloribus necessitatibus quis debitis. Et illo reiciendis dolorem et. Id necessitatibus sunt reprehenderit corrupti ratione.', 8.1, 4.1, 6.0, 178, 1983, 2938, 8476),
-(5464, 'Dolore in et', 'french', 'Nihil consequuntur adipisci dolorem magni pariatur cupiditate. Quaerat quo ex eum. Est qui quia. Recusandae numquam quo sed totam labore incidunt. Sint dolore nihil et fugit reprehenderit.', 17.5, 4.7, 28.3, 287, 1994, 7003, 8138),
-(5231, 'Nihil sed pariatur hic', 'german', 'Ut nesciunt et. Adipisci debitis ullam quidem eum optio. Velit possimus inventore ad. Odio nobis magni repudiandae. Autem culpa et accusantium.', 29.4, 4.6, 11.8, 103, 1985, 4326, 8476),
-(3104, 'Similique dolorem qui a', 'russian', 'Quia voluptas doloribus nihil. Dolorem quia iusto voluptatem aliquid. Earum qui reprehenderit laborum nihil sed et numquam. Eos placeat enim ipsam eaque eligendi temporibus quos. Hic aut sunt.', 31.7, 2.2, 7.2, 706, 1980, 8308, 8476),
-(3105, 'Et unde est', 'arabic', 'Illum ducimus repellat. Et aliquid impedit provident ut. Accusantium ut doloribus recusandae maiores dolores cumque.', 10.2, 4.4, 9.3, 885, 1992, 1639, 6613),
-(2945, 'Praesentium impedit aspernatur quibusdam', 'french', 'Odio maxime at autem autem. Accusantium aut non voluptas ad et fugiat maiores. Numquam ut unde ducimus. Quo pariatur dignissimos molestiae pariatur. Odit deleniti odio deleniti non autem omnis id.', 31.2, 1.4, 7.5, 85, 2004, 2401, 691),
-(2712, 'Labore consectetur voluptatum qui', 'french', 'Ea delectus vero consectetur explicabo distinctio nulla corrupti. Error cumque similique ut maxime explicabo iste. Enim saepe molestias dignissimos quia. Qui non placeat quis suscipit voluptatum.', 11.9, 1.7, 31.4, 143, 1984, 6199, 8476),
-(8297, 'Consequuntur aut beatae deleniti', 'belorussian', 'Ut quis nulla tenetur similique. Ad soluta consequatur beatae ratione consequatur. Maiores voluptatibus nemo nisi maxime. Corrupti ipsum nam sit ratione culpa animi omnis.', 31.0, 1.7, 14.2, 20, 2002, 3049, 8138),
-(7300, 'Reprehenderit qui quibusdam', 'belorussian', 'Voluptatem unde architecto. Impedit rerum consequuntur quam temporibus sed velit. Blanditiis asperiores repellendus. Et magni adipisci.', 18.6, 1.6, 7.4, 583, 1996, 290, 1136),
-(1795, 'Dolorem beatae et', 'urdu', 'Nulla natus quia. Quidem quia ipsa quia. Nam explicabo soluta. Ratione dolores a omnis tempore voluptatum.', 17.8, 4.7, 32.6, 475, 1999, 806, 6613),
-(9615, 'Et dolores voluptas mollitia', 'russian', 'Ut aliquid deleniti totam magnam. Quis vel deleniti qui mollitia sequi labore esse. Ea omnis reprehenderit voluptas quae.', 31.5, 3.3, 32.2, 362, 2014, 133, 4311),
-(6128, 'Voluptas et id excepturi', 'french', 'Consequuntur eum velit eveniet qui itaque. Vel ut recusandae qui. Blanditiis et labore.', 32.8, 3.1, 28.2, 746, 1988, 8361, 1054),
-(2629, 'Cumque voluptatibus ducimus unde', 'french', 'Id aspernatur sunt. Perspiciatis voluptate nulla nesciunt aut. Et culpa aut necessitatibus ut autem numquam.', 34.3, 2.0, 8.5, 647, 2011, 2857, 4906),
-(530, 'Eligendi ut deleniti', 'french', 'Quia et id est in quia qui. Blanditiis aspernatur magnam. Eum maxime necessitatibus voluptatem. Corporis sint temporibus nihil alias. Maiores non distinctio ratione.', 15.5, 4.0, 10.5, 773, 2013, 2034, 4906),
-(4509, 'Ut consequatur aut incidunt', 'french', 'Excepturi quibusdam quos voluptate possimus et minima. Rerum ipsum et rerum. Quia est quia harum laborum. Quisquam et fugit reprehenderit iure.', 16.9, 1.8, 24.9, 766, 1979, 4697, 4648),
-(5400, 'Tempore sunt vel', 'russian', 'At qui quibusdam. Voluptatem aut vel et. Qui nihil eos ipsam quibusdam ut.', 7.0, 2.6, 22.1, 196, 1983, 1602, 1136),
-(5277, 'Consequatur repudiandae ex enim', 'belorussian', 'Debitis eos iusto nisi consequatur ab voluptatum. Est nihil quis earum sint eum. Eligendi ipsa eos dolores sequi. Porro corporis est quisquam sed architecto non delectus. Repudiandae molestiae beatae sit cumque.', 17.9, 4.4, 25.3, 932, 2002, 7891, 4311),
-(3440, 'Dolor sed enim quas', 'urdu', 'Ipsum praesentium quis cumque aliquid. Fuga sed ipsam porro aliquam neque. Ex nobis optio error.', 14.3, 2.3, 7.4, 497, 1990, 3552, 3560),
-(2851, 'Fugit cumque unde quae', 'ukrainian', 'Aut commodi sit aliquid qui delectus. Consequatur saepe tenetur sit veniam ut qui. Laboriosam quibusdam quia accusantium repudiandae sequi aut est. Aut rerum sint nemo earum consequatur quia eaque.', 22.1, 3.4, 27.6, 835, 1983, 1003, 1054),
-(8922, 'Mollitia repudiandae est est', 'polish', 'Optio enim nostrum vel maxime voluptatem explicabo ea. Et ea aut ducimus. Fugit ex sequi repellat vero aut voluptatem.', 9.7, 2.7, 29.3, 296, 1970, 7936, 4648),
-(4326, 'Similique suscipit magni', 'ukrainian', 'Eum debitis magni dolore nihil voluptas impedit molestiae. Ea deleniti facere voluptatibus accusamus. Occaecati sed in. Est odit eligendi vel. Enim totam at vero.', 10.0, 3.2, 15.2, 492, 1976, 6645, 1121),
-(5981, 'Ut non nihil ea', 'ukrainian', 'Totam ullam qui. Ut occaecati at fugit necessitatibus nostrum voluptate. Alias quidem maiores pariatur illo qui qui et.', 21.1, 4.3, 9.5, 723, 1972, 6199, 1121),
-(445, 'Dolorum assumenda eaque quasi', 'russian', 'Quia quis quam. Architecto tempore voluptas molestiae sed. Ducimus vel fugiat assumenda. Eveniet perspiciatis qui quis voluptatibus placeat.', 28.1, 2.8, 20.7, 61, 1986, 7891, 3560),
-(1121, 'Fugit voluptas inventore nam', 'chinese', 'Ipsa voluptatem nulla. Corporis autem ut reiciendis et. Reiciendis natus at eum cumque.', 29.5, 4.4, 30.2, 78, 1989, 4645, 4648),
-(8339, 'Nobis exercitationem sit', 'polish', 'Molestias saepe minus aut. Et rem officia possimus at fuga veniam illum. Vitae iusto atque dolore. Omnis et incidunt dignissimos blanditiis autem sit voluptatem.', 13.3, 3.9, 15.8, 50, 1986, 4311, 6906),
-(7321, 'Porro excepturi quaerat aut', 'farsi', 'Quas et magnam natus. Corrupti molestiae rerum minus sed velit consequatur. Perspiciatis ad laborum cum aut iusto. Officiis non esse alias sapiente.', 27.3, 2.5, 6.6, 114, 1988, 2034, 1121),
-(4357, 'Est cum voluptas', 'german', 'Vero occaecati quia laborum consequatur. Culpa omnis veniam quo qui molestiae eveniet nemo. Beatae iusto voluptate repellat. Sunt tempora voluptatem aut. Atque sit adipisci voluptatem aut.', 11.4, 4.4, 10.9, 465, 2001, 4311, 6613),
-(2539, 'Consequatur doloribus voluptatem', 'arabic', 'Iure ducimus et sit assumenda rerum sunt cum. Quas deserunt eos architecto eum. Voluptatem suscipit qui. Et commodi eum quis id ut in esse. Tempora voluptas accusantium officiis.', 29.4, 3.0, 31.7, 12, 1981, 1639, 3680),
-(4477, 'Error sit neque sed', 'portuguese', 'Quia sunt et ipsa similique et aut. Sunt necessitatibus itaque odit dolor. Placeat illum debitis quis mollitia. Labore doloribus quis expedita et ratione.', 14.3, 4.9, 12.3, 246, 2004, 9224, 8138),
-(7805, 'Sed suscipit omnis reiciendis', 'belorussian', 'Quo labore et voluptate et. Modi cum exercitationem quisquam unde. Optio nihil odio quia. Vel quod repellendus facilis facere ea sed saepe. Quia sequi id harum.', 33.9, 4.8, 26.1, 165, 1985, 6645, 3560),
-(9233, 'Occaecati quae sed', 'arabic', 'Architecto ea corporis voluptatem non. Cum quia assumenda aut cupiditate consectetur et qui. Sit hic consequuntur. Rerum ipsa veritatis nostrum est velit. Amet ad ut voluptatibus molestias doloremque.', 10.0, 1.1, 7.9, 609, 1989, 4043, 6613),
-(5596, 'Id quidem et', 'portuguese', 'Nihil excepturi doloremque rerum autem. Repellendus quibusdam necessitatibus est omnis est. Qui ab molestiae molestiae tenetur. Eius ducimus ut aut veniam nihil harum. Pariatur eos sit.', 5.9, 4.0, 19.4, 930, 2003, 8246, 1121),
-(5772, 'Pariatur hic ipsa aut', 'farsi', 'Et sit sit corrupti ea voluptatem. Blanditiis tempora sit sit amet saepe autem. Enim voluptatem quo voluptatem vel ipsum maiores. Culpa voluptatem saepe illo. Enim laboriosam sed.', 15.9, 2.9, 6.4, 703, 1993, 4043, 6906),
-(7941, 'Inventore eum velit', 'arabic', 'Doloribus error eos facilis dicta nesciunt quibusdam. Odit sapiente aut facilis eius consequatur. Dolorum odio eos iure alias. Id aperiam ullam voluptatem iure ut eos blanditiis.', 24.7, 4.4, 26.8, 205, 2012, 7752, 4906),
-(7558, 'Nesciunt rerum ducimus', 'german', 'Sapiente voluptatum sint dolor vitae enim. Veritatis perferendis nostrum consequatur dolores. Quaerat molestiae eos. Est voluptatem enim.', 27.5, 2.3, 7.8, 42, 1983, 6645, 4311),
-(9624, 'Alias qui dolores modi', 'english', 'Suscipit quas qui corporis fugit. Officiis qui tempora quasi id omnis. Maiores recusandae temporibus atque voluptatem atque possimus sunt.', 16.9, 3.0, 22.7, 377, 2009, 7752, 3680),
-(2434, 'Odio et tempore omnis', 'russian', 'Sed tempora ea. Repellat et vero vero ut veniam maiores enim. Debitis officiis et aut nobis earum minus. Totam porro ullam totam veniam. Soluta rerum adipisci.', 26.4, 1.2, 33.3, 76, 1979, 3974, 3680),
-(5716, 'Ullam molestias assumenda doloremque', 'portuguese', 'Quia assumenda enim. Fugiat magnam modi dolor et. Pariatur doloribus expedita animi quod est eaque illo. Aut eum non at labore ad ut sed. Ut nulla magni voluptas praesentium sunt sit sit.', 5.5, 1.7, 6.7, 630, 2016, 2857, 4311),
-(7520, 'Pariatur quia laborum sit', 'armenian', 'At ut sit voluptas. Vitae quos suscipit ut eos hic qui sapiente. Officiis deserunt aut reiciendis fugit incidunt accusamus porro. Et sed atque qui.', 16.4, 4.8, 25.0, 665, 1985, 8308, 4648),
-(6795, 'Officia dolore nobis eius', 'arabic', 'Architecto et soluta nemo. Occaecati in molestias officia et. Iste qui ut aut placeat explicabo nihil velit.', 24.6, 3.4, 15.7, 681, 1998, 6199, 1121),
-(8859, 'Perferendis veniam ad', 'urdu', 'Omnis nam et et ut ratione. Dolorem vel quam omnis consectetur. Nesciunt dolor suscipit repellat facere aperiam.', 20.6, 1.0, 23.2, 61, 1997, 3241, 1121),
-(9873, 'Expedita magni ea', 'urdu', 'Et nisi quo. Molestiae animi quia in et eum. Tempore quia mollitia vero sunt incidunt iste dolore.', 9.3, 4.3, 25.6, 925, 1972, 3049, 691),
-(8094, 'Beatae aliquam maiores vel', 'farsi', 'Qui recusandae neque. Ad consequatur quia corrupti quia repellendus. Et possimus neque.', 34.0, 2.7, 34.5, 28, 1985, 9224, 6906),
-(6700, 'Recusandae in debitis', 'armenian', 'Suscipit facilis sed alias sequi sunt expedita et. Omnis vitae aut animi nesciunt doloribus ipsa autem. Asperiores eaque dolores assumenda suscipit delectus. Non ipsum ut quia commodi quae qui. Adipisci ad provident alias corporis aut.', 8.0, 3.1, 13.6, 595, 1987, 2401, 3560),
-(1763, 'Quo explicabo iusto accusamus', 'polish', 'Consequatur quae aspernatur perspiciatis. Velit recusandae facilis qui in quod sapiente est. Quod excepturi unde quos sit. Dolor accusamus laborum ipsam possimus nulla. Nemo consequatur quia non quibusdam.', 28.6, 1.4, 18.5, 92, 2000, 9224, 8168),
-(3743, 'Aspernatur est tempore', 'ukrainian', 'Omnis rerum id impedit eum cum eveniet dolores. Labore molestiae eos. Qui voluptatem esse odio eum. Qui dolor qui veniam nesciunt eligendi beatae. Aperiam blanditiis dolorem.', 27.3, 1.4, 20.7, 89, 1990, 4697, 691),
-(6151, 'Reprehenderit cumque dolores soluta', 'arabic', 'Reprehenderit occaecati magnam soluta rerum. Dolorem sit veniam consequatur cupiditate aut ut. Eaque eius consequatur non quia voluptatem. Dolores tempore quia minima omnis. Tenetur animi laborum sapiente voluptatem molestias.', 31.7, 2.0, 30.4, 249, 2014, 7003, 6613),
-(5066, 'Dolorum suscipit corrupti non', 'ukrainian', 'Consectetur maxime ut laborum veniam et molestiae incidunt. Cupiditate ipsam alias sunt ab debitis. Aut iste omnis. Sunt voluptas tempore voluptas magni est. Assumenda expedita et veritatis.', 24.8, 3.8, 14.2, 911, 2004, 6188, 1054),
-(3356, 'Et nulla aliquid itaque', 'farsi', 'Id possimus velit. Magni eaque et et culpa ea eum. Et et dolorem accusantium velit praesentium odio excepturi.', 13.1, 2.3, 29.4, 539, 1994, 2938, 8138),
-(8286, 'Eaque optio odit', 'ukrainian', 'Autem officia atque velit autem voluptates mollitia iure. Delectus et dolorem non. Quo quia qui est eos eligendi veritatis. Aliquid ut est aliquam quasi.', 31.5, 2.6, 33.3, 576, 1985, 2938, 4906),
-(4656, 'Sed error eum', 'portuguese', 'Velit optio est doloribus occaecati odit necessitatibus aut. Id molestias aliquam odio deleniti ullam ut. Libero architecto voluptatum et. Perferendis et ut sit. Corporis praesentium minus soluta ut quo.', 7.2, 1.8, 11.6, 697, 1997, 1602, 691),
-(1294, 'Sed est rerum', 'belorussian', 'Sint inventore odio provident. Rerum sunt aspernatur quos quia quam aperiam soluta. Fuga autem sed amet praesentium accusamus. Sunt exercitationem amet.', 28.6, 3.8, 6.3, 46, 1991, 7003, 1121),
-(8048, 'Itaque recusandae laudantium', 'croatian', 'Nihil omnis inventore et temporibus enim. Eum atque ipsum assumenda quasi debitis velit. Ad qui tempore velit occaecati quia. Vero esse voluptas molestias perferendis non rem.', 7.3, 1.4, 33.4, 188, 2013, 3974, 1121),
-(4495, 'Consequatur quibusdam illo aut', 'ukrainian', 'Perferendis id expedita. Eius qui eos. Ducimus minus vel cum laboriosam. Nulla consequatur laborum. Quo ex praesentium dolore voluptatem.', 16.4, 1.3, 11.2, 903, 1997, 9790, 1121),
-(107, 'Sunt odit dolorem', 'english', 'Esse numquam inventore recusandae ut sequi repudiandae incidunt. Cupiditate id atque quo expedita qui. Et dignissimos asperiores illum ut voluptatem fuga.', 15.1, 4.6, 8.8, 394, 1981, 8308, 1575),
-(2965, 'Eveniet earum numquam', 'farsi', 'Qui voluptatum blanditiis ratione odit labore a nemo. Animi quo perferendis nulla. Alias omnis error. Amet ipsam sed iusto fuga illo nostrum dolor.', 7.7, 1.4, 18.6, 492, 1974, 807, 4906),
-(4734, 'Officiis commodi hic', 'english', 'Dolores cum deserunt ab. Corporis labore repellendus. Aperiam necessitatibus velit labore aspernatur ut. Numquam quia voluptatem consequatur aperiam.', 10.9, 4.7, 22.5, 295, 2011, 807, 3680),
-(1864, 'Adipisci ut ut', 'farsi', 'Minima itaque voluptatem nostrum consequatur. Non dolor ut. Reiciendis dolorum officia. Error tenetur voluptas. Sint sit deleniti.', 28.8, 3.9, 11.0, 155, 1980, 1639, 1121),
-(632, 'Illo sed dolore', 'arabic', 'Nihil voluptatem consequatur laudantium reiciendis. Sit dolorum distinctio. Dolores animi quae qui enim voluptatem. Optio harum nemo officiis qui neque dolorem. Qui repudiandae enim cumque cupiditate quo vero nihil.', 31.4, 4.7, 28.5, 23, 1976, 4311, 4906),
-(769, 'Autem aut eos', 'spanish', 'At sit ea similique iure non debitis temporibus. Laudantium et odit inventore ullam fuga sed architecto. Numquam animi et enim blanditiis. Delectus saepe necessitatibus repellendus. Animi cumque laboriosam.', 13.0, 4.8, 21.6, 291, 2009, 8384, 1054),
-(7398, 'Impedit suscipit dolores', 'spanish', 'Maxime esse doloremque non molestias rerum optio inventore. Cum rerum ut velit a corrupti ipsa quo. Rerum error ut officia. Consequatur animi voluptate dignissimos veritatis sint ea fuga.', 18.5, 1.1, 14.4, 295, 1994, 1602, 1121),
-(9733, 'Magnam dolorem earum', 'spanish', 'Fugiat quisquam enim inventore id facere tempora expedita. Quo beatae cumque beatae earum porro fugiat. Eos nam repellat et fuga aliquam vel voluptatem. Nostrum ratione earum id ex hic.', 19.6, 1.1, 28.1, 391, 1973, 6188, 8476),
-(9456, 'Nisi alias eaque accusamus', 'portuguese', 'Nesciunt non ullam quis ad aut fuga. Totam perferendis ut est distinctio. Amet beatae asperiores illo sit libero accusamus. Rerum et modi praesentium. Vel quia quae nobis tempore illo.', 9.2, 3.0, 24.5, 906, 1996, 6645, 8476),
-(5407, 'Perferendis ex pariatur vel', 'english', 'Culpa voluptatem qui mollitia. Necessitatibus dolor ipsum aut est et ex dolorem. Accusantium similique nemo quia. Facere a delectus. Ut quasi esse quam libero recusandae consectetur.', 5.2, 1.5, 9.0, 484, 2016, 8308, 691),
-(5659, 'Facilis voluptas officia', 'polish', 'Quis odio doloribus cum adipisci. Quia voluptatem qui. Deleniti sit possimus.', 11.6, 4.6, 14.4, 790, 2003, 2072, 1136),
-(6653, 'Et quo harum', 'portuguese', 'Officiis laudantium pariatur est eaque. Delectus autem ut. Commodi voluptatum iure et vero. Iste eos impedit eos amet et illo et.', 31.6, 3.5, 6.9, 529, 1983, 5406, 4906),
-(1286, 'Unde molestias animi', 'belorussian', 'Veniam est rerum doloribus voluptatem occaecati id. Doloribus minima maiores sed et. Voluptatem mollitia quos at eum aut sed amet. Aut est sit libero. Doloribus incidunt beatae aspernatur est.', 6.0, 3.9, 5.2, 456, 1970, 7003, 1121),
-(2014, 'Ipsa ipsum occaecati sapiente', 'urdu', 'Et at iusto hic eos. Eum excepturi corporis qui iste. Qui consequatur eius accusantium accusamus nostrum. Et et voluptatibus eveniet pariatur beatae excepturi id. Quo consequatur vel expedita facere.', 20.6, 4.6, 23.5, 199, 1983, 2857, 691),
-(1611, 'Quos ut facilis', 'belorussian', 'Voluptatem tenetur totam dolore ipsum dolores voluptatem necessitatibus. Dignissimos aut ullam et illum soluta officiis molestiae. Et earum ullam magni. Et nobis ut enim pariatur nesciunt molestiae nulla.', 13.8, 1.5, 14.0, 850, 1990, 2034, 1054),
-(5420, 'Fuga eligendi saepe', 'english', 'Voluptatum laboriosam beatae iure adipisci id debitis. Maiores molestiae doloribus in vel illum. Est quis sunt minima dolorem aut nobis voluptas.', 23.7, 4.9, 9.7, 491, 2018, 2401, 1136),
-(2484, 'Ut explicabo fuga', 'chinese', 'Omnis et ut qui molestiae. Illo hic nisi harum nisi laborum molestiae officiis. Ut officiis et expedita dolore.', 12.6, 4.8, 7.5, 581, 1996, 3552, 3560),
-(6790, 'Et repellendus magnam', 'german', 'Animi nesciunt omnis dignissimos quas eius qui. Consectetur ratione dolor laudantium. Ab deleniti id provident quia commodi labore atque. Non earum at doloribus. Tempora sed temporibus.', 5.3, 4.7, 16.9, 969, 2016, 3021, 1136),
-(3159, 'Vel reprehenderit minima', 'arabic', 'Exercitationem tenetur reprehenderit porro officiis aut ex. Rerum molestias a sunt asperiores assumenda eveniet. Enim consequuntur similique fuga laborum enim dolores id. Omnis quia voluptatum iusto.', 23.5, 4.1, 11.2, 244, 2018, 2539, 1121),
-(7908, 'Exercitationem consectetur ab', 'french', 'Quia iste neque veniam et sed autem. Incidunt sapiente ipsa. Perspiciatis voluptas excepturi velit aspernatur.', 5.8, 1.7, 21.6, 181, 1993, 6645, 1121),
-(7137, 'Delectus exercitationem deserunt', 'chinese', 'Est et nulla voluptas quia sequi tenetur aut. Totam adipisci est dolorem ducimus recusandae officia. Et veritatis odit blanditiis vero maiores doloremque.', 33.3, 2.2, 14.4, 234, 2017, 9224, 691),
-(8422, 'Hic modi quia', 'german', 'Fugit amet voluptatibus esse illum dicta officia. Iure iste voluptas. Delectus commodi dolorum alias.', 31.4, 1.6, 22.4, 917, 1973, 2938, 1054),
-(3544, 'Porro laboriosam mollitia omnis', 'french', 'Corrupti aut illum impedit. Et ex sint. Neque vero vero voluptatem aut. Pariatur similique consectetur nulla nesciunt molestias. Doloribus rerum qui natus soluta.', 18.5, 3.2, 9.3, 660, 1980, 3049, 4906),
-(3565, 'Quae fuga maxime earum', 'croatian', 'Et sunt sequi pariatur. Ex alias quos provident doloribus modi repellat nulla. Esse perferendis culpa voluptas recusandae quis voluptatum in.', 7.0, 1.8, 6.3, 265, 2005, 2499, 1136),
-(3530, 'Et aliquid ex dolore', 'portuguese', 'Reprehenderit dolorum atque velit ad. Molestias natus corrupti modi voluptatum. Eaque doloribus iusto dolores. Quae tenetur sunt rerum eum suscipit. Enim perspiciatis nihil.', 23.8, 4.3, 16.8, 398, 1994, 2034, 1575),
-(9054, 'Nam architecto sint sint', 'urdu', 'Ipsa beatae tenetur et ullam vero. Magni quos non qui id voluptates quaerat. Omnis non eaque ex porro sit suscipit quaerat.', 11.8, 4.6, 24.3, 262, 1981, 5406, 1121),
-(7109, 'Eveniet et qui dolorem', 'armenian', 'Velit ea molestias voluptates. Beatae distinctio porro fugit qui mollitia ea. Fugiat consequuntur accusamus qui voluptatem nulla. Nihil aut nisi ut quia enim eaque. In aut molestiae cupiditate quaerat sunt ipsam.', 27.8, 3.4, 12.9, 595, 1973, 1602, 8138),
-(5868, 'Animi consequatur incidunt fugiat', 'chinese', 'Velit ullam consequuntur et doloribus corrupti reprehenderit. Omnis iste sed eum. Quia ut omnis.', 27.0, 1.4, 13.5, 367, 2004, 6199, 6906),
-(7281, 'At id sequi', 'arabic', 'Tempora excepturi dolorem officia a. Quis quaerat modi aut rem et ad in. Repellendus amet ex voluptas excepturi ratione nihil.', 30.5, 4.7, 25.7, 736, 1976, 8771, 3680),
-(7826, 'Laborum minus dolores', 'farsi', 'In autem omnis voluptas non. Quae occaecati in sunt. Hic ad sint quod quis pariatur explicabo pariatur.', 34.3, 3.1, 9.2, 138, 1984, 2499, 8476),
-(9244, 'Et eum esse commodi', 'ukrainian', 'Ut adipisci est omnis culpa ex. Occaecati aut ea voluptate voluptas repellat esse. Repellendus in nostrum voluptatum maiores.', 25.4, 4.7, 31.0, 684, 1975, 2938, 1054),
-(2148, 'Ab quae dignissimos', 'russian', 'Eum dolore dolore. Quo iste perferendis. Voluptatem dolores exercitationem illo asperiores suscipit ducimus recusandae. Perferendis eligendi saepe officiis tempora dicta et est.', 27.4, 4.8, 8.5, 230, 1996, 7752, 8476),
-(5005, 'Dolore ut temporibus praesentium', 'armenian', 'Laudantium dolores soluta veniam libero a voluptatem. Consectetur adipisci omnis aperiam dolorum vero autem sit. Soluta qui odio rerum. Molestiae voluptate adipisci molestiae itaque quis quo itaque. Fugit quasi animi labore id asperiores veritatis nemo.', 33.8, 4.2, 14.1, 843, 2006, 4645, 8168),
-(1, 'Dicta optio et', 'ukrainian', 'Non rerum ducimus. Doloribus incidunt quas iste aspernatur vel ipsam nesciunt. Esse non delectus voluptas nobis nulla architecto. Corporis enim ut dolorem ullam doloremque est ut. Aspernatur ut porro nam provident laborum velit repudiandae.', 26.8, 3.2, 8.8, 333, 1979, 1518, 1575),
-(1816, 'Fugit voluptatem fuga iure', 'urdu', 'Distinctio modi molestias commodi ut dolorem unde blanditiis. Et iusto vitae quam vero et et doloremque. Voluptatem natus magni aut.', 29.9, 1.9, 5.4, 282, 2014, 3552, 4311),
-(4427, 'Illum enim nihil', 'russian', 'Quo rerum aperiam perspiciatis et odit eaque omnis. Esse voluptatum eos cum unde autem unde. Qui rerum rem ut est iusto amet.', 6.8, 3.6, 5.6, 135, 1970, 3552, 1121),
-(6506, 'Perferendis eligendi deleniti magni', 'russian', 'Maiores ipsa corrupti voluptates cupiditate quia vel. Quia ratione ipsa non porro earum. Eos natus quo. Autem voluptate placeat ut excepturi voluptate ad. Magni nam laboriosam voluptates expedita qui perferendis quo.', 22.9, 1.5, 31.0, 51, 1996, 2938, 1575),
-(9229, 'Voluptas sint quisquam dolorem', 'spanish', 'Nostrum quia quas reprehenderit fugit. Saepe ut nesciunt quo unde nihil a velit. Aperiam aut in ut.', 5.5, 2.8, 6.5, 979, 1971, 5119, 691),
-(9180, 'Asperiores mollitia non', 'farsi', 'Dolorum qui pariatur minima. Laudantium delectus quia deserunt deserunt excepturi autem nulla. Voluptas laborum quia ut voluptatem ut. Ut inventore aliquid sunt dignissimos. Eos asperiores dolore.', 18.0, 2.6, 18.6, 513, 1972, 2920, 8476),
-(8042, 'Sint voluptatem atque rerum', 'chinese', 'Tempora dolores culpa. Sit fuga placeat reprehenderit atque iure soluta. Autem aut sed ut accusamus eligendi incidunt eos. Eum nobis deleniti et fuga est. Vitae fugiat sit laboriosam.', 26.4, 2.6, 15.0, 480, 1995, 4702, 6613),
-(4620, 'Ut repudiandae aspernatur eos', 'farsi', 'Et iste quasi nulla dolores quia. Perferendis soluta quia qui magni et repudiandae cumque. Repellat officia ut ab doloribus fuga minus. Corporis voluptas veniam. Quaerat possimus inventore dolor iure voluptatem cupiditate.', 32.0, 2.2, 27.1, 330, 2003, 4702, 1054),
-(7349, 'Minus sed veritatis vitae', 'croatian', 'Nihil eveniet qui voluptates porro quaerat quasi rerum. Explicabo ratione dolorum cumque praesentium cum ea dignissimos. Repellat tempore esse dolor exercitationem rerum. Nihil quasi dignissimos error ab consectetur. Occaecati nam vel unde non aliquid doloremque.', 30.7, 3.5, 30.1, 203, 1987, 4702, 4311),
-(8915, 'Occaecati sit assumenda molestias', 'armenian', 'Incidunt odio voluptatem omnis ut. Sed omnis non voluptates. Perspiciatis quo dolor aut accusantium et ut fuga. Quod facilis odit expedita expedita unde maiores.', 9.1, 3.1, 18.4, 616, 2012, 6188, 6613),
-(6331, 'Aliquam incidunt ut', 'belorussian', 'Illum maiores alias. Recusandae ad perspiciatis nihil similique. Sed et id.', 6.7, 3.1, 15.1, 158, 2013, 290, 3560),
-(1353, 'Dicta molestiae sapiente culpa', 'german', 'Aut cum velit voluptas. Laborum odio et consequatur nesciunt beatae molestias. Sint quia cum et molestiae nulla. Et qui rerum vitae dolor maxime mollitia. Cupiditate voluptas ullam recusandae.', 31.1, 3.5, 8.4, 398, 1974, 807, 8476),
-(9794, 'Voluptas quos minima consequatur', 'polish', 'Molestiae vitae alias id ratione nemo. Repellendus dicta esse est consectetur iure rem sed. Delectus enim omnis necessitatibus omnis at sed. Nostrum eos sit dolorem eos eum tempore consequatur.', 12.8, 2.6, 29.8, 599, 2010, 9790, 691),
-(3835, 'Eum quis dolor', 'spanish', 'Praesentium nam blanditiis tempora suscipit vitae. Nihil placeat nisi ut et. A molestias quod velit quaerat inventore autem molestias. Temporibus ipsam id. Rerum explicabo rerum sunt minima at.', 5.4, 4.8, 10.0, 244, 2012, 7521, 691),
-(9311, 'Vel odit mollitia autem', 'farsi', 'Nemo velit dolores quia ut iusto inventore aut. Harum et cumque quidem eveniet vel et ducimus. Illum aliquam velit. Incidunt id ut est.', 20.2, 1.5, 29.1, 821, 1999, 7891, 691),
-(8487, 'Excepturi adipisci consequatur sint', 'portuguese', 'Et qui laudantium rerum consequuntur et. Odio aut reiciendis cupiditate. Expedita officia rerum dolor. Quisquam rem eius officia facere. Expedita dolorem nobis vitae repellat molestiae neque harum.', 22.2, 3.2, 34.0, 490, 2007, 3049, 8168),
-(7068, 'Qui quae quas', 'russian', 'Quis laudantium nisi vitae aperiam assumenda quo. Perspiciatis odit aspernatur eaque molestiae. Asperiores repellendus ut sequi libero eligendi doloribus. Et rerum quia asperiores ut explicabo vitae unde.', 6.5, 4.4, 5.9, 483, 1988, 8308, 6613),
-(2567, 'Ut laudantium est illum', 'belorussian', 'Fugit quibusdam numquam facere eum explicabo repudiandae. Est iure praesentium aut. Sit ut sapiente ut qui repellendus placeat. Tenetur ut ipsum.', 6.9, 2.2, 29.4, 312, 1996, 2539, 1136),
-(1381, 'Enim sed sit', 'german', 'Ullam eum impedit sed necessitatibus ex sapiente. Impedit expedita rerum officia. Laudantium debitis et. Vero laudantium eligendi reiciendis iure tempore.', 27.6, 4.7, 28.3, 76, 1978, 4697, 6906),
-(1465, 'Hic mollitia illum', 'chinese', 'Quo aut quidem dignissimos. Perspiciatis praesentium eligendi sint et vero non minima. Et doloremque autem.', 16.3, 3.1, 30.4, 496, 1992, 5119, 1575),
-(25, 'Sit facere voluptas', 'french', 'Eius illo ut reprehenderit quaerat. Delectus quod totam omnis. Velit nemo quaerat quis praesentium aliquam esse. Cumque eius totam est sit et vel molestias. Dolor dolor autem ab accusantium.', 21.9, 3.5, 26.2, 454, 1981, 9790, 8168),
-(7603, 'Est aut minus', 'russian', 'Et et unde vel debitis quis nulla. Quibusdam a sit placeat nobis repudiandae ut eum. Fugiat ut dicta magni.', 21.9, 3.3, 32.2, 898, 1974, 7936, 1136),
-(516, 'Alias atque asperiores ut', 'russian', 'Ipsa enim maxime. Neque sapiente cumque odio vel consectetur. Repellendus dicta et. Ab et ut.', 20.4, 4.8, 32.3, 86, 1970, 290, 1121),
-(1641, 'Qui aperiam similique animi', 'spanish', 'Dicta soluta vel. Ullam laboriosam officiis voluptas. Fugit dicta molestias veritatis ut doloribus et.', 5.2, 1.5, 10.4, 129, 1984, 9733, 8138),
-(7825, 'Eos consequatur id', 'russian', 'Dolores est qui voluptates et. Eos vero dignissimos sunt non illo laudantium rerum. Qui ratione deserunt et est molestias sequi qui. Ut est hic. Dolorem non aspernatur rerum sed qui.', 10.7, 1.3, 34.0, 116, 1972, 2920, 8168),
-(5069, 'Voluptatem iste magnam voluptas', 'chinese', 'Est est eum ut qui quibusdam magni. Eius autem eos vel atque iusto aliquam. Corrupti rem aut earum.', 20.3, 3.5, 15.7, 572, 2009, 8384, 8476),
-(1854, 'Atque odio pariatur ullam', 'croatian', 'Inventore cum nihil possimus soluta eaque ratione. Numquam vel asperiores. Nihil quos modi enim maxime aut enim dolorem. Facere ut quisquam. Eaque doloribus sunt autem numquam.', 10.1, 3.7, 21.8, 97, 1992, 4326, 1054),
-(892, 'Vitae quaerat quis', 'english', 'Dolor voluptates quidem sint occaecati labore. Esse eaque deserunt sint harum. Quia qui porro et nesciunt deleniti optio officia. Earum sint dolores.', 17.2, 4.7, 22.1, 902, 1972, 3021, 1136),
-(7900, 'Recusandae dolore minima', 'chinese', 'Accusamus et unde laudantium voluptas. Tempore libero et qui exercitationem. Ut maxime architecto laboriosam rerum sunt.', 9.8, 2.8, 13.1, 138, 1982, 8308, 4906),
-(9147, 'Accusantium possimus quod', 'urdu', 'Autem omnis et est blanditiis. Ratione magnam ex. Voluptate aliquid dolor similique nihil enim. Et quibusdam ut at.', 18.3, 3.9, 28.1, 321, 1975, 8384, 6613),
-(8874, 'Placeat reprehenderit nisi assumenda', 'farsi', 'Nihil quibusdam illo. Nemo ut dolore quasi. Nostrum velit facilis labore a vitae.', 19.4, 1.2, 9.8, 864, 1986, 8246, 691),
-(9023, 'Sit quasi voluptatem', 'french', 'Culpa minus quaerat maiores laborum blanditiis. Facilis est sequi enim iusto. Ut ut id voluptas.', 14.0, 1.6, 18.9, 392, 1975, 4697, 3560),
-(9116, 'Beatae vitae quis', 'croatian', 'Exercitationem hic ut et id animi. Possimus aperiam quis blanditiis iste quo nobis. Nisi nostrum consectetur veritatis voluptatibus reiciendis illum ea. Ea rem molestiae provident velit.', 30.9, 3.9, 11.6, 822, 1995, 7521, 8138),
-(9766, 'At et nobis non', 'polish', 'Illum quod rerum eveniet. Accusantium et itaque unde similique. Dignissimos eum quae neque nostrum et. Tempora quia sed sunt hic provident sint deleniti.', 8.3, 3.9, 27.9, 306, 2014, 1639, 8138),
-(4625, 'Dolorem officiis ut ipsum', 'belorussian', 'Molestiae accusamus reiciendis. Tempora aliquam laborum dolorem enim. Ut alias nemo autem id et.', 6.6, 4.9, 26.9, 275, 2006, 8246, 6613);
+insert into genre(id, genre_id, genre_name, genre_descr) values
+(1, 2647, 'Fanfiction', 'Et omnis ad tempora quaerat qui. Eius et fugiat aliquam libero dolor harum doloribus. Doloremque rem nulla et necessitatibus corporis. Dicta sint excepturi.'),
+(2, 4509, 'Mythology', 'Accusamus aut aspernatur. Tenetur et eius sunt. Beatae nemo consequatur voluptatum earum modi aut corrupti. Consequatur veritatis velit ducimus rem assumenda autem. Id voluptatum assumenda odio.'),
+(3, 7072, 'Essay', 'Quia facilis non et rem excepturi. Odit aut voluptatum. Vel quae est et expedita voluptatibus.'),
+(4, 5289, 'Metafiction', 'Sed excepturi voluptatem eveniet rem odio dolor. Doloribus aut non occaecati incidunt officia. Repellat inventore quia. Nisi rerum suscipit laboriosam alias nesciunt hic est.'),
+(5, 8579, 'Fiction narrative', 'Voluptatem neque cum. Necessitatibus id deserunt laboriosam dignissimos et. Maxime enim dolore eius soluta voluptate soluta deleniti. Quam corporis voluptate voluptatem aut.'),
+(6, 4576, 'Fairy tale', 'Asperiores iste quia quibusdam consequatur minus velit modi. Facere error reprehenderit aut quia in. Dolore cumque non et fugiat molestiae harum. Eos illo ipsa accusantium ea.'),
+(7, 2437, 'Fable', 'Molestiae ipsa ab qui delectus. Perferendis quibusdam harum. Distinctio officiis ut est illo id corrupti asperiores. Aut incidunt id perspiciatis. Quisquam deserunt facilis velit et unde veniam.'),
+(8, 6400, 'Tall tale', 'Saepe omnis excepturi saepe. Velit enim rerum nihil ut cum. Minus nihil deserunt enim ab vel.'),
+(9, 426, 'Science fiction', 'Non ut inventore modi commodi qui. Praesentium animi qui sit nemo pariatur. Dolor dolores est voluptatem et. Molestias eligendi qui cum laborum.'),
+(10, 4891, 'Suspense/Thriller', 'Iste vel adipisci minus eos ut incidunt rerum. Voluptatem facilis iure exercitationem. Excepturi doloremque illo voluptates vel nihil facere. Officia ut nesciunt voluptatem consequatur in. Animi et consectetur veritatis consectetur iure eius.'),
+(11, 939, 'Biography/Autobiography', 'Modi minus doloremque aut possimus sunt dolores enim. Ullam totam sed. Repudiandae ut omnis reprehenderit impedit vero voluptas et. Enim laboriosam omnis error.'),
+(12, 5058, 'Speech', 'Sunt minima illo. Dolorem voluptas corrupti totam natus. Fugit qui aut amet consequatur ut earum.'),
+(13, 653, 'Historical fiction', 'Quas saepe dolore minima hic. Et possimus harum molestiae eaque quo. Dolores architecto quaerat pariatur id id.'),
+(14, 2676, 'Realistic fiction', 'Omnis accusamus consequatur nemo quaerat et doloribus dolor. Libero ut in quo nulla dolorem. Eum omnis et quod quisquam perferendis. Recusandae vero est voluptatem accusantium ipsum doloribus reiciendis.'),
+(15, 8495, 'Crime/Detective', 'Qui occaecati quia quia qui officia et. Voluptatem nulla non. Illo tempora exercitationem facilis ea optio. Quas pariatur animi excepturi sed impedit voluptas aspernatur. Qui provident rerum inventore sequi quasi eveniet aut.');
+
+alter sequence genre_seq restart with 16;
+
+insert into book(id, book_id, book_name, book_language, book_descr, book_height, book_length, book_width, page_count, publication_year, author_id, genre_id) values
+(1, 5681, 'Omnis sapiente omnis', 'belorussian', 'Eligendi et et dolorem nemo nisi accusantium incidunt. Itaque deserunt ab et dignissimos reiciendis. Voluptatem facere occaecati consequatur et corporis fuga consequatur. Sed quibusdam consequatur. Et et et.', 10.9, 4.9, 20.3, 108, 1982, 5238, 939),
+(2, 9214, 'Libero molestias dolore', 'polish', 'Recusandae voluptas dolor. Odit vel rerum debitis. Repellat earum quae architecto. Ipsam cumque delectus cumque. Eaque et et quas et et laborum temporibus.', 18.2, 2.2, 15.0, 645, 1987, 3243, 5058),
+(3, 4589, 'Accusamus porro doloremque', 'french', 'Asperiores nesciunt molestias corporis vel architecto. Porro vero consequatur maiores porro quos labore et. Natus voluptatem qui alias dolorem dolorem dolores. Qui provident dolores quae doloribus facilis est debitis.', 11.7, 3.7, 9.6, 272, 2015, 4518, 7072),
+(4, 5043, 'Deserunt et tempora dicta', 'portuguese', 'Nemo itaque ut qui. Quis eos deserunt. Soluta officiis eos. Dolores eum facere vel.', 25.9, 4.7, 30.0, 38, 2018, 547, 426),
+(5, 5817, 'Molestias asperiores distinctio', 'spanish', 'Voluptatem aut cum error quaerat. A expedita esse. Quia aut quas quis nesciunt laudantium.', 12.7, 2.8, 30.8, 551, 1990, 9323, 5289),
+(6, 2160, 'Commodi vel vel', 'ukrainian', 'Repellat quia velit porro est. Atque ipsa quas voluptas provident itaque alias. Ab nam aut quo nisi nam harum at.', 13.3, 1.6, 13.5, 76, 1987, 3753, 6400),
+(7, 579, 'Veniam quia est maxime', 'portuguese', 'Magni sunt eum laboriosam nisi saepe. Eaque eius ipsam dolores nulla reprehenderit perferendis. Voluptate sunt soluta quisquam ducimus veritatis. Eos illo temporibus rerum molestias minima neque. Consectetur aut est et ea impedit sint.', 7.5, 3.1, 19.6, 845, 1983, 1816, 426),
+(8, 5093, 'Iste accusamus porro', 'english', 'Laudantium eum eos reiciendis voluptatem earum. A dolores et sint enim. Rerum enim labore. Dolor id doloribus consequatur blanditiis enim distinctio dolorum. Animi repellat vel ea odit facere saepe.', 27.6, 2.2, 34.5, 119, 1975, 5070, 4576),
+(9, 4104, 'Et velit veritatis', 'croatian', 'Velit quaerat est. Quasi sit illum incidunt. Autem delectus maiores dolorem fugit illum numquam sed. Ad impedit autem tenetur est neque.', 10.1, 1.9, 22.9, 948, 1977, 6625, 6400),
+(10, 1532, 'Repudiandae omnis et', 'english', 'Rem dignissimos illo molestias eveniet eos nemo consequatur. Et est sapiente ducimus aspernatur hic dolor. Cum ut eos recusandae. Et ut ut. A voluptatum ratione sunt eum aliquam possimus.', 33.3, 2.1, 8.1, 761, 1973, 7213, 5289),
+(11, 2135, 'Corrupti eum tempore aut', 'spanish', 'Earum iure quo neque eos. Doloribus corrupti odio officia eligendi dolor. Qui a sapiente. Velit tempora eum beatae dolor.', 31.1, 4.3, 8.9, 766, 1986, 7445, 939),
+(12, 5825, 'Fuga vitae quis', 'croatian', 'Id nam incidunt saepe omnis labore iure unde. Suscipit voluptas quas molestiae sequi. Rerum deserunt ut nesciunt. Sint qui omnis id dolore.', 24.4, 3.9, 12.0, 894, 1972, 4595, 4576),
+(13, 367, 'Dolores natus incidunt itaque', 'ukrainian', 'Nihil rerum veniam officiis nemo maiores. Consequuntur et dicta enim. Ex voluptatibus est perspiciatis debitis. Iusto aut adipisci. Accusamus et numquam aut sit ab.', 30.4, 4.8, 15.2, 718, 2009, 3997, 2647),
+(14, 3175, 'Architecto labore tempora', 'chinese', 'Ut et velit nostrum quasi. Ut eius ad voluptas consequatur veniam doloremque repellendus. Excepturi ad qui aut. Vero ea deleniti provident. Unde modi consequatur incidunt.', 29.8, 3.5, 12.5, 165, 1998, 4595, 2647),
+(15, 1295, 'Dolor dolor consequatur dolorem', 'polish', 'Beatae ex et consequuntur magni aut ipsam ea. Nostrum fugit amet quia praesentium quia id. Aut corrupti molestiae.', 28.7, 2.4, 33.0, 232, 1991, 989, 7072),
+(16, 6498, 'Officiis voluptas ut et', 'spanish', 'Quia rerum maxime repellendus nostrum velit. Et debitis molestiae exercitationem quia reprehenderit. Debitis eaque saepe voluptates maxime optio. Exercitationem iusto unde sit ipsam ab aspernatur. Aut ipsum aut iusto voluptatum eligendi sunt.', 20.5, 2.7, 6.1, 832, 2007, 1023, 426),
+(17, 10, 'Unde ab voluptates', 'belorussian', 'Aut fugiat quia. Qui excepturi quia quibusdam suscipit et sint. Possimus id rerum id.', 7.5, 3.7, 25.0, 208, 1995, 2307, 2647),
+(18, 5248, 'Ut consequatur aut', 'polish', 'Dolor eum et et explicabo. In vitae amet voluptas sunt autem voluptas. Qui minus voluptatem.', 27.7, 2.6, 17.3, 10, 2012, 8213, 6400),
+(19, 6320, 'Velit illo voluptas', 'urdu', 'Sed velit minus inventore. Fugit hic odit blanditiis. Magni et officia molestias omnis.', 23.8, 3.6, 8.8, 379, 1996, 5659, 6400),
+(20, 7869, 'Consequatur quia omnis', 'german', 'Molestias consectetur doloremque nisi iusto porro excepturi. Qui placeat eveniet est. Architecto et consequatur quia. Rerum nemo pariatur. Commodi sint sint dolorum.', 31.7, 4.5, 12.4, 813, 1990, 2349, 4509),
+(21, 1906, 'Exercitationem quidem dolor magni', 'belorussian', 'Omnis recusandae aliquid placeat molestiae cumque facere reprehenderit. Placeat maiores magnam autem et doloribus tenetur. Eligendi voluptas deleniti. Non perferendis necessitatibus incidunt quis alias voluptate.', 23.5, 3.5, 12.8, 122, 1986, 8386, 426),
+(22, 8673, 'Temporibus saepe et', 'french', 'Voluptatibus quia neque accusantium quo aliquam ut. Et et pariatur quidem necessitatibus. Sunt et hic voluptas soluta. Quas ab in ratione voluptatibus.', 33.0, 4.3, 19.8, 647, 2013, 4566, 5058),
+(23, 7694, 'Dolor vero nihil', 'german', 'Vero eum quas optio distinctio. Provident et reiciendis nisi iste occaecati. Magni doloremque enim. Deserunt laudantium quisquam assumenda architecto dolorem assumenda. Quo perferendis et blanditiis deleniti non labore.', 24.1, 3.8, 32.5, 181, 2000, 6825, 653),
+(24, 5080, 'Et aliquid repellat', 'ukrainian', 'Numquam adipisci ut voluptatem natus rerum. Ea laudantium nihil voluptas quaerat deserunt explicabo. Fuga expedita sint possimus. Vel et ea in perspiciatis. Iusto ut sit enim quia non alias.', 22.0, 4.5, 18.5, 641, 2017, 5238, 5289),
+(25, 3534, 'Labore dolorem ut molestiae', 'russian', 'Iste accusamus repellendus aut. Similique vero dolore. Praesentium quas laudantium quae libero natus. Nulla et unde voluptatem.', 5.3, 4.0, 8.7, 76, 2011, 6747, 4891),
+(26, 2662, 'Similique consequatur odit totam', 'urdu', 'Quia occaecati perferendis. Voluptate excepturi impedit voluptatem. Eius ab aliquid doloribus ex. Cum necessitatibus omnis. Quisquam autem dolor eaque.', 29.0, 1.6, 9.6, 494, 2007, 5732, 939),
+(27, 9164, 'Hic ullam eaque officia', 'chinese', 'Ad veritatis pariatur assumenda. Laboriosam neque sed. Molestiae odio expedita non et voluptatem. Non velit est veritatis rem eos ut. Sed nam dolor earum quos.', 12.9, 2.7, 26.6, 816, 1994, 1584, 4891),
+(28, 5163, 'Odio labore voluptas consectetur', 'armenian', 'Quis vero molestiae id amet. Sunt nobis est est dolorem. Non qui aut qui veniam consequatur. Incidunt ut quasi ea eum recusandae id. Excepturi et vel.', 30.0, 1.4, 16.2, 489, 1975, 4255, 8495),
+(29, 3259, 'Et iusto eos quia', 'portuguese', 'Maiores atque saepe tempore cumque eligendi incidunt. Consequatur praesentium voluptatibus illo ut ipsum omnis. Velit molestiae rem optio ea porro non. Sed et ut.', 14.7, 3.2, 16.3, 252, 1994, 6327, 4509),
+(30, 6541, 'Quo cupiditate accusantium eum', 'belorussian', 'Corrupti similique sequi. Similique sit voluptas. Et enim rem enim et facere. Perspiciatis eum sed quod quibusdam perspiciatis facilis.', 30.2, 4.9, 5.4, 198, 2013, 5732, 4891),
+(31, 8074, 'Est soluta quod', 'ukrainian', 'In suscipit molestias eos vitae. Deserunt debitis vel sunt earum beatae accusantium assumenda. Adipisci impedit sunt. Vel quae dolores maxime.', 9.9, 1.5, 11.1, 530, 2015, 9316, 653),
+(32, 3021, 'Itaque recusandae ratione', 'arabic', 'Provident consequatur aspernatur. Aut quod voluptatem. Qui perspiciatis possimus in aliquam incidunt.', 23.7, 2.8, 22.7, 715, 2015, 6825, 5058),
+(33, 7992, 'Hic itaque numquam', 'polish', 'Rerum necessitatibus molestiae tempore magni est explicabo ut. Distinctio dolorem laborum veritatis sit natus. Nam eos et aliquam velit et.', 6.6, 1.0, 29.3, 88, 1982, 1805, 426),
+(34, 2490, 'Mollitia recusandae porro', 'polish', 'Quia soluta qui nulla. Dolore aperiam ut ullam eum. Aut quis officiis.', 31.7, 3.2, 22.0, 169, 2003, 9546, 939),
+(35, 9625, 'Dolore omnis ipsam', 'spanish', 'Hic exercitationem provident autem nesciunt nihil optio. Doloribus pariatur harum rem quia sint et tenetur. Cupiditate similique perspiciatis voluptates vel eum. Quia consequuntur perspiciatis aspernatur sapiente.', 14.6, 3.0, 23.0, 383, 2011, 7048, 426),
+(36, 6963, 'Non recusandae porro accusantium', 'german', 'Placeat molestiae quo. Doloremque est dolor suscipit optio pariatur. Omnis unde iste minus in et quam ab.', 29.5, 3.1, 6.8, 191, 1975, 7213, 8579),
+(37, 6249, 'Ut sed repellat ut', 'arabic', 'Temporibus et harum et. Vitae ipsum temporibus vel nesciunt rem ducimus non. Reiciendis quis necessitatibus molestiae nihil. Pariatur aut et voluptates in hic. Distinctio ipsum voluptas.', 14.7, 1.5, 24.2, 454, 1970, 6825, 4509),
+(38, 3368, 'Incidunt numquam ad', 'russian', 'Sint rerum totam maxime. Voluptas aut quam. Molestiae et eum omnis quasi aut. Quisquam autem facere neque quia ut veniam.', 16.1, 3.5, 23.9, 183, 2014, 6747, 426),
+(39, 1726, 'Sint sunt eos', 'polish', 'Laudantium non eum. Est doloremque eos laudantium accusantium ut aut temporibus. Voluptatibus eius ut.', 32.7, 1.9, 23.0, 139, 1970, 4546, 2647),
+(40, 1059, 'Aliquid porro veritatis numquam', 'belorussian', 'Quae enim doloribus illum fuga molestiae non. Omnis doloribus consectetur molestiae. Odio omnis minima.', 10.1, 1.8, 10.6, 385, 2011, 5659, 2676),
+(41, 1604, 'Ea debitis autem', 'urdu', 'Distinctio excepturi consequatur non error qui. Soluta similique sed. Aperiam nam sit sed vel omnis. Et illo ut sint vel.', 30.6, 1.4, 24.8, 540, 2005, 6837, 8579),
+(42, 6612, 'Ullam voluptatem ut voluptate', 'urdu', 'Aut similique nihil et non. Modi rerum maxime esse. Autem at voluptate velit doloribus et. Minus pariatur laudantium voluptate voluptate non. Consequatur corrupti sit aut voluptas vitae sit dignissimos.', 19.5, 4.4, 20.6, 675, 1985, 3753, 4509),
+(43, 4854, 'Nobis vitae veniam in', 'polish', 'Vitae earum molestiae dignissimos ducimus. Tempora beatae accusantium expedita mollitia dolores est. Quia facere dolorum aperiam laborum fugiat praesentium veritatis. Non numquam sit praesentium quisquam odio eligendi.', 15.8, 2.0, 11.4, 920, 2018, 4566, 6400),
+(44, 9047, 'Corrupti esse est', 'chinese', 'Qui ut voluptatem quod voluptatem eligendi. Tempore deserunt culpa ut culpa voluptas repellendus quisquam. Delectus necessitatibus tempore labore nisi dignissimos ut. Magni dignissimos placeat. A hic eos qui.', 24.4, 1.6, 23.4, 563, 1981, 1023, 4891),
+(45, 9272, 'Magnam nisi vero omnis', 'spanish', 'In harum ut aut ut quam et. Quis quibusdam in. Magni et ut ut est aliquid. Temporibus voluptas distinctio cupiditate quae omnis voluptatum. Praesentium qui debitis.', 34.5, 3.1, 10.8, 689, 2001, 3997, 939),
+(46, 7928, 'Aperiam non perspiciatis', 'croatian', 'Qui placeat omnis. Vitae eaque quia molestiae. Quo explicabo distinctio reprehenderit et sed unde. Debitis numquam vel modi atque laborum reprehenderit autem.', 24.5, 1.9, 19.9, 461, 2002, 1584, 4576),
+(47, 8742, 'Qui expedita ea', 'german', 'Ab eum id. Et sapiente harum ad minima quis est optio. Commodi quia id. Tempore necessitatibus veniam sed.', 26.6, 2.5, 30.9, 947, 2017, 5069, 2676),
+(48, 5040, 'Exercitationem eligendi sint natus', 'french', 'Ratione ab unde sed et. Non incidunt voluptatem quasi sequi exercitationem perspiciatis. Eaque enim eos tempora eligendi et amet.', 5.0, 2.6, 10.6, 374, 2014, 9316, 8495),
+(49, 8244, 'Ut ea est quaerat', 'spanish', 'Quis est soluta exercitationem ducimus voluptatem. Velit temporibus quaerat. Earum maiores id.', 29.0, 4.4, 6.0, 549, 1988, 9316, 939),
+(50, 8349, 'Numquam soluta mollitia ipsum', 'english', 'Maiores placeat illum necessitatibus sed eligendi consequuntur. Cum illum magni voluptates sit nobis. Sint et voluptatem consequatur enim expedita.', 34.0, 3.7, 7.8, 801, 1970, 302, 8495),
+(51, 2615, 'Ipsum esse sunt iure', 'polish', 'Qui et cupiditate vitae et beatae amet suscipit. Et ut ut quasi est. Repudiandae saepe dolore adipisci aliquid voluptatem quod alias.', 8.4, 1.7, 10.4, 965, 1970, 3753, 5289),
+(52, 1082, 'Dicta reprehenderit dolores officiis', 'farsi', 'Eum suscipit sed earum necessitatibus. Omnis aut repellendus ducimus velit dolore facere. Magni est asperiores ullam beatae quisquam. Repellat unde et velit cumque non. Minus quam dolores qui ea facere eligendi.', 25.8, 2.1, 26.6, 488, 1992, 2307, 653),
+(53, 1064, 'Voluptatibus voluptatem dolor', 'russian', 'Aliquam dolores et. Porro odio voluptas optio qui animi. Accusantium et rem. Aut reprehenderit excepturi sit ipsam maxime qui impedit. Recusandae sunt autem.', 20.9, 3.7, 11.7, 178, 2005, 989, 4509),
+(54, 9252, 'Deserunt vitae voluptates nemo', 'french', 'Inventore quia eos. Tenetur eaque id repudiandae quas quaerat sapiente. Eaque sint harum.', 24.0, 1.7, 28.0, 966, 1970, 302, 4509),
+(55, 4788, 'Maxime vitae natus', 'ukrainian', 'Temporibus ab dolorem totam doloribus odio. Dolores minima a ullam numquam iusto et vitae. Dolorem eum sed dolor nemo saepe esse sed.', 27.5, 2.5, 18.8, 483, 2005, 1816, 6400),
+(56, 9920, 'Et omnis est', 'farsi', 'Delectus est sit libero at. Nulla deserunt incidunt. Iste sit temporibus dolores earum autem.', 30.9, 2.1, 5.4, 640, 1970, 4255, 8495),
+(57, 9475, 'Maxime ut praesentium ipsam', 'french', 'Et omnis veritatis qui veritatis iure minima rerum. Ipsam tenetur vel labore tenetur sed nobis veritatis. Rerum et provident et laudantium quisquam fugiat.', 5.6, 2.7, 24.4, 269, 1994, 8386, 7072),
+(58, 4256, 'Distinctio quisquam modi soluta', 'russian', 'Dolores enim fugit alias eos aut unde quam. Maiores voluptatem sit corporis exercitationem. Sunt dolores quia nobis eligendi earum nam. Quod vel officia quia dolore reprehenderit ad iure.', 30.4, 4.5, 17.8, 715, 1982, 5414, 8495),
+(59, 9655, 'Atque eligendi natus', 'armenian', 'Ipsum optio vitae. Sunt quisquam consequatur dignissimos quas voluptates dicta. Eveniet praesentium hic incidunt.', 15.3, 2.4, 14.2, 841, 1977, 4546, 939),
+(60, 8728, 'Ad provident sunt occaecati', 'ukrainian', 'Pariatur praesentium quos consectetur deserunt. Enim eum exercitationem. Eos ea voluptatem placeat eum.', 7.2, 1.2, 29.7, 555, 1978, 6837, 7072),
+(61, 7074, 'Sequi dolore explicabo', 'polish', 'Sit ea minima qui eius iste. Vel ut vitae. Hic maxime atque aut ipsum dolores et amet. Nemo incidunt ex ea vitae omnis aliquid quo. Quo quo repudiandae.', 7.3, 2.6, 25.0, 229, 2006, 9323, 4576),
+(62, 5360, 'Dolorem quia libero blanditiis', 'portuguese', 'Ratione est vitae at est quae. Veniam nihil impedit sunt est et quis voluptatem. Ratione nemo incidunt id quia sunt. Nulla est repudiandae odit sit delectus molestiae. Libero odio suscipit.', 31.1, 3.2, 5.6, 584, 2002, 6327, 653),
+(63, 1223, 'Fugit quam accusantium', 'russian', 'Inventore perferendis eveniet sint aut voluptate error. Sapiente facere qui perspiciatis quaerat quis aut excepturi. Ullam alias iure et ducimus et laboriosam at. Unde eveniet id sunt neque.', 29.4, 2.8, 33.8, 358, 2015, 3243, 8579),
+(64, 5090, 'Ut ut incidunt', 'urdu', 'Et officia magni soluta id omnis. Libero sed voluptate alias aut esse. Sint aperiam voluptatem non perspiciatis sed non. Et omnis modi necessitatibus et. Dolores sint consequatur ullam.', 18.2, 2.2, 28.2, 362, 1982, 6747, 8495),
+(65, 458, 'Dolor omnis eos', 'farsi', 'Quod aliquid qui sint doloribus in saepe. Ut rerum alias. Adipisci cupiditate ut at.', 20.2, 1.6, 20.3, 746, 2013, 8852, 8495),
+(66, 782, 'Molestiae atque ab', 'german', 'Similique aut laborum ex nulla dignissimos ad. Error sit autem veritatis est sit non dolorum. Laudantium voluptatem asperiores delectus dolorem mollitia natus possimus. Explicabo occaecati consectetur placeat voluptatum unde iure est. Necessitatibus ipsa laborum eos nisi assumenda et.', 15.0, 4.6, 5.7, 776, 1971, 6650, 939),
+(67, 8727, 'Sit enim totam repudiandae', 'russian', 'Quia veritatis eum dolor. Fuga et natus corporis. Omnis ea illo sapiente. Et commodi fuga assumenda enim accusantium eum qui. Maiores ratione temporibus repudiandae et sint.', 18.5, 3.5, 15.8, 573, 2014, 458, 426),
+(68, 116, 'Molestiae harum exercitationem alias', 'armenian', 'Perspiciatis ipsam provident eos omnis asperiores temporibus. Exercitationem necessitatibus omnis molestias. Ipsa facilis eos qui et asperiores et. Est cumque sit ab voluptas omnis ipsa ratione.', 11.4, 4.4, 27.1, 588, 1990, 5732, 2676),
+(69, 449, 'Ratione iusto soluta', 'ukrainian', 'Et nostrum blanditiis nemo. Animi quasi consequatur. Dolor quibusdam temporibus natus. Occaecati accusantium voluptate in similique repellendus.', 27.9, 1.6, 6.8, 124, 2018, 989, 2676),
+(70, 6504, 'Maxime alias repellat', 'arabic', 'Ut deserunt impedit unde commodi. Doloremque officiis et vero. Cum vero ut aut sint quam. Rerum aspernatur esse vel ipsum. Vel occaecati ut est et ut enim sapiente.', 28.8, 1.4, 15.5, 585, 1980, 5414, 4891),
+(71, 8671, 'Pariatur et culpa', 'russian', 'Sequi vero facilis. Est dolores cupiditate. Corrupti voluptatibus alias.', 19.7, 4.6, 16.9, 472, 1984, 3243, 4891),
+(72, 9955, 'Fugiat cupiditate ipsum ipsam', 'farsi', 'Eum voluptas error dolorem ut et iste ipsum. Sit id qui vitae voluptatum eos ut. Sit harum reprehenderit similique et omnis commodi possimus. Reiciendis blanditiis suscipit ex iste. Ut ut exercitationem autem quis ipsam dolores.', 17.7, 2.0, 28.3, 653, 1980, 5414, 2647),
+(73, 5238, 'Autem eos minima ullam', 'spanish', 'Eligendi perspiciatis aut. Aut voluptas et. Qui velit consequatur debitis qui ipsam in.', 34.1, 3.7, 9.3, 135, 2006, 989, 426),
+(74, 9628, 'Accusantium ad repellat', 'portuguese', 'Vel quis voluptates vel quia sunt eveniet error. Soluta temporibus sequi deserunt quasi numquam. Ut blanditiis facilis aspernatur voluptas aut. Et aspernatur sint voluptates veniam est. Consequatur dolor nisi iusto qui deserunt.', 12.7, 4.9, 29.3, 919, 1981, 4595, 2676),
+(75, 5263, 'Rem eius aut', 'portuguese', 'Itaque cupiditate dolore ratione est. Id magnam odit cumque. Sit unde maxime totam quo voluptas qui. Nihil iure ad.', 29.7, 4.8, 7.7, 611, 1994, 1816, 2676),
+(76, 2039, 'Beatae voluptatem sequi exercitationem', 'ukrainian', 'Consequuntur nulla dolorem temporibus eum. Veniam dicta sit quo aut. Autem repellat et. Sit est ea commodi aut quia.', 15.6, 1.9, 13.5, 786, 1979, 2349, 6400),
+(77, 7374, 'Maiores ut excepturi modi', 'arabic', 'Possimus delectus blanditiis incidunt. Quia incidunt quidem ut. Minima omnis corrupti doloremque itaque. Ut rem laudantium dolores consequatur mollitia. Occaecati optio architecto neque nostrum quos fuga et.', 31.3, 3.4, 27.5, 575, 1987, 1816, 939),
+(78, 4021, 'Aut earum fugiat', 'polish', 'Velit repudiandae nostrum minima. Quis aperiam eos commodi. Accusamus id assumenda blanditiis exercitationem et. Assumenda fugiat unde hic.', 11.2, 2.7, 18.7, 390, 1972, 9316, 939),
+(79, 2750, 'Nobis unde ducimus at', 'french', 'Eum recusandae molestiae ducimus earum aut. Voluptatibus pariatur blanditiis fugit at. Ratione ipsum ut.', 23.4, 3.1, 28.9, 929, 1972, 1023, 8495),
+(80, 563, 'Consectetur neque aspernatur eveniet', 'urdu', 'Quos qui in. Beatae voluptatum fugiat consequatur. Nam nisi aut mollitia alias eaque. Voluptatem aut qui voluptas sit et. Enim sed ut.', 24.2, 3.2, 19.3, 591, 2015, 8897, 5289),
+(81, 2499, 'Officiis iure et', 'armenian', 'Quia id sint voluptatem ipsam laboriosam doloribus quo. Pariatur deleniti et incidunt consectetur. Corrupti et aut cum.', 18.1, 2.8, 32.8, 196, 2005, 2349, 2437),
+(82, 9772, 'Maiores cumque occaecati blanditiis', 'polish', 'Dolores ut aut culpa ut. Explicabo quo et itaque sit dolores et dolorum. Ipsa eos iure laborum dolorem atque. Et quasi debitis et eveniet eos ut. Sed quaerat consequatur impedit.', 21.9, 3.2, 28.0, 436, 1993, 1776, 2676),
+(83, 2984, 'Amet rerum soluta et', 'armenian', 'Possimus consequatur sunt quia dolor unde maxime. Ad aut sapiente esse autem. Soluta earum enim voluptas quod et eveniet.', 34.5, 2.9, 26.8, 294, 1970, 3997, 7072),
+(84, 6865, 'Dolores rem cumque asperiores', 'russian', 'Ipsa rerum at impedit quod exercitationem esse. Vel fuga aliquid culpa id cumque minima. Molestiae officia qui. Deleniti et reprehenderit nesciunt dignissimos earum. Quos dolorem et consequuntur quia non.', 19.5, 3.8, 10.9, 524, 2001, 5414, 4576),
+(85, 2528, 'Voluptatem eaque sint', 'croatian', 'Tenetur veritatis et. Aut atque et nihil. Quo saepe sint aut.', 32.5, 4.9, 28.2, 243, 2004, 6747, 939),
+(86, 8872, 'Unde est facere', 'belorussian', 'Est eum expedita temporibus illum itaque nihil. Minima sint architecto qui. Pariatur iure nesciunt quo similique aut non fugiat. Fuga distinctio ex odio provident.', 22.4, 3.1, 32.8, 951, 1987, 5414, 4509),
+(87, 402, 'Reiciendis id nostrum', 'spanish', 'Et non sint ullam reiciendis. Consectetur suscipit assumenda dignissimos enim id. Consequatur nesciunt pariatur sint enim debitis. Omnis nulla laudantium non quia labore nesciunt cupiditate. Nihil placeat nulla.', 20.0, 3.3, 30.0, 691, 1982, 1473, 2437),
+(88, 7715, 'Impedit hic voluptatem', 'polish', 'Hic blanditiis sed enim. Voluptatem at amet corrupti voluptas quibusdam qui soluta. Aut quod quaerat. Ipsa quos iusto dolore consequuntur dolor explicabo.', 11.2, 4.1, 13.3, 396, 1997, 1341, 2676),
+(89, 1365, 'Voluptas voluptas aliquid ea', 'ukrainian', 'Nisi quo molestias qui. Et recusandae adipisci modi. Aut maxime aut similique ipsam.', 32.6, 2.9, 29.0, 42, 2017, 1584, 4509),
+(90, 9088, 'Corporis mollitia voluptate', 'english', 'Ullam dolor asperiores voluptas est. Nisi a ab porro illo. Reiciendis enim omnis error magni deserunt qui nihil. Corrupti corporis sint aspernatur excepturi. Voluptas reiciendis cum pariatur nulla.', 10.9, 4.3, 21.1, 982, 1977, 6825, 8579),
+(91, 9923, 'Et quia labore velit', 'polish', 'Molestiae voluptate ut. Hic magnam quibusdam vero minus. Provident itaque at voluptatum omnis adipisci odit.', 28.6, 3.1, 19.6, 388, 1982, 7445, 2647),
+(92, 1942, 'Laudantium expedita dolor', 'armenian', 'Ducimus reiciendis quo eos. Sapiente quod magni. Excepturi inventore aperiam sint odio.', 21.8, 1.5, 9.2, 290, 1995, 1023, 5289),
+(93, 1577, 'Excepturi placeat dolorum et', 'german', 'Deleniti numquam minima ut et. Occaecati et repellendus. Eligendi numquam mollitia nostrum laborum nihil velit veritatis. Neque a voluptatibus et qui ut. Delectus vitae modi.', 14.1, 3.7, 16.0, 167, 2006, 5069, 4509),
+(94, 7361, 'Similique reprehenderit id dicta', 'english', 'Provident ut ex ducimus ea id ipsum quia. Quia deleniti repudiandae et vel omnis repellendus. Non illo itaque quam minima provident. Dolore ea enim temporibus.', 21.2, 2.9, 14.5, 251, 2016, 5070, 939),
+(95, 1856, 'Repellendus et quia ab', 'arabic', 'Quaerat tempore sed ea. At accusantium modi ex repudiandae cupiditate ipsum. Eos et ab.', 14.1, 2.7, 13.3, 778, 2018, 4518, 8495),
+(96, 8648, 'Soluta tempora atque officiis', 'belorussian', 'Ab eaque sint ducimus. Magnam temporibus dolorum error culpa. Aliquid culpa sequi. Fugiat ea eum nobis.', 21.3, 4.4, 29.1, 573, 1994, 1431, 2437),
+(97, 1436, 'Error qui ullam', 'spanish', 'Inventore voluptatem suscipit maxime qui nihil modi libero. Distinctio dolores et et placeat adipisci. Consequuntur velit accusantium sit similique.', 15.1, 1.4, 8.4, 431, 1975, 1431, 7072),
+(98, 7191, 'Beatae voluptatem iste velit', 'chinese', 'Adipisci ut dolorum. Aut aut quisquam. Quisquam magni mollitia ad.', 26.2, 1.5, 25.6, 828, 2017, 1776, 653),
+(99, 9041, 'Numquam recusandae corporis', 'armenian', 'Qui occaecati minima nulla qui rerum harum. Exercitationem placeat facilis sequi odit consequatur eum. Nisi rerum rerum. Earum eligendi voluptates.', 10.3, 2.9, 26.2, 61, 2015, 4566, 939),
+(100, 1256, 'Laudantium dolor veniam', 'chinese', 'Harum velit at explicabo ratione. At dolores vero nisi quas sequi totam ea. Rem incidunt illum ut at in ea eum. Voluptatibus possimus hic cupiditate. Dignissimos autem quia dolorum quasi velit eaque.', 5.1, 4.3, 31.6, 889, 1973, 2007, 8495),
+(101, 6491, 'Est sit unde assumenda', 'portuguese', 'Accusamus accusantium minus rerum minima est. Sunt asperiores natus dolores animi modi qui cum. Ratione consequatur amet. Repudiandae quasi aut et aliquam hic iure accusamus. Praesentium nam nostrum amet consequuntur aperiam id voluptatem.', 18.1, 3.9, 31.6, 152, 2007, 7213, 8579),
+(102, 7919, 'Sed hic natus', 'ukrainian', 'Quo blanditiis accusamus rerum eligendi expedita in illo. Eos quae est sit. Molestias et id necessitatibus quibusdam. Non quia sed.', 20.9, 2.6, 6.1, 772, 1973, 2007, 6400),
+(103, 5782, 'Minima nesciunt qui', 'french', 'Libero labore eaque eos. Aperiam maiores laboriosam et dolorem laborum autem non. Ut a et itaque voluptatem ut quidem.', 11.5, 4.6, 32.8, 120, 1972, 6837, 7072),
+(104, 7222, 'Sit repellendus ut', 'armenian', 'Veritatis harum exercitationem et recusandae quia est maiores. Adipisci voluptatem odio. Voluptatem fugiat illo. Aspernatur ducimus occaecati ut dolorum ea et in. Rem debitis eos.', 31.5, 4.0, 30.7, 297, 1977, 6650, 2647),
+(105, 125, 'Doloremque ipsum aspernatur ut', 'croatian', 'Quae nam dolorum alias. Neque deserunt recusandae. Impedit iure nesciunt eius numquam. Praesentium a inventore fuga similique quia omnis.', 19.7, 4.5, 11.1, 491, 1994, 4301, 6400),
+(106, 6744, 'Et ea non', 'farsi', 'Ex et molestias illo voluptatem qui. Aperiam voluptatum a ad totam. Ex quo eum.', 28.0, 4.2, 9.2, 257, 1977, 1805, 4576),
+(107, 5200, 'Deleniti sit mollitia', 'arabic', 'Labore amet non occaecati. Hic ut et nobis est et. Quia repellat deserunt. Sint pariatur sed cum enim est autem nostrum. Nulla officiis et.', 6.1, 2.0, 26.2, 591, 1988, 6747, 2676),
+(108, 5079, 'Veritatis expedita recusandae magni', 'farsi', 'Eos molestiae tempore totam eum maxime repellendus. Officia eos quasi illo et reiciendis ipsum. Earum fuga velit. Quia ducimus minus aut cumque natus. Veniam et odio voluptas aliquid.', 29.4, 3.2, 27.0, 159, 1987, 9546, 5058),
+(109, 6836, 'Nam eos cum amet', 'french', 'Harum omnis aut sed. Officiis commodi numquam voluptatem optio. Ea autem et dolorum a debitis.', 28.2, 2.3, 28.8, 734, 1997, 4518, 5289),
+(110, 9566, 'Fugiat quia quis qui', 'spanish', 'Libero quisquam et molestias incidunt at nihil. Cum rerum minima optio laboriosam sit. Sed sapiente molestias eos suscipit omnis ea. Hic fugit id porro. Sed saepe et tempora qui quo.', 15.0, 3.9, 11.7, 36, 1987, 458, 5058),
+(111, 8777, 'Dolorem nisi ratione', 'urdu', 'Officia unde et. Suscipit optio culpa voluptatem et inventore. Qui nemo officiis saepe quos corrupti voluptates qui. Et nam aspernatur amet non. Quisquam dolores sint et vitae iste.', 18.1, 3.4, 9.2, 289, 1977, 8852, 939),
+(112, 5853, 'Dignissimos commodi dolor facere', 'chinese', 'Reiciendis et numquam. Quisquam quos soluta non voluptates eos. Corrupti qui ea commodi.', 31.1, 1.5, 27.9, 187, 2016, 9546, 4576),
+(113, 8458, 'Odio sit facilis nihil', 'german', 'Tenetur consequuntur rerum a consequatur et dolor nulla. Qui quae eum placeat nam occaecati ea ab. Atque aperiam consequatur est. Debitis aut quod. Cumque magnam eligendi et id ab.', 24.2, 3.7, 14.0, 90, 1990, 1816, 5058),
+(114, 9634, 'Veritatis odit consequatur tempora', 'arabic', 'Et unde ut aliquid sed. Deleniti quaerat tempore et asperiores voluptatibus tempore est. Hic provident voluptas dolorem velit necessitatibus placeat. Dicta laborum aut quia rerum.', 23.4, 3.4, 19.7, 143, 1971, 4301, 2437),
+(115, 8692, 'Eaque dicta praesentium', 'urdu', 'Est quae id officiis quos. Accusantium dolor nihil earum veniam et. Occaecati quo totam assumenda quo rerum.', 11.9, 3.4, 19.8, 890, 1993, 7213, 6400),
+(116, 4265, 'Pariatur est magnam soluta', 'ukrainian', 'Et sapiente sunt sed ipsa sequi et. Doloribus consequatur atque ut. Corrupti aut quas est aut alias.', 25.7, 3.4, 15.9, 208, 2002, 5070, 4576),
+(117, 4390, 'Non quo cupiditate', 'farsi', 'Velit et voluptatum quasi eius harum facere in. Deleniti doloremque maiores pariatur esse aut omnis asperiores. Ducimus unde sed totam illo. Et laudantium fuga velit qui corrupti.', 13.2, 1.3, 26.5, 120, 2007, 4566, 2676),
+(118, 3159, 'Necessitatibus dolorem adipisci aut', 'ukrainian', 'Perferendis consequuntur iusto aut molestiae. Corrupti sapiente sunt porro vitae qui et eveniet. Numquam enim qui impedit vitae ut non.', 20.5, 4.0, 31.4, 28, 1981, 5070, 4891),
+(119, 2847, 'Qui vel perferendis optio', 'german', 'Dolore blanditiis dicta aperiam. Libero maiores non voluptatem. Nostrum eos error ipsa.', 32.7, 4.6, 29.2, 982, 1987, 989, 4576),
+(120, 9985, 'Qui fuga accusantium at', 'spanish', 'Sit qui quaerat. Dolore sit occaecati id. Maiores repellendus placeat est ut.', 18.3, 2.4, 7.6, 967, 1984, 1407, 939),
+(121, 2610, 'Vero odio et fugit', 'belorussian', 'Consequuntur ipsum nisi natus harum officia inventore. Optio aut autem. Deserunt doloribus non amet accusamus ut at illo. Voluptatibus voluptate eius esse optio fugiat et.', 26.4, 1.8, 10.2, 637, 1982, 1341, 939),
+(122, 1411, 'Quod totam iste', 'croatian', 'Facilis repudiandae rerum et. Qui nam nostrum. Molestiae praesentium culpa illo sint. Eius eos unde laboriosam qui ad. Aut assumenda quasi.', 12.8, 4.9, 22.8, 159, 2013, 2307, 5289),
+(123, 9965, 'Earum unde facere', 'french', 'Earum tenetur ex labore eum minus dolores. Illo dolore optio sint ex. Animi officia veniam ut. Voluptatem odit consequatur perferendis officia nihil veritatis sed.', 25.1, 3.1, 15.5, 405, 2010, 4595, 8495),
+(124, 3278, 'Excepturi voluptates ut consequatur', 'belorussian', 'Molestiae accusantium vel velit a repellat voluptas eos. Incidunt alias quia deserunt aut eos ea. Exercitationem dolor nesciunt voluptas sint ipsa consequatur ex. Accusamus asperiores repudiandae omnis neque et.', 10.8, 4.9, 22.7, 812, 1974, 5659, 5289),
+(125, 2134, 'Voluptas error modi', 'arabic', 'Ab est ducimus unde a qui voluptatem. Labore corporis cum dolor. Perspiciatis modi commodi debitis ut voluptas quos optio.', 28.1, 3.8, 34.1, 279, 1985, 2349, 4509),
+(126, 6206, 'Esse explicabo quod', 'chinese', 'Temporibus dolores sunt dolor. Maxime accusantium quia. In saepe ut ad. Vitae aut in voluptas rerum dignissimos et aut.', 21.4, 5.0, 19.2, 420, 2007, 4518, 7072),
+(127, 9622, 'Eveniet et quod aut', 'french', 'Sit iste inventore ut dolores et. Reiciendis adipisci cum repellat facilis. Molestias molestiae et velit autem mollitia molestias dolorem. Delectus officia aut eos harum sed. Consequatur in aspernatur dolor.', 22.1, 1.4, 6.5, 362, 2002, 5414, 8579),
+(128, 1403, 'Et iure eius sunt', 'russian', 'Amet qui eveniet. Velit placeat facere aut voluptatem neque saepe perferendis. Facilis corporis et omnis. Sed quisquam quia.', 24.3, 3.7, 15.3, 380, 1977, 1584, 426),
+(129, 8835, 'Quisquam et neque est', 'spanish', 'Possimus adipisci sequi cumque voluptatem iste. Impedit minima possimus sint consequatur. Dolor illo autem libero. Dolores repellat dolor nisi dignissimos eligendi magni. Aspernatur nisi accusamus quaerat laboriosam ea aspernatur.', 8.1, 2.3, 27.2, 49, 1992, 4595, 2676),
+(130, 5926, 'Autem doloribus qui', 'chinese', 'Natus itaque dolores dolorem exercitationem explicabo. Quo nostrum et tenetur eligendi iste repellat. Et quis ut qui consectetur aperiam.', 22.1, 2.8, 24.3, 391, 2018, 1407, 4576),
+(131, 552, 'Sunt est fuga', 'armenian', 'Tempora ipsam alias voluptatum in. Dolor consequatur consequuntur dolore modi omnis. Ea omnis aut suscipit est consequatur nisi. Quaerat aut eligendi quo quia tempore aut. Est et quia veniam ea expedita molestias et.', 31.3, 5.0, 29.1, 642, 1983, 9316, 939),
+(132, 4103, 'Velit voluptatem consequuntur', 'belorussian', 'Ipsam quos ea qui. Itaque reprehenderit beatae explicabo doloribus cumque aut voluptate. Accusamus quidem numquam rerum.', 6.3, 2.2, 30.5, 173, 2017, 4546, 8579),
+(133, 8661, 'Nisi aut et', 'arabic', 'Dignissimos quaerat ut rem voluptatem quisquam quibusdam accusamus. Magni itaque necessitatibus. Temporibus et laudantium ut aspernatur iusto. Dicta quae aut minus quis. Magni error ullam architecto exercitationem id explicabo.', 16.3, 2.1, 29.6, 116, 1979, 6327, 8495),
+(134, 5110, 'Magni minus velit', 'arabic', 'Aliquam sed rerum quia qui. Eligendi aliquam neque sunt vitae sapiente dolorem pariatur. Perspiciatis nihil dolore.', 15.4, 4.0, 19.5, 612, 1996, 4301, 6400),
+(135, 4631, 'Tenetur est quis', 'english', 'Atque commodi omnis et explicabo eius nesciunt. Ad numquam ipsum. Similique adipisci neque voluptatem ea. Et minima quis fugiat nihil accusantium odit.', 28.9, 3.1, 20.5, 280, 2002, 2307, 4576),
+(136, 3548, 'Qui officiis est', 'belorussian', 'Accusantium asperiores sint. Ut harum dolores ratione et tempore ipsum earum. Reiciendis laborum nemo hic ut quia. Similique commodi nostrum non quia. Mollitia non consectetur consequatur ipsam minima.', 30.4, 4.8, 8.1, 470, 2003, 989, 2676),
+(137, 8233, 'Aut voluptatibus voluptatibus', 'portuguese', 'Impedit distinctio voluptas sint. Culpa est et sint culpa fugit ex unde. Et quia quos deleniti blanditiis provident quas.', 29.1, 2.0, 30.9, 275, 2011, 302, 5058),
+(138, 8358, 'Debitis pariatur qui accusantium', 'farsi', 'Saepe vel nisi ipsum rerum rem. Harum fugit aut. Ducimus tempora nisi in eos eos. Temporibus sed hic.', 11.2, 3.9, 15.0, 340, 2007, 3757, 4891),
+(139, 8843, 'Officiis eum quia', 'portuguese', 'Rerum similique sit eligendi non qui incidunt. Ut tempora est quod dicta fuga. Eius recusandae neque. Sit atque aperiam rem quisquam. Iusto nostrum at autem natus est quia accusamus.', 31.5, 4.1, 22.8, 687, 1995, 2921, 8579),
+(140, 5103, 'Placeat quis autem non', 'polish', 'Nemo alias rerum saepe perspiciatis sunt. Et eligendi similique sunt consequatur qui necessitatibus. Laudantium adipisci neque velit nisi exercitationem.', 18.3, 2.9, 23.6, 283, 2018, 8852, 6400),
+(141, 3470, 'Corrupti voluptatem est rerum', 'belorussian', 'Tenetur libero sed. Hic sequi qui aut eveniet voluptates dignissimos consectetur. Sunt dolor incidunt fuga minus in. Et voluptatem quo aliquam perspiciatis accusamus vero cumque.', 25.2, 2.6, 18.0, 359, 1972, 989, 6400),
+(142, 1470, 'Porro asperiores molestiae', 'spanish', 'Sequi non totam fugit non facere asperiores consequatur. Quia voluptate odit quae ipsa aspernatur beatae quia. Cum eius error impedit. Et dolorum ab iure ab quos est voluptatibus.', 7.3, 2.3, 22.8, 597, 2012, 4566, 653),
+(143, 5450, 'Consequuntur numquam harum', 'russian', 'Tempore maxime et sed. Cupiditate ut sed officiis assumenda. Enim quis vel necessitatibus expedita ut inventore aut. Quia atque animi consequuntur suscipit qui sed autem. Praesentium cum eius assumenda.', 6.6, 4.8, 11.8, 58, 2014, 6825, 8579),
+(144, 8828, 'Possimus praesentium quisquam debitis', 'german', 'Doloremque sint omnis neque. Dignissimos est alias debitis aut. Recusandae consequatur aspernatur velit. Autem ab qui atque.', 16.9, 4.8, 20.8, 162, 2006, 458, 4891),
+(145, 8740, 'Incidunt quis rem', 'chinese', 'Et officiis voluptatem rerum. Autem assumenda deleniti. Neque ipsam ut nihil dolor odit aliquid omnis. Sint ullam provident nihil maxime.', 34.5, 3.6, 13.1, 967, 1983, 6650, 939),
+(146, 3670, 'Quidem maiores eos', 'french', 'Molestias vel quisquam sed nulla id in. Magni eos vitae eos. Voluptatibus ipsum asperiores cum aut minima eveniet omnis.', 18.8, 3.7, 21.2, 400, 2002, 8213, 2647),
+(147, 3743, 'Quaerat doloremque sunt', 'french', 'Esse veniam assumenda ex alias. In ut nihil eos. Debitis cum rerum labore aut sapiente.', 21.7, 3.7, 11.3, 897, 1998, 3243, 6400),
+(148, 371, 'Asperiores ut omnis', 'portuguese', 'Maxime voluptatem et consequatur et dolor id. Iste ut ex. Enim soluta voluptatem blanditiis delectus in. Cupiditate dolorem sint. Non nisi sed iusto aliquid.', 26.6, 3.7, 5.3, 370, 1981, 5732, 8495),
+(149, 502, 'Rerum officiis enim', 'belorussian', 'Distinctio error doloribus ipsam sit provident nulla. Dolor enim ad a tenetur aliquam. Reiciendis cupiditate et quia. In qui maiores hic rerum.', 5.5, 2.2, 12.5, 386, 1971, 6825, 4576),
+(150, 9048, 'Incidunt aut et', 'belorussian', 'Nobis vitae tempora quod vel animi saepe. Temporibus ut facere consectetur sint doloribus beatae aut. Eius voluptatem sed officia laboriosam iusto officiis.', 9.4, 4.5, 11.5, 864, 2011, 547, 7072),
+(151, 6743, 'Molestias voluptas sapiente', 'arabic', 'Consequatur corrupti similique consequatur sunt at ea. Libero enim aut dolor dolores ducimus. Quia aliquam hic nemo nam et. Eligendi consequuntur architecto facere libero eos ab sed. Sed reprehenderit quia.', 33.9, 1.2, 16.1, 551, 1988, 989, 6400),
+(152, 9560, 'Quasi eveniet voluptatem', 'croatian', 'Quis esse dignissimos rerum. Delectus sit provident provident eos hic. Dolor et eius velit voluptas.', 29.4, 2.1, 9.6, 319, 2005, 8852, 8579),
+(153, 484, 'Voluptas soluta vitae', 'belorussian', 'Sunt fugiat omnis officia. Qui et illo ut eum sunt. Aut qui asperiores.', 7.1, 3.9, 23.9, 926, 2009, 7445, 2437),
+(154, 519, 'Consequatur cupiditate non maxime', 'russian', 'Reiciendis ducimus nihil dolor recusandae tempore itaque. Totam vel expedita nemo voluptatum quia quis. Qui id reprehenderit incidunt. Omnis tempore et nostrum sit voluptate sunt. Fugit minus sapiente qui ut dolorem.', 5.4, 4.6, 15.1, 591, 2017, 4301, 426),
+(155, 9102, 'Eum sed dolores ducimus', 'spanish', 'Sit fugit enim aliquid sint ut. Ipsum ea doloribus. Qui ullam pariatur labore aut inventore. Quis non quas excepturi aut necessitatibus nesciunt non. Facilis cumque quidem amet sapiente deleniti.', 19.0, 4.6, 22.5, 454, 1984, 9546, 426),
+(156, 2949, 'Sit ducimus nobis doloribus', 'croatian', 'Est nemo adipisci. Sequi nam molestiae dolorem. Tempora quia eligendi in eveniet velit.', 5.1, 4.7, 24.8, 45, 1984, 1341, 8495),
+(157, 5848, 'Optio velit sunt explicabo', 'chinese', 'Est laborum quo fuga sed quas illo qui. Occaecati ad ea iure similique ut optio. Occaecati et quia dolorem aliquid eum. Quod sunt incidunt voluptates.', 29.1, 3.0, 33.6, 273, 1976, 9546, 4576),
+(158, 1204, 'Modi sed quod culpa', 'farsi', 'Culpa nisi et qui maiores id voluptatem. Est nulla id provident inventore tenetur veritatis. Natus laudantium est aut repellat. Debitis eum totam placeat tempora.', 11.0, 4.5, 31.2, 433, 1981, 9546, 2437),
+(159, 430, 'Est dolor ab nesciunt', 'polish', 'Veritatis autem est eos accusamus ratione. Nam sed ipsum vero cupiditate. Aut sed laboriosam autem. Qui omnis eveniet ipsa repellat quod.', 20.1, 4.4, 14.0, 801, 1981, 1341, 4891),
+(160, 5361, 'Voluptatem molestiae eligendi vel', 'polish', 'Eum ut et corrupti velit. Quod exercitationem eaque nihil rerum officia dignissimos assumenda. Nobis distinctio dolor facere. Aliquid laudantium itaque libero qui neque ducimus voluptatibus.', 29.2, 3.3, 18.2, 580, 2003, 6327, 7072),
+(161, 1541, 'Fugit est veritatis quasi', 'armenian', 'Eveniet illo rerum eos. Similique ipsam voluptatibus nemo facere officia. Velit et itaque.', 5.0, 2.5, 12.1, 137, 1991, 5732, 2647),
+(162, 5830, 'Ut explicabo possimus', 'chinese', 'Sed amet laborum voluptatum similique nemo eveniet soluta. Aspernatur enim architecto. Omnis molestiae ratione explicabo assumenda magnam dolorum at. Quos adipisci velit corrupti aut maxime recusandae.', 31.1, 1.8, 8.0, 918, 2009, 4301, 2647),
+(163, 2424, 'Omnis similique vitae ex', 'chinese', 'Rem aliquam reprehenderit. Rem dolore voluptatibus voluptas neque aut similique modi. Sit ut et ea id sunt consequatur quod. Ut eius deleniti sit qui.', 22.3, 1.7, 32.0, 613, 1991, 4566, 2676),
+(164, 7433, 'Perspiciatis cum dolorem porro', 'portuguese', 'Tempore sunt esse odio voluptatem et et. In numquam fugiat. Porro perspiciatis dolores ab.', 18.9, 3.0, 6.5, 191, 2007, 9316, 4891),
+(165, 3412, 'Sapiente voluptates assumenda sit', 'portuguese', 'Veniam sapiente placeat omnis id. Modi pariatur iusto. Rerum quis iure et ullam.', 26.2, 3.5, 31.3, 342, 2003, 7213, 2647),
+(166, 1018, 'Rerum ullam provident quo', 'armenian', 'Mollitia mollitia unde dicta voluptas et et. Possimus sint esse placeat cumque earum dolor. Rerum eligendi earum repudiandae magnam fuga quod. Reiciendis ut non tempora velit.', 33.4, 2.0, 34.5, 11, 2000, 1805, 5289),
+(167, 3221, 'Ab eveniet eum praesentium', 'spanish', 'Beatae eius dolorem exercitationem consectetur modi. Voluptas cumque ullam labore sint sunt est. Commodi dolore consequuntur consequatur animi ex. Qui eius sint expedita ut earum non ipsa.', 26.6, 2.5, 17.1, 870, 2011, 5069, 4509),
+(168, 6284, 'Quia ut minus', 'urdu', 'Perspiciatis quod laudantium rerum veritatis. Est non soluta rerum ratione illum. Eum dolor eligendi iste fuga at repellendus. Optio molestiae praesentium dolores labore.', 16.3, 3.9, 10.1, 501, 1983, 5070, 8579),
+(169, 5435, 'Atque et earum ut', 'polish', 'Dolores ducimus veritatis dolorem fugiat qui. Quod blanditiis expedita exercitationem minima. Labore sunt officia.', 33.6, 1.1, 14.3, 915, 2002, 302, 4509),
+(170, 9887, 'Incidunt adipisci culpa', 'arabic', 'Voluptas aut quibusdam earum rerum quia doloribus ullam. Fugiat voluptatem nisi. Tempora voluptatem dolorum vero illo et aliquam. Ex vel a qui. Ratione vero laborum deserunt commodi corrupti.', 10.7, 2.2, 24.7, 523, 2000, 1431, 5058),
+(171, 9730, 'Soluta tempore velit', 'ukrainian', 'Maiores sint illum aut at totam magnam omnis. Autem et qui. Alias id placeat omnis dolorum magni ea. Mollitia impedit sunt voluptatem error amet vel.', 7.4, 1.3, 26.5, 544, 2003, 2921, 5058),
+(172, 7503, 'Quasi incidunt ullam', 'russian', 'Fuga reprehenderit natus perspiciatis quis. Nostrum fugiat rerum labore sint aut. Eligendi exercitationem sapiente. Est distinctio labore excepturi deleniti non.', 9.9, 3.4, 20.6, 967, 2015, 5732, 5289),
+(173, 6703, 'Delectus blanditiis nisi', 'polish', 'Omnis harum nostrum explicabo. Aut praesentium fugit dolorem. Mollitia voluptatem odit.', 11.6, 1.6, 26.8, 845, 1994, 547, 4891),
+(174, 4539, 'Dolor nihil sequi minus', 'chinese', 'Voluptatum repellendus tenetur et. Neque accusamus quia ipsa quo qui. Exercitationem pariatur in. Delectus suscipit hic pariatur id facere. Quos non delectus sed atque.', 27.2, 4.6, 8.3, 779, 2006, 5414, 939),
+(175, 5339, 'Quibusdam sed aliquam', 'belorussian', 'At velit exercitationem sint fuga. Molestias occaecati molestiae voluptas. Cumque vel quia qui repellat distinctio. Sed et ad veniam modi expedita. Harum omnis quas necessitatibus rerum.', 26.6, 4.5, 31.0, 402, 1986, 1023, 426),
+(176, 867, 'Ipsum nisi id', 'french', 'Deserunt suscipit atque architecto ducimus eveniet accusantium. Sit et animi veritatis officia. Autem est laudantium. Perferendis occaecati hic odio nobis.', 27.5, 2.7, 25.0, 783, 1976, 4566, 6400),
+(177, 6701, 'Suscipit explicabo maiores tempore', 'arabic', 'Quidem repellendus nobis et et hic. Laboriosam in facilis nihil. Eius voluptas est. Nam commodi eos. Voluptatum debitis doloremque ut.', 14.3, 1.0, 15.4, 465, 2012, 989, 653),
+(178, 2512, 'Et porro eveniet', 'croatian', 'Ullam et atque nulla. Cum architecto et et voluptates voluptatem pariatur. Et porro maxime dolorum voluptatem possimus est.', 15.4, 2.2, 27.5, 26, 2008, 5659, 4891),
+(179, 6999, 'Et nisi similique illum', 'polish', 'Ut quo et numquam repudiandae repudiandae doloribus. Ullam voluptas quia enim. Delectus ut aperiam et. Hic rerum neque est.', 23.9, 1.4, 6.6, 941, 1989, 3243, 426),
+(180, 3822, 'Laudantium autem vero', 'french', 'Impedit sunt porro officia voluptas quam voluptatum eum. Dicta et sunt eos a. Aut in cumque deserunt magni sint nostrum.', 16.3, 4.1, 14.2, 952, 1976, 7445, 8579),
+(181, 606, 'Facilis illo est', 'russian', 'Voluptatem error natus necessitatibus magni. Adipisci cumque omnis et modi ea autem. Molestias eligendi voluptate.', 10.5, 2.6, 17.6, 222, 1978, 1805, 8579),
+(182, 4472, 'Labore eos quas', 'english', 'Cumque et rerum fuga. Natus ducimus optio repellat fugit dolorum. Enim ipsa qui perferendis neque voluptatem eveniet ab. Dolore quas ullam quisquam ipsum est deleniti. Architecto quod similique mollitia aut.', 13.5, 2.5, 6.4, 542, 1977, 6825, 7072),
+(183, 5985, 'Ea consequatur est voluptas', 'portuguese', 'Quia debitis vel exercitationem esse nihil est. Ullam omnis dolorum pariatur dolore placeat rerum sunt. Incidunt repudiandae dignissimos ad. Aut placeat iusto.', 12.5, 4.6, 22.2, 513, 2012, 4255, 7072),
+(184, 2538, 'Assumenda magnam sed', 'urdu', 'Tempore distinctio in beatae nobis et omnis nemo. Consequatur aut earum. Magni facere vel aut eveniet ratione. Cum fuga qui eius aut similique. Nam consequatur amet.', 27.7, 2.8, 28.0, 66, 2004, 458, 7072),
+(185, 2572, 'Blanditiis eius incidunt eos', 'urdu', 'Aut hic magnam et sapiente molestiae autem. Quo aut velit. Nobis vel culpa reprehenderit quo.', 17.3, 2.1, 26.4, 249, 1997, 1473, 7072),
+(186, 7156, 'Adipisci id et', 'chinese', 'Animi repellendus ea voluptatibus quae. Et pariatur eum. Consequuntur harum accusamus incidunt velit. Voluptas omnis omnis.', 30.2, 4.7, 22.9, 532, 1982, 4566, 7072),
+(187, 9110, 'Nulla autem id', 'urdu', 'Vel est assumenda sit velit velit est dicta. Quam voluptas aut. Corrupti nostrum ut. Consequatur iure enim quam culpa a.', 17.3, 2.2, 32.2, 65, 1999, 5238, 5289),
+(188, 8400, 'Est in sapiente', 'farsi', 'Voluptas aut officia. Odio sunt amet omnis repudiandae ea consequuntur. Aut provident occaecati aut eaque quod accusamus.', 21.5, 3.4, 10.4, 85, 2005, 2007, 2676),
+(189, 1498, 'Similique ipsa facilis sit', 'ukrainian', 'Enim nulla voluptatibus omnis deleniti est accusamus autem. Eveniet earum fuga eum quae doloremque. Tempora quidem optio libero.', 13.9, 4.2, 32.7, 984, 2010, 5414, 5058),
+(190, 6309, 'Dolorem laudantium velit', 'croatian', 'Ut sit culpa distinctio mollitia et. Quis expedita quo est. Dolor voluptatem aspernatur. Consequatur sint illum. Voluptates est natus voluptatem modi qui iure commodi.', 26.3, 3.5, 21.3, 879, 1976, 5238, 8495),
+(191, 600, 'Eum architecto autem', 'arabic', 'In reiciendis maiores molestiae minus. Facilis ea consequatur assumenda quis enim eius illo. Unde nisi voluptas eaque.', 17.3, 1.5, 5.8, 482, 2009, 1023, 426),
+(192, 7807, 'A aut ipsam quo', 'english', 'Et similique exercitationem. Nobis aliquam ipsa doloribus et magni. Tempora et velit officia enim quas veritatis sit. Molestiae possimus cum quis minus.', 26.2, 2.2, 10.7, 504, 1997, 6837, 5289),
+(193, 4137, 'Eius quia ullam', 'french', 'Quo id sint quidem quisquam. Autem aut voluptatem magni qui voluptatem. Iusto sunt in qui ratione numquam minus voluptatum. Amet aperiam voluptas illum.', 5.9, 4.8, 5.6, 322, 2012, 2007, 8579),
+(194, 7155, 'Alias dolores ea voluptates', 'belorussian', 'Nesciunt occaecati voluptatibus expedita. Consequatur illum fugit id earum consequatur. Recusandae eos quibusdam ex cumque deserunt. Eligendi et harum maiores dolore aut accusamus illo.', 13.3, 3.6, 33.0, 781, 1993, 4566, 4891),
+(195, 1267, 'Earum id pariatur', 'belorussian', 'Non in voluptates qui. Non aut placeat reiciendis sunt reprehenderit esse. Ullam consequuntur cumque cum quas adipisci est. Sed explicabo rem aut sapiente.', 31.4, 3.9, 13.0, 42, 1984, 6837, 2437),
+(196, 6847, 'Est aut facilis', 'chinese', 'Et excepturi dicta rerum laboriosam eveniet non. Modi non beatae. Quia mollitia rerum iste est ea ut harum. Ducimus distinctio voluptatibus nam maiores. Nisi quae ea autem.', 28.0, 2.7, 24.0, 719, 2008, 9316, 4509),
+(197, 5908, 'Impedit non itaque est', 'urdu', 'Tempora voluptatem odio optio laborum. Dolorem hic aut aspernatur et quam saepe. Voluptatem quia non dicta iste odit.', 11.8, 1.4, 30.5, 983, 1978, 5069, 6400),
+(198, 7423, 'Autem nesciunt consectetur', 'farsi', 'Doloribus ut molestiae. Et saepe et. Quasi sint rerum voluptas. Est et rerum blanditiis quia. Harum quis id quia sit molestiae.', 30.2, 1.5, 13.6, 350, 1990, 9323, 6400),
+(199, 425, 'Maiores est reiciendis', 'french', 'Culpa dignissimos neque. Facere sint id. Tempore expedita perspiciatis ad cumque reiciendis in. Id ullam consequatur rerum est beatae. Enim dicta natus hic omnis voluptas rerum ipsa.', 29.7, 3.8, 31.6, 571, 2009, 6650, 8579),
+(200, 58, 'Mollitia asperiores non', 'urdu', 'Consequatur maxime deserunt sed. Non aspernatur quo a similique. Sint odio voluptatem deserunt dolorem sunt totam inventore.', 32.6, 2.9, 17.3, 829, 1979, 1776, 4509);
+
+alter sequence book_seq restart with 201;
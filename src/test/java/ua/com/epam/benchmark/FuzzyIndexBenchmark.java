@@ -0,0 +1,61 @@
+package ua.com.epam.benchmark;
+
+import com.github.javafaker.Faker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.com.epam.search.FuzzyIndex;
+import ua.com.epam.search.SearchHit;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typo-tolerant search over author full names generated the same way as the seed data.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:<test classpath> ua.com.epam.benchmark.FuzzyIndexBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FuzzyIndexBenchmark {
+
+    @Param({"10000", "100000", "300000"})
+    int count;
+
+    FuzzyIndex index;
+
+    @Setup
+    public void setUp() {
+        Faker faker = new Faker(Locale.ENGLISH, new Random(42));
+        index = new FuzzyIndex();
+        for (long i = 0; i < count; i++) {
+            index.load(i, faker.name().firstName(), faker.name().lastName());
+        }
+        index.loaded();
+    }
+
+    @Benchmark
+    public List<SearchHit> oneMisspelledWord() {
+        return index.similarTo("Shanahen", 5);
+    }
+
+    @Benchmark
+    public List<SearchHit> twoMisspelledWords() {
+        return index.similarTo("Jonh Shanahen", 5);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FuzzyIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
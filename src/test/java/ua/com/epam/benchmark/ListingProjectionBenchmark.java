@@ -0,0 +1,157 @@
+package ua.com.epam.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import ua.com.epam.entity.Book;
+import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.ingestion.IngestionConfig;
+import ua.com.epam.ingestion.JdbcBatchSink;
+import ua.com.epam.ingestion.SeedGenerator;
+import ua.com.epam.repository.projection.BookRow;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One 1000-row page of the book listing over an in-memory H2 database filled by the seed
+ * generator: read as managed entities and mapped to DTOs versus read as {@link BookRow}
+ * constructor projections, and the same two written as JSON the way {@code /books?size=1000}
+ * responds, the rows by their serializer with no DTOs.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:<test classpath> ua.com.epam.benchmark.ListingProjectionBenchmark},
+ * the GC profiler reports the bytes allocated per page as {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingProjectionBenchmark {
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({"20000"})
+    int books;
+
+    LocalContainerEntityManagerFactoryBean factoryBean;
+    EntityManagerFactory factory;
+    ModelToDtoMapper mapper;
+    ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:listing;DB_CLOSE_DELAY=-1", "sa", "");
+
+        Properties jpaProperties = new Properties();
+        jpaProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("ua.com.epam.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        factory = factoryBean.getObject();
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(IngestionConfig.BOOKS_COUNT, String.valueOf(books));
+        properties.put(IngestionConfig.SEED, "42");
+        IngestionConfig config = IngestionConfig.from(properties::get);
+        try (Connection connection = dataSource.getConnection();
+             JdbcBatchSink sink = new JdbcBatchSink(connection, config.getBatchSize(), config.getCommitChunk())) {
+            new SeedGenerator(config).generate(sink);
+        }
+
+        mapper = new ModelToDtoMapper();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public List<BookDto> entities() {
+        EntityManager em = factory.createEntityManager();
+        try {
+            return em.createQuery("SELECT t FROM Book t ORDER BY t.bookId", Book.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList().stream()
+                    .map(mapper::mapBookToBookDto)
+                    .collect(Collectors.toList());
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<BookRow> rows() {
+        EntityManager em = factory.createEntityManager();
+        try {
+            return em.createQuery("SELECT " + BookRow.SELECT + " FROM Book t ORDER BY t.bookId", BookRow.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public long entitiesAsJson() throws IOException {
+        return write(entities());
+    }
+
+    @Benchmark
+    public long rowsAsJson() throws IOException {
+        return write(rows());
+    }
+
+    private long write(List<?> page) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, page);
+        return out.count;
+    }
+
+    // the response body, without keeping what is written
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListingProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
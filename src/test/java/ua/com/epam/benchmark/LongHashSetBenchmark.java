@@ -0,0 +1,80 @@
+package ua.com.epam.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.com.epam.service.cache.LongHashSet;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Existence checks of business IDs: {@link LongHashSet} against a {@code HashSet<Long>},
+ * half of the looked up IDs present.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:<test classpath> ua.com.epam.benchmark.LongHashSetBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongHashSetBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"20000", "1000000"})
+    int count;
+
+    LongHashSet longHashSet;
+    Set<Long> hashSet;
+    long[] lookups;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        longHashSet = new LongHashSet();
+        hashSet = new HashSet<>();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = random.nextInt(Integer.MAX_VALUE);
+            longHashSet.add(ids[i]);
+            hashSet.add(ids[i]);
+        }
+        lookups = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = i % 2 == 0 ? ids[random.nextInt(count)] : -random.nextInt(Integer.MAX_VALUE) - 1;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int longHashSet() {
+        int found = 0;
+        for (long id : lookups) {
+            found += longHashSet.contains(id) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int boxedHashSet() {
+        int found = 0;
+        for (long id : lookups) {
+            found += hashSet.contains(id) ? 1 : 0;
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LongHashSetBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
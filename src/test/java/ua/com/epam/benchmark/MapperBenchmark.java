@@ -0,0 +1,147 @@
+package ua.com.epam.benchmark;
+
+import org.modelmapper.Converter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.spi.MappingContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.com.epam.entity.Author;
+import ua.com.epam.entity.Book;
+import ua.com.epam.entity.dto.author.AuthorDto;
+import ua.com.epam.entity.dto.author.nested.BirthDto;
+import ua.com.epam.entity.dto.author.nested.NameDto;
+import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.entity.dto.book.nested.AdditionalDto;
+import ua.com.epam.entity.dto.book.nested.SizeDto;
+import ua.com.epam.service.mapper.DtoToModelMapper;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+import ua.com.epam.service.mapper.converter.author.AuthorDtoToAuthor;
+import ua.com.epam.service.mapper.converter.author.AuthorToAuthorDto;
+import ua.com.epam.service.mapper.converter.book.BookDtoToBook;
+import ua.com.epam.service.mapper.converter.book.BookToBookDto;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping entities to DTOs and back with the converters called straight, the way the mappers
+ * do it, versus the same converters looked up by ModelMapper, the way they did it before.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:<test classpath> ua.com.epam.benchmark.MapperBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    ModelMapper modelMapper;
+    ModelToDtoMapper toDtoMapper;
+    DtoToModelMapper toModelMapper;
+
+    Book book;
+    Author author;
+    BookDto bookDto;
+    AuthorDto authorDto;
+
+    @Setup
+    public void setUp() {
+        toDtoMapper = new ModelToDtoMapper();
+        toModelMapper = new DtoToModelMapper();
+
+        BookToBookDto bookToBookDto = new BookToBookDto();
+        BookDtoToBook bookDtoToBook = new BookDtoToBook();
+        AuthorToAuthorDto authorToAuthorDto = new AuthorToAuthorDto();
+        AuthorDtoToAuthor authorDtoToAuthor = new AuthorDtoToAuthor();
+
+        modelMapper = new ModelMapper();
+        modelMapper.addConverter(new Converter<Book, BookDto>() {
+            @Override
+            public BookDto convert(MappingContext<Book, BookDto> context) {
+                return bookToBookDto.convert(context.getSource());
+            }
+        });
+        modelMapper.addConverter(new Converter<BookDto, Book>() {
+            @Override
+            public Book convert(MappingContext<BookDto, Book> context) {
+                return bookDtoToBook.convert(context.getSource());
+            }
+        });
+        modelMapper.addConverter(new Converter<Author, AuthorDto>() {
+            @Override
+            public AuthorDto convert(MappingContext<Author, AuthorDto> context) {
+                return authorToAuthorDto.convert(context.getSource());
+            }
+        });
+        modelMapper.addConverter(new Converter<AuthorDto, Author>() {
+            @Override
+            public Author convert(MappingContext<AuthorDto, Author> context) {
+                return authorDtoToAuthor.convert(context.getSource());
+            }
+        });
+
+        bookDto = new BookDto(42L, "Sunt est fuga", "armenian", "Tempora ipsam alias voluptatum in.",
+                new AdditionalDto(642, new SizeDto(31.3, 29.1, 5.0)), 1995);
+        book = toModelMapper.mapBookDtoToBook(bookDto);
+
+        authorDto = new AuthorDto();
+        authorDto.setAuthorId(7L);
+        authorDto.setAuthorName(new NameDto("Jo", "Schneider"));
+        authorDto.setNationality("Chinese");
+        authorDto.setBirth(new BirthDto(LocalDate.of(1935, 1, 26), "San Marino", "West Janelle"));
+        authorDto.setAuthorDescription("Fuga id illo reprehenderit pariatur minima.");
+        author = toModelMapper.mapAuthorDtoToAuthor(authorDto);
+    }
+
+    @Benchmark
+    public BookDto bookToDtoModelMapper() {
+        return modelMapper.map(book, BookDto.class);
+    }
+
+    @Benchmark
+    public BookDto bookToDtoDirect() {
+        return toDtoMapper.mapBookToBookDto(book);
+    }
+
+    @Benchmark
+    public Book dtoToBookModelMapper() {
+        return modelMapper.map(bookDto, Book.class);
+    }
+
+    @Benchmark
+    public Book dtoToBookDirect() {
+        return toModelMapper.mapBookDtoToBook(bookDto);
+    }
+
+    @Benchmark
+    public AuthorDto authorToDtoModelMapper() {
+        return modelMapper.map(author, AuthorDto.class);
+    }
+
+    @Benchmark
+    public AuthorDto authorToDtoDirect() {
+        return toDtoMapper.mapAuthorToAuthorDto(author);
+    }
+
+    @Benchmark
+    public Author dtoToAuthorModelMapper() {
+        return modelMapper.map(authorDto, Author.class);
+    }
+
+    @Benchmark
+    public Author dtoToAuthorDirect() {
+        return toModelMapper.mapAuthorDtoToAuthor(authorDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
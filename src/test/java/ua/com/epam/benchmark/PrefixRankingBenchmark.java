@@ -0,0 +1,125 @@
+package ua.com.epam.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.com.epam.entity.Book;
+import ua.com.epam.search.PrefixRanking;
+import ua.com.epam.search.SearchHit;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Ranking of book search candidates: {@link PrefixRanking} against the former
+ * prefix-by-prefix loop of {@code BookService.searchForExistedBooks}, which filtered,
+ * sorted and {@code removeAll}-ed the entity list once per query word.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/test-classes:target/classes:<test classpath> ua.com.epam.benchmark.PrefixRankingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefixRankingBenchmark {
+    private static final String[] WORDS = {"quia", "dolore", "velit", "atque", "rerum", "tempore", "eaque",
+            "fuga", "ipsum", "animi", "nihil", "autem", "omnis", "sequi", "dolorem", "laudantium"};
+    private static final String QUERY = "quia dolore velit";
+
+    @State(Scope.Benchmark)
+    public static class Candidates {
+        @Param({"1000", "10000", "100000"})
+        int count;
+
+        List<String> words;
+        List<SearchHit> hits;
+
+        @Setup
+        public void setUp() {
+            words = Arrays.asList(QUERY.split(" "));
+            hits = IntStream.range(0, count)
+                    .mapToObj(i -> new SearchHit(i, new String[]{bookName(new Random(i))}))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyCandidates {
+        @Param({"1000", "10000", "100000"})
+        int count;
+
+        List<String> words;
+        List<Book> books;
+
+        @Setup
+        public void setUp() {
+            words = Arrays.asList(QUERY.split(" "));
+            books = IntStream.range(0, count)
+                    .mapToObj(i -> {
+                        Book book = new Book();
+                        book.setBookId((long) i);
+                        book.setBookName(bookName(new Random(i)));
+                        book.setBookLang("english");
+                        return book;
+                    })
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String bookName(Random random) {
+        // the query words are everywhere in the names, but few names start with them
+        int r = random.nextInt(1000);
+        int fromQuery = r < 2 ? 3 : r < 5 ? 2 : r < 20 ? 1 : 0;
+        List<String> name = new ArrayList<>(Arrays.asList(QUERY.split(" ")).subList(0, fromQuery));
+        for (int i = 2 + random.nextInt(3); i > 0; i--) {
+            name.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        String joined = String.join(" ", name);
+        return joined.substring(0, 1).toUpperCase() + joined.substring(1);
+    }
+
+    @Benchmark
+    public List<SearchHit> prefixRanking(Candidates candidates) {
+        return new PrefixRanking(candidates.words, 5).top(candidates.hits);
+    }
+
+    @Benchmark
+    public List<Book> legacyRanking(LegacyCandidates candidates) {
+        List<String> splitQuery = candidates.words;
+        List<Book> searched = new ArrayList<>(candidates.books);
+        List<Book> result = new ArrayList<>();
+
+        for (int i = splitQuery.size(); i > 0; i--) {
+            String partial = splitQuery.stream()
+                    .limit(i)
+                    .collect(Collectors.joining(" "));
+
+            List<Book> filtered = searched.stream()
+                    .filter(b -> b.getBookName().toLowerCase().startsWith(partial.toLowerCase()))
+                    .sorted(Comparator.comparing(Book::getBookName)).collect(Collectors.toList());
+
+            result.addAll(filtered);
+
+            if (result.size() >= 5) {
+                return result.subList(0, 5);
+            }
+
+            searched.removeAll(filtered);
+        }
+
+        result.addAll(searched);
+        return result.stream().limit(5).collect(Collectors.toList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrefixRankingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,48 @@
+package ua.com.epam.tests.ingestion;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.ingestion.IdAllocator;
+import ua.com.epam.ingestion.IdRange;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdAllocatorTest {
+
+    @Test
+    void givenWholeRange_whenIdAt_thenEveryIdIsHandedOutOnce() {
+        IdRange range = new IdRange(100, 100 + 70_000);
+        IdAllocator allocator = new IdAllocator(range, 42L);
+        BitSet seen = new BitSet();
+
+        for (long i = 0; i < range.size(); i++) {
+            long id = allocator.idAt(i);
+            assertTrue(id >= range.getMin() && id <= range.getMax(), "ID out of range: " + id);
+            int offset = (int) (id - range.getMin());
+            assertFalse(seen.get(offset), "ID handed out twice: " + id);
+            seen.set(offset);
+        }
+    }
+
+    @Test
+    void givenSameKey_whenIdAt_thenSequenceIsRepeated() {
+        IdAllocator first = new IdAllocator(new IdRange(1, 9998), 7L);
+        IdAllocator second = new IdAllocator(new IdRange(1, 9998), 7L);
+        IdAllocator other = new IdAllocator(new IdRange(1, 9998), 8L);
+
+        boolean differs = false;
+        for (long i = 0; i < 100; i++) {
+            assertEquals(first.idAt(i), second.idAt(i));
+            differs |= first.idAt(i) != other.idAt(i);
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void givenIndexOutsideRange_whenIdAt_thenExceptionIsThrown() {
+        IdAllocator allocator = new IdAllocator(new IdRange(1, 10), 1L);
+        assertThrows(IndexOutOfBoundsException.class, () -> allocator.idAt(10));
+        assertThrows(IllegalArgumentException.class, () -> IdRange.parse("10"));
+    }
+}
@@ -0,0 +1,40 @@
+package ua.com.epam.tests.ingestion;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.ingestion.IngestionConfig;
+import ua.com.epam.ingestion.SeedGenerator;
+import ua.com.epam.ingestion.SqlScriptSink;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeedGeneratorTest {
+
+    private static String script(long seed, int threads) throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(IngestionConfig.SEED, String.valueOf(seed));
+        properties.put(IngestionConfig.THREADS, String.valueOf(threads));
+        properties.put(IngestionConfig.AUTHORS_COUNT, "300");
+        properties.put(IngestionConfig.GENRES_COUNT, "40");
+        // more than one chunk of rows, so the chunks are built on several threads
+        properties.put(IngestionConfig.BOOKS_COUNT, "5000");
+
+        StringWriter out = new StringWriter();
+        try (SqlScriptSink sink = new SqlScriptSink(out, 500)) {
+            new SeedGenerator(IngestionConfig.from(properties::get)).generate(sink);
+        }
+        return out.toString();
+    }
+
+    @Test
+    void givenSameSeed_whenGeneratedOnOneAndManyThreads_thenScriptsAreEqual() throws IOException {
+        String sequential = script(42L, 1);
+
+        assertEquals(sequential, script(42L, 4));
+        assertNotEquals(sequential, script(43L, 4));
+    }
+}
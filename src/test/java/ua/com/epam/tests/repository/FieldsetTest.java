@@ -0,0 +1,67 @@
+package ua.com.epam.tests.repository;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.exception.entity.NoSuchJsonKeyException;
+import ua.com.epam.repository.JsonKeysConformity;
+import ua.com.epam.repository.projection.AuthorRow;
+import ua.com.epam.repository.projection.BookRow;
+import ua.com.epam.repository.projection.Fieldset;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FieldsetTest {
+
+    @Test
+    public void noFieldsMeansWholeObjects() {
+        Fieldset books = Fieldset.parse(null, JsonKeysConformity.Group.BOOK);
+        Fieldset authors = Fieldset.parse(" ", JsonKeysConformity.Group.AUTHOR);
+
+        assertTrue(books.isWhole());
+        assertEquals(BookRow.class, books.getRowClass());
+        assertEquals(BookRow.SELECT, books.selection("bookId", "volume"));
+        assertEquals(AuthorRow.class, authors.getRowClass());
+        assertEquals(AuthorRow.SELECT, authors.selection("authorId"));
+
+        List<BookRow> rows = Collections.singletonList(new BookRow(7L, "Name", "english", null, 100, 1.0, 2.0,
+                3.0, 6.0, 6.0, 1995));
+        assertSame(rows, books.toJson(rows));
+    }
+
+    @Test
+    public void selectsRequestedAndOrderingPropertiesOnce() {
+        Fieldset fields = Fieldset.parse("bookName, bookId", JsonKeysConformity.Group.BOOK);
+
+        assertFalse(fields.isWhole());
+        assertEquals(Map.class, fields.getRowClass());
+
+        assertEquals("new map(t.bookName AS bookName, t.bookId AS bookId, t.volume AS volume)",
+                fields.selection("bookId", "volume"));
+    }
+
+    @Test
+    public void nestsKeysLikeTheFullObject() {
+        Fieldset fields = Fieldset.parse("bookId,additional.size", JsonKeysConformity.Group.BOOK);
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("bookId", 7L);
+        row.put("bookHeight", 1.0);
+        row.put("bookWidth", 2.0);
+        row.put("bookLength", null);
+        row.put("volume", 3.0);
+
+        assertEquals("{bookId=7, additional={size={height=1.0, width=2.0, length=null}}}",
+                fields.toJson(row).toString());
+    }
+
+    @Test
+    public void rejectsKeysOfOtherGroups() {
+        NoSuchJsonKeyException e = assertThrows(NoSuchJsonKeyException.class,
+                () -> Fieldset.parse("bookId,authorId", JsonKeysConformity.Group.BOOK));
+        assertEquals("authorId", e.getPropName());
+    }
+}
@@ -0,0 +1,125 @@
+package ua.com.epam.tests.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import ua.com.epam.entity.Genre;
+import ua.com.epam.exception.entity.type.InvalidCursorException;
+import ua.com.epam.repository.Keyset;
+import ua.com.epam.repository.SeekFor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class SeekForTest {
+
+    @Mock
+    private EntityManager entityManagerMock;
+    @Mock
+    private Metamodel metamodelMock;
+    @Mock
+    private EntityType<Genre> genreTypeMock;
+    @Mock
+    private Attribute<Genre, String> stringAttributeMock;
+
+    @InjectMocks
+    private SeekFor seekFor;
+
+    // Drama and Epic have no description, the lowest sort value
+    private final List<Genre> byDescription = Arrays.asList(
+            genre(1, "Drama", null), genre(4, "Epic", null), genre(2, "Comedy", "a"), genre(3, "Poetry", "b"));
+
+    @BeforeEach
+    void setUp() {
+        // cursor values are parsed by the type of the sort property, all of them are strings here
+        lenient().doReturn(metamodelMock).when(entityManagerMock).getMetamodel();
+        lenient().doReturn(genreTypeMock).when(metamodelMock).entity(Genre.class);
+        lenient().doReturn(stringAttributeMock).when(genreTypeMock).getAttribute(anyString());
+        lenient().doReturn(String.class).when(stringAttributeMock).getJavaType();
+    }
+
+    private static Genre genre(long genreId, String name, String description) {
+        Genre genre = new Genre();
+        genre.setGenreId(genreId);
+        genre.setGenreName(name);
+        genre.setDescription(description);
+        return genre;
+    }
+
+    private static List<Long> ids(List<Genre> genres) {
+        return genres.stream().map(Genre::getGenreId).collect(Collectors.toList());
+    }
+
+    private static Keyset<Genre> keyset(String property, Sort.Direction direction) {
+        return new Keyset<>(Genre.class, "genreId", property, direction);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenFullPage_whenCursorDecoded_thenNextPageStartsAfterItsLastRow() {
+        Keyset<Genre> keyset = keyset("description", Sort.Direction.ASC);
+
+        String cursor = seekFor.nextCursor(keyset, byDescription.subList(0, 3), 3);
+
+        assertEquals(Arrays.asList(3L), ids(seekFor.pageAfter(keyset, cursor, 3, byDescription)));
+    }
+
+    @Test
+    void givenLastRowWithNullSortValue_whenCursorDecoded_thenNextPageKeepsTheNullRowsOrder() {
+        Keyset<Genre> keyset = keyset("description", Sort.Direction.ASC);
+
+        String cursor = seekFor.nextCursor(keyset, byDescription.subList(0, 1), 1);
+
+        assertEquals(Arrays.asList(4L, 2L), ids(seekFor.pageAfter(keyset, cursor, 2, byDescription)));
+    }
+
+    @Test
+    void givenLastPage_whenShorterThanSize_thenNoNextCursor() {
+        Keyset<Genre> keyset = keyset("description", Sort.Direction.ASC);
+
+        assertNull(seekFor.nextCursor(keyset, byDescription.subList(2, 4), 3));
+        assertNotNull(seekFor.nextCursor(keyset, byDescription.subList(1, 4), 3));
+    }
+
+    @Test
+    void givenMalformedCursor_whenDecoded_thenInvalidCursor() {
+        Keyset<Genre> keyset = keyset("genreName", Sort.Direction.ASC);
+
+        InvalidCursorException notBase64 = assertThrows(InvalidCursorException.class,
+                () -> seekFor.pageAfter(keyset, "%%%", 3, byDescription));
+        assertEquals("%%%", notBase64.getCursor());
+        assertThrows(InvalidCursorException.class,
+                () -> seekFor.pageAfter(keyset, token("A|genreName"), 3, byDescription));
+        assertThrows(InvalidCursorException.class,
+                () -> seekFor.pageAfter(keyset, token("A|genreName|one|VDrama"), 3, byDescription));
+    }
+
+    @Test
+    void givenCursorOfOtherOrdering_whenDecoded_thenInvalidCursor() {
+        String byName = seekFor.nextCursor(keyset("genreName", Sort.Direction.ASC), byDescription.subList(0, 1), 1);
+
+        assertThrows(InvalidCursorException.class,
+                () -> seekFor.pageAfter(keyset("description", Sort.Direction.ASC), byName, 3, byDescription));
+        assertThrows(InvalidCursorException.class,
+                () -> seekFor.pageAfter(keyset("genreName", Sort.Direction.DESC), byName, 3, byDescription));
+    }
+}
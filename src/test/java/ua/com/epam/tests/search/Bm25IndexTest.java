@@ -0,0 +1,112 @@
+package ua.com.epam.tests.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.com.epam.search.Bm25Index;
+import ua.com.epam.search.Bm25Store;
+import ua.com.epam.search.SearchHit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Bm25IndexTest {
+
+    private static List<Long> keys(List<? extends SearchHit> hits) {
+        return hits.stream().map(SearchHit::getKey).collect(Collectors.toList());
+    }
+
+    private static Bm25Index sample() {
+        Bm25Index index = new Bm25Index();
+        index.load(1L, new String[]{"Dune"}, "A desert planet, spice and a desert war.");
+        index.load(2L, new String[]{"Solaris"}, "A living ocean on a distant planet.");
+        index.load(3L, new String[]{"Moby Dick"}, "A whale hunt across the ocean, told by Ishmael over many long chapters at sea.");
+        index.load(4L, new String[]{"Emma"}, "Matchmaking in a quiet English village.");
+        return index;
+    }
+
+    @Test
+    void givenLoadedIndex_whenTop_thenRareAndRepeatedTermsRankFirst() {
+        Bm25Index index = sample();
+        index.loaded();
+
+        assertEquals(Arrays.asList(1L, 2L), keys(index.top("DESERT planet", 10)));
+        // the shorter description wins for a term occurring once in both
+        assertEquals(Arrays.asList(2L, 3L), keys(index.top("ocean", 10)));
+        assertEquals(Collections.singletonList(2L), keys(index.top("ocean planet", 1)));
+        assertTrue(index.top("dragons", 10).isEmpty());
+    }
+
+    @Test
+    void givenSegment_whenReadIntoNewIndex_thenSameHitsAndWritesMadeMeanwhileWin() throws IOException {
+        Bm25Index index = sample();
+        index.loaded();
+        index.remove(4L);
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        index.writeSegment(segment, "stamp");
+
+        Bm25Index read = new Bm25Index();
+        read.put(2L, new String[]{"Solaris"}, "A novel about contact.");
+        assertFalse(read.readSegment(new ByteArrayInputStream(segment.toByteArray()), "other stamp"));
+        assertTrue(read.readSegment(new ByteArrayInputStream(segment.toByteArray()), "stamp"));
+        read.loaded();
+
+        assertEquals(3, read.size());
+        assertEquals(Collections.singletonList(3L), keys(read.top("ocean", 10)));
+        assertEquals(Collections.singletonList(2L), keys(read.top("contact", 10)));
+        assertTrue(read.top("village", 10).isEmpty());
+
+        Bm25Index clean = new Bm25Index();
+        clean.readSegment(new ByteArrayInputStream(segment.toByteArray()), "stamp");
+        clean.loaded();
+        assertEquals(index.top("desert whale", 10).get(0).getScore(), clean.top("desert whale", 10).get(0).getScore(), 1e-9);
+
+        byte[] corrupted = segment.toByteArray();
+        corrupted[corrupted.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> new Bm25Index().readSegment(new ByteArrayInputStream(corrupted), "stamp"));
+    }
+
+    @Test
+    void givenStoreWithLog_whenReopened_thenSegmentAndCompleteLogRecordsAreLoaded(@TempDir Path dir) throws IOException {
+        try (Bm25Store store = new Bm25Store(dir, "books", "stamp", 100)) {
+            assertFalse(store.loadFromDisk());
+            store.load(1L, new String[]{"Dune"}, "Desert planet");
+            store.load(2L, new String[]{"Solaris"}, "Ocean planet");
+            store.loaded();
+            store.persist();
+
+            store.put(3L, new String[]{"Moby Dick"}, "Whale and ocean");
+            store.remove(1L);
+        }
+        // a record torn by a crash
+        Files.write(dir.resolve("books.log"), new byte[]{1, 0, 0}, StandardOpenOption.APPEND);
+
+        try (Bm25Store store = new Bm25Store(dir, "books", "stamp", 100)) {
+            assertTrue(store.loadFromDisk());
+            store.loaded();
+
+            assertEquals(2, store.size());
+            assertEquals(Arrays.asList(3L, 2L), keys(store.top("whale ocean desert", 10)));
+            store.put(4L, new String[]{"Emma"}, "Village");
+        }
+
+        try (Bm25Store store = new Bm25Store(dir, "books", "stamp", 100)) {
+            assertTrue(store.loadFromDisk());
+            store.loaded();
+            assertEquals(Collections.singletonList(4L), keys(store.top("village", 10)));
+        }
+
+        try (Bm25Store store = new Bm25Store(dir, "books", "new stamp", 100)) {
+            assertFalse(store.loadFromDisk());
+        }
+    }
+}
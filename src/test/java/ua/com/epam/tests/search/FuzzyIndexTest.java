@@ -0,0 +1,70 @@
+package ua.com.epam.tests.search;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.search.FuzzyIndex;
+import ua.com.epam.search.SearchHit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuzzyIndexTest {
+
+    private static List<Long> keys(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void givenLoadedIndex_whenSimilarTo_thenMisspelledWordsMatchClosestFirst() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.load(1L, "Mary", "Shelley");
+        index.load(2L, "Percy", "Shelley");
+        index.load(3L, "Mary", "Shelly");
+        index.load(4L, "Harry", "Potter");
+        index.loaded();
+
+        assertEquals(Arrays.asList(3L, 1L), keys(index.similarTo("Mery shelly", 10)));
+        assertEquals(Arrays.asList(1L, 3L, 2L), keys(index.similarTo("SHELEY", 10)));
+        assertEquals(Collections.singletonList(2L), keys(index.similarTo("shelley percu", 10)));
+        assertEquals(Collections.singletonList(1L), keys(index.similarTo("shelley", 1)));
+        assertTrue(index.similarTo("shakespeare", 10).isEmpty());
+    }
+
+    @Test
+    void givenPutAndRemove_whenSimilarTo_thenOnlyLatestTextsMatch() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put(1L, "Science fiction");
+        index.load(1L, "Romance");
+        index.loaded();
+
+        assertTrue(index.similarTo("romanse", 10).isEmpty());
+        assertEquals(Collections.singletonList(1L), keys(index.similarTo("sciense", 10)));
+
+        index.put(1L, "Fantasy");
+        assertTrue(index.similarTo("sciense", 10).isEmpty());
+        assertEquals(Collections.singletonList(1L), keys(index.similarTo("fantazy", 10)));
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertTrue(index.similarTo("fantasy", 10).isEmpty());
+    }
+
+    @Test
+    void givenManyRemovedWords_whenSimilarTo_thenRebuiltTreeStillMatches() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.loaded();
+        for (long i = 0; i < 3000; i++) {
+            index.put(i, "word" + i, "common");
+        }
+        for (long i = 0; i < 2990; i++) {
+            index.remove(i);
+        }
+
+        assertEquals(Collections.singletonList(2995L), keys(index.similarTo("wrod2995", 10)));
+        assertEquals(Arrays.asList(2990L, 2991L), keys(index.similarTo("word299", 2)));
+        assertEquals(10, index.similarTo("comon", 100).size());
+    }
+}
@@ -0,0 +1,39 @@
+package ua.com.epam.tests.search;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.search.PrefixRanking;
+import ua.com.epam.search.SearchHit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixRankingTest {
+    private static final List<SearchHit> HITS = Arrays.asList(
+            new SearchHit(1L, new String[]{"Tales of the Jazz Age"}),
+            new SearchHit(2L, new String[]{"Jazz Age Stories"}),
+            new SearchHit(3L, new String[]{"jazz age"}),
+            new SearchHit(4L, new String[]{"Jazzmen"}),
+            new SearchHit(5L, new String[]{"Age of Jazz"}));
+
+    private static List<Long> keys(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void givenHits_whenTop_thenMostLeadingWordsFirstAndTheRestInFoundOrder() {
+        List<String> words = Arrays.asList("Jazz", "Age");
+
+        assertEquals(Arrays.asList(2L, 3L, 4L, 1L, 5L), keys(new PrefixRanking(words, 5).top(HITS)));
+        assertEquals(Arrays.asList(2L, 3L), keys(new PrefixRanking(words, 2).top(HITS)));
+    }
+
+    @Test
+    void givenLimitFarOverHitCount_whenTop_thenAllHitsWithoutSizingForLimit() {
+        List<SearchHit> top = new PrefixRanking(Arrays.asList("Jazz", "Age"), Integer.MAX_VALUE).top(HITS);
+
+        assertEquals(Arrays.asList(2L, 3L, 4L, 1L, 5L), keys(top));
+    }
+}
@@ -0,0 +1,67 @@
+package ua.com.epam.tests.search;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.search.RadixTrie;
+import ua.com.epam.search.SearchHit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RadixTrieTest {
+
+    private static List<Long> keys(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void givenLoadedTrie_whenComplete_thenNamesStartingWithPrefixInAlphabeticalOrder() {
+        RadixTrie trie = new RadixTrie(false);
+        trie.load(1L, "The Time Machine");
+        trie.load(2L, "The Hobbit");
+        trie.load(3L, "Thinking, Fast and Slow");
+        trie.load(4L, "The");
+        trie.loaded();
+
+        assertEquals(Arrays.asList(4L, 2L, 1L, 3L), keys(trie.complete("TH", 10)));
+        assertEquals(Arrays.asList(4L, 2L), keys(trie.complete("the", 2)));
+        assertEquals(Collections.singletonList(1L), keys(trie.complete("the time", 10)));
+        assertTrue(trie.complete("the times", 10).isEmpty());
+        assertTrue(trie.complete("machine", 10).isEmpty());
+    }
+
+    @Test
+    void givenEveryWordTrie_whenComplete_thenAnyWordCompletesOnce() {
+        RadixTrie trie = new RadixTrie(true);
+        trie.load(7L, "Mary", "Shelley");
+        trie.load(8L, "Percy", "Shelley");
+        trie.load(9L, "Shel", "Silverstein");
+        trie.loaded();
+
+        assertEquals(Arrays.asList(9L, 7L, 8L), keys(trie.complete("shel", 10)));
+        assertEquals(Collections.singletonList(7L), keys(trie.complete("mary sh", 10)));
+        assertEquals(Collections.singletonList(9L), keys(trie.complete("s", 1)));
+    }
+
+    @Test
+    void givenPutAndRemove_whenComplete_thenOnlyLatestNamesComplete() {
+        RadixTrie trie = new RadixTrie(true);
+        trie.put(1L, "Mary", "Shelley");
+        trie.load(1L, "Stale", "Name");
+        trie.load(2L, "Percy", "Shelley");
+        trie.loaded();
+
+        trie.put(1L, "Mary", "Wollstonecraft");
+        assertEquals(Collections.singletonList(2L), keys(trie.complete("shel", 10)));
+        assertEquals(Collections.singletonList(1L), keys(trie.complete("woll", 10)));
+        assertTrue(trie.complete("stale", 10).isEmpty());
+
+        trie.remove(2L);
+        trie.remove(1L);
+        assertEquals(0, trie.size());
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+}
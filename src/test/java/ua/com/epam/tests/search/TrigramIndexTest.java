@@ -0,0 +1,63 @@
+package ua.com.epam.tests.search;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.search.SearchHit;
+import ua.com.epam.search.TrigramIndex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramIndexTest {
+
+    private static List<Long> keys(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void givenLoadedIndex_whenContainingAny_thenSubstringsMatchIgnoringCase() {
+        TrigramIndex index = new TrigramIndex();
+        index.load(1L, "Science fiction");
+        index.load(2L, "Fantasy");
+        index.load(3L, "Historical Fiction");
+        index.loaded();
+
+        assertEquals(Arrays.asList(1L, 3L), keys(index.containingAny(Collections.singletonList("FICT"))));
+        assertEquals(Arrays.asList(1L, 2L), keys(index.containingAny(Arrays.asList("fan", "sci"))));
+        assertEquals(Arrays.asList(2L, 3L), keys(index.containingAny(Collections.singletonList("a"))));
+        assertTrue(index.containingAny(Collections.singletonList("fiction fantasy")).isEmpty());
+    }
+
+    @Test
+    void givenPutAndRemove_whenContainingAny_thenOnlyLatestTextsMatch() {
+        TrigramIndex index = new TrigramIndex();
+        index.loaded();
+        index.put(7L, "Mary", "Shelley");
+        index.put(7L, "Mary", "Wollstonecraft");
+        index.put(8L, "Percy", "Shelley");
+        index.remove(8L);
+
+        assertTrue(index.containingAny(Collections.singletonList("shelley")).isEmpty());
+        List<SearchHit> hits = index.containingAny(Collections.singletonList("mary woll"));
+        assertEquals(Collections.singletonList(7L), keys(hits));
+        assertEquals("Mary Wollstonecraft", hits.get(0).getText());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void givenWritesWhileLoading_whenLoad_thenWritesWin() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, "Updated name");
+        index.remove(2L);
+        index.load(1L, "Stale name");
+        index.load(2L, "Deleted name");
+        index.load(3L, "Loaded name");
+        index.loaded();
+
+        assertEquals(Arrays.asList(1L, 3L), keys(index.containingAny(Collections.singletonList("name"))));
+        assertTrue(index.containingAny(Collections.singletonList("stale")).isEmpty());
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 // import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ua.com.epam.entity.Author;
@@ -14,8 +15,10 @@ import ua.com.epam.entity.dto.author.AuthorDto;
 import ua.com.epam.repository.AuthorRepository;
 import ua.com.epam.repository.JsonKeysConformity;
 import ua.com.epam.service.AuthorService;
+import ua.com.epam.service.cache.EntityCache;
 import ua.com.epam.service.mapper.ModelToDtoMapper;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -34,6 +37,9 @@ public class AuthorServiceTest {
     private AuthorRepository authorRepositoryMock;
     @Mock
     private ModelToDtoMapper toDtoMapperMock;
+    // настоящий кэш, пустой перед каждым тестом: первое чтение идет в репозиторий
+    @Spy
+    private EntityCache entityCache = new EntityCache(100, Duration.ofMinutes(10));
 
     // просьба к Мокито: в классе AuthorService найти все поля,
     // в которые должны были производиться внедрения зависимостей (@Autowired)
@@ -0,0 +1,162 @@
+package ua.com.epam.tests.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import ua.com.epam.controller.BookController;
+import ua.com.epam.entity.Book;
+import ua.com.epam.entity.dto.batch.BatchItemStatusDto;
+import ua.com.epam.entity.dto.book.BookBatchItemDto;
+import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.entity.dto.book.nested.AdditionalDto;
+import ua.com.epam.entity.dto.book.nested.SizeDto;
+import ua.com.epam.exception.entity.type.BatchIsTooLargeException;
+import ua.com.epam.repository.AuthorRepository;
+import ua.com.epam.repository.BatchInsert;
+import ua.com.epam.repository.BookRepository;
+import ua.com.epam.search.Bm25Store;
+import ua.com.epam.search.DescriptionIndex;
+import ua.com.epam.search.SearchIndex;
+import ua.com.epam.service.BookService;
+import ua.com.epam.service.cache.EntityIds;
+import ua.com.epam.service.cache.EntityType;
+import ua.com.epam.service.cache.EntityVersions;
+import ua.com.epam.service.cache.GenreCatalog;
+import ua.com.epam.service.mapper.DtoToModelMapper;
+
+import javax.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookServiceBatchTest {
+    private static final long AUTHOR_ID = 1L;
+    private static final long GENRE_ID = 10L;
+    private static final long EXISTING_BOOK_ID = 7L;
+
+    @Mock
+    private BookRepository bookRepositoryMock;
+    @Mock
+    private AuthorRepository authorRepositoryMock;
+    @Mock
+    private GenreCatalog genreCatalogMock;
+    @Mock
+    private BatchInsert batchInsertMock;
+    @Mock
+    private EntityVersions entityVersionsMock;
+    @Mock
+    private DescriptionIndex descriptionIndexMock;
+    @Mock
+    private Bm25Store bookDescriptionsMock;
+    // not loaded yet, so the IDs are checked in the repositories as right after start-up
+    @Spy
+    private EntityIds entityIds = new EntityIds();
+    @Spy
+    private SearchIndex searchIndex = new SearchIndex();
+    @Spy
+    private DtoToModelMapper toModelMapper = new DtoToModelMapper();
+
+    @InjectMocks
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private void givenOneAuthorGenreAndBook() {
+        given(authorRepositoryMock.existsByAuthorId(anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0).equals(AUTHOR_ID));
+        given(genreCatalogMock.contains(anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0).equals(GENRE_ID));
+        given(bookRepositoryMock.existsByBookId(anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0).equals(EXISTING_BOOK_ID));
+        given(descriptionIndexMock.books()).willReturn(bookDescriptionsMock);
+    }
+
+    private static BookBatchItemDto item(long authorId, long genreId, long bookId, String bookName) {
+        BookDto book = new BookDto();
+        book.setBookId(bookId);
+        book.setBookName(bookName);
+        book.setBookLanguage("english");
+        book.setAdditional(new AdditionalDto(100, new SizeDto(20.0, 15.0, 3.0)));
+        return new BookBatchItemDto(authorId, genreId, book);
+    }
+
+    private static BookBatchItemDto withAdditional(BookBatchItemDto item, AdditionalDto additional) {
+        item.getBook().setAdditional(additional);
+        return item;
+    }
+
+    private static List<Integer> statusCodes(List<BatchItemStatusDto> statuses) {
+        return statuses.stream().map(BatchItemStatusDto::getStatusCode).collect(Collectors.toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenMixedBatch_whenAddNewBooks_thenStatusOfEveryItemInItsOrder() {
+        givenOneAuthorGenreAndBook();
+        List<BookBatchItemDto> batch = Arrays.asList(
+                item(AUTHOR_ID, GENRE_ID, 100L, "Created"),
+                item(AUTHOR_ID, GENRE_ID, 101L, " "),
+                item(404L, GENRE_ID, 102L, "No such author"),
+                item(AUTHOR_ID, 99L, 103L, "No such genre"),
+                item(AUTHOR_ID, GENRE_ID, EXISTING_BOOK_ID, "Already stored"),
+                item(AUTHOR_ID, GENRE_ID, 100L, "Same id earlier in the batch"),
+                null,
+                withAdditional(item(AUTHOR_ID, GENRE_ID, 104L, "No additional"), null),
+                withAdditional(item(AUTHOR_ID, GENRE_ID, 105L, "No size"), new AdditionalDto(100, null)));
+
+        List<BatchItemStatusDto> statuses = bookService.addNewBooks(batch);
+
+        assertEquals(Arrays.asList(201, 400, 404, 404, 409, 409, 400, 400, 400), statusCodes(statuses));
+        assertEquals(Arrays.asList(100L, 101L, 102L, 103L, EXISTING_BOOK_ID, 100L, null, 104L, 105L),
+                statuses.stream().map(BatchItemStatusDto::getId).collect(Collectors.toList()));
+        assertEquals("Value 'bookName' is required!", statuses.get(1).getErrorMessage());
+        assertEquals("Value 'additional' is required!", statuses.get(7).getErrorMessage());
+        assertEquals("Value 'size' is required!", statuses.get(8).getErrorMessage());
+
+        ArgumentCaptor<List<Book>> written = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertMock).persistAll(written.capture());
+        assertEquals(1, written.getValue().size());
+        assertEquals(AUTHOR_ID, written.getValue().get(0).getAuthorId());
+        assertEquals(GENRE_ID, written.getValue().get(0).getGenreId());
+        verify(entityIds).add(EntityType.BOOK, 100L);
+        verify(entityVersionsMock).bump(EntityType.BOOK);
+        // every author is looked up once per batch
+        verify(authorRepositoryMock, times(1)).existsByAuthorId(AUTHOR_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenBatchOverMaxSize_whenPosted_thenRejectedBeforeAnyItemIsChecked() {
+        givenOneAuthorGenreAndBook();
+        BookController bookController = new BookController();
+        ReflectionTestUtils.setField(bookController, "bookService", bookService);
+        ReflectionTestUtils.setField(bookController, "maxBatchSize", 2);
+
+        assertThrows(BatchIsTooLargeException.class, () -> bookController.addNewBooks(Arrays.asList(
+                item(AUTHOR_ID, GENRE_ID, 100L, "One"),
+                item(AUTHOR_ID, GENRE_ID, 101L, "Two"),
+                item(AUTHOR_ID, GENRE_ID, 102L, "Three"))));
+        verifyNoInteractions(batchInsertMock, authorRepositoryMock, bookRepositoryMock);
+
+        Object response = bookController.addNewBooks(Arrays.asList(
+                item(AUTHOR_ID, GENRE_ID, 100L, "One"),
+                item(AUTHOR_ID, GENRE_ID, 101L, "Two"))).getBody();
+        assertEquals(Arrays.asList(201, 201), statusCodes((List<BatchItemStatusDto>) response));
+    }
+}
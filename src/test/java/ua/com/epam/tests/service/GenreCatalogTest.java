@@ -0,0 +1,90 @@
+package ua.com.epam.tests.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import ua.com.epam.entity.Genre;
+import ua.com.epam.entity.dto.genre.GenreDto;
+import ua.com.epam.repository.GenreRepository;
+import ua.com.epam.repository.Keyset;
+import ua.com.epam.service.cache.GenreCatalog;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class GenreCatalogTest {
+
+    @Mock
+    private GenreRepository genreRepositoryMock;
+    @Mock
+    private ModelToDtoMapper toDtoMapperMock;
+
+    @InjectMocks
+    private GenreCatalog genreCatalog;
+
+    private static Genre genre(long genreId, String name, String description) {
+        Genre genre = new Genre();
+        genre.setGenreId(genreId);
+        genre.setGenreName(name);
+        genre.setDescription(description);
+        return genre;
+    }
+
+    private static List<Long> ids(List<Genre> genres) {
+        return genres.stream().map(Genre::getGenreId).collect(Collectors.toList());
+    }
+
+    private static Keyset<Genre> keyset(String property, Sort.Direction direction) {
+        return new Keyset<>(Genre.class, "genreId", property, direction);
+    }
+
+    private void givenGenres(Genre... genres) {
+        given(genreRepositoryMock.findAll()).willReturn(Arrays.asList(genres));
+        given(toDtoMapperMock.mapGenreToGenreDto(any(Genre.class)))
+                .willAnswer(call -> {
+                    Genre g = call.getArgument(0);
+                    return new GenreDto(g.getGenreId(), g.getGenreName(), g.getDescription());
+                });
+    }
+
+    @Test
+    void givenGenres_whenOrdered_thenSortedByKeyThenIdWithNullsLowest() {
+        givenGenres(genre(3, "Poetry", "b"), genre(1, "Drama", null), genre(2, "Comedy", "b"), genre(4, "Epic", "a"));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), ids(genreCatalog.ordered(keyset("genreId", Sort.Direction.ASC))));
+        assertEquals(Arrays.asList(2L, 1L, 4L, 3L), ids(genreCatalog.ordered(keyset("genreName", Sort.Direction.ASC))));
+        assertEquals(Arrays.asList(1L, 4L, 2L, 3L), ids(genreCatalog.ordered(keyset("description", Sort.Direction.ASC))));
+        assertEquals(Arrays.asList(3L, 2L, 4L, 1L), ids(genreCatalog.ordered(keyset("description", Sort.Direction.DESC))));
+        verify(genreRepositoryMock, times(1)).findAll();
+    }
+
+    @Test
+    void givenSnapshotInUse_whenGenresChange_thenItStaysAsItWas() {
+        givenGenres(genre(1, "Drama", "x"), genre(2, "Comedy", "y"));
+        List<Genre> before = genreCatalog.ordered(keyset("genreName", Sort.Direction.ASC));
+
+        genreCatalog.put(genre(3, "Action", "z"));
+        genreCatalog.put(genre(1, "Tragedy", "x"));
+        genreCatalog.remove(2);
+
+        assertEquals(Arrays.asList(2L, 1L), ids(before));
+        assertEquals(Arrays.asList(3L, 1L), ids(genreCatalog.ordered(keyset("genreName", Sort.Direction.ASC))));
+        assertEquals("Tragedy", genreCatalog.find(1).get().getGenreName());
+        assertTrue(genreCatalog.containsName("Action"));
+        assertFalse(genreCatalog.containsName("Drama"));
+        assertFalse(genreCatalog.contains(2));
+        assertThrows(UnsupportedOperationException.class, () -> before.remove(0));
+    }
+}
@@ -0,0 +1,52 @@
+package ua.com.epam.tests.service;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.service.cache.LongHashSet;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongHashSetTest {
+
+    @Test
+    void givenZeroAndNegativeIds_whenAddedAndRemoved_thenTrackedLikeOthers() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(0));
+        assertTrue(set.add(-5));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-5));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void givenRandomAddsAndRemoves_whenChecked_thenSameAsHashSet() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        // a narrow range keeps probe sequences long and makes removals shift entries back
+        for (int i = 0; i < 200_000; i++) {
+            long id = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), set.remove(id));
+            } else {
+                assertEquals(expected.add(id), set.add(id));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long id = -10; id < 5010; id++) {
+            assertEquals(expected.contains(id), set.contains(id), "id " + id);
+        }
+    }
+}
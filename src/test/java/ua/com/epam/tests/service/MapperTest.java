@@ -0,0 +1,91 @@
+package ua.com.epam.tests.service;
+
+import org.junit.jupiter.api.Test;
+import ua.com.epam.entity.Author;
+import ua.com.epam.entity.Book;
+import ua.com.epam.entity.Genre;
+import ua.com.epam.entity.dto.author.AuthorDto;
+import ua.com.epam.entity.dto.author.nested.BirthDto;
+import ua.com.epam.entity.dto.author.nested.NameDto;
+import ua.com.epam.entity.dto.book.BookDto;
+import ua.com.epam.entity.dto.book.nested.AdditionalDto;
+import ua.com.epam.entity.dto.book.nested.SizeDto;
+import ua.com.epam.entity.dto.genre.GenreDto;
+import ua.com.epam.service.mapper.DtoToModelMapper;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapperTest {
+    private final DtoToModelMapper toModelMapper = new DtoToModelMapper();
+    private final ModelToDtoMapper toDtoMapper = new ModelToDtoMapper();
+
+    @Test
+    public void bookRoundTrips() {
+        BookDto dto = new BookDto(10L, "Unde ab voluptates", "belorussian", "Quas saepe dolore",
+                new AdditionalDto(208, new SizeDto(7.5, 25.0, 3.0)), 1995);
+
+        Book book = toModelMapper.mapBookDtoToBook(dto);
+
+        assertNull(book.getId());
+        assertEquals(10L, book.getBookId());
+        assertEquals("belorussian", book.getBookLang());
+        assertEquals(208, book.getPageCount());
+        assertEquals(7.5, book.getBookHeight());
+        assertEquals(25.0, book.getBookWidth());
+        assertEquals(3.0, book.getBookLength());
+        assertEquals(dto, toDtoMapper.mapBookToBookDto(book));
+    }
+
+    @Test
+    public void authorRoundTrips() {
+        AuthorDto dto = new AuthorDto();
+        dto.setAuthorId(302L);
+        dto.setAuthorName(new NameDto("Makenzie", "Padberg"));
+        dto.setNationality("Bulgarian");
+        dto.setBirth(new BirthDto(LocalDate.of(1928, 8, 10), "Niger", "Brookefort"));
+        dto.setAuthorDescription("Fuga id illo");
+
+        Author author = toModelMapper.mapAuthorDtoToAuthor(dto);
+
+        assertNull(author.getId());
+        assertEquals(302L, author.getAuthorId());
+        assertEquals("Makenzie", author.getFirstName());
+        assertEquals("Padberg", author.getSecondName());
+        assertEquals(LocalDate.of(1928, 8, 10), author.getBirthDate());
+        assertEquals("Niger", author.getBirthCountry());
+        assertEquals("Brookefort", author.getBirthCity());
+        assertEquals(dto, toDtoMapper.mapAuthorToAuthorDto(author));
+    }
+
+    @Test
+    public void genreRoundTripsAndLeavesSurrogateIdToTheDatabase() {
+        GenreDto dto = new GenreDto(426L, "Science fiction", "Non ut inventore");
+
+        Genre genre = toModelMapper.mapGenreDtoToGenre(dto);
+
+        // the business id must not end up in the generated key
+        assertNull(genre.getId());
+        assertEquals(426L, genre.getGenreId());
+        assertEquals("Science fiction", genre.getGenreName());
+        assertEquals("Non ut inventore", genre.getDescription());
+        assertEquals(dto, toDtoMapper.mapGenreToGenreDto(genre));
+    }
+
+    @Test
+    public void storedGenreRoundTripsWithoutItsSurrogateId() {
+        Genre stored = new Genre();
+        stored.setId(17L);
+        stored.setGenreId(426L);
+        stored.setGenreName("Science fiction");
+        stored.setDescription(null);
+
+        Genre rebuilt = toModelMapper.mapGenreDtoToGenre(toDtoMapper.mapGenreToGenreDto(stored));
+
+        assertNull(rebuilt.getId());
+        stored.setId(null);
+        assertEquals(stored, rebuilt);
+    }
+}
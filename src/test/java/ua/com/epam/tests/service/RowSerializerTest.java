@@ -0,0 +1,52 @@
+package ua.com.epam.tests.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ua.com.epam.entity.Author;
+import ua.com.epam.entity.Book;
+import ua.com.epam.repository.projection.AuthorRow;
+import ua.com.epam.repository.projection.BookRow;
+import ua.com.epam.service.mapper.ModelToDtoMapper;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RowSerializerTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ModelToDtoMapper toDtoMapper = new ModelToDtoMapper();
+
+    @Test
+    public void bookRowIsWrittenAsBookDto() throws Exception {
+        Book book = new Book();
+        book.setBookId(10L);
+        book.setBookName("Unde ab \"voluptates\"");
+        book.setBookLang("belorussian");
+        book.setPageCount(208);
+        book.setBookHeight(7.5);
+        book.setBookWidth(25.0);
+        book.setPublicationYear(1995);
+        BookRow row = new BookRow(10L, "Unde ab \"voluptates\"", "belorussian", null, 208, 7.5, 25.0, null,
+                null, 187.5, 1995);
+
+        assertEquals(objectMapper.writeValueAsString(toDtoMapper.mapBookToBookDto(book)),
+                objectMapper.writeValueAsString(row));
+    }
+
+    @Test
+    public void authorRowIsWrittenAsAuthorDto() throws Exception {
+        Author author = new Author();
+        author.setAuthorId(302L);
+        author.setFirstName("Makenzie");
+        author.setSecondName("Padberg");
+        author.setNationality("Bulgarian");
+        author.setBirthDate(LocalDate.of(1928, 8, 10));
+        author.setBirthCity("Brookefort");
+        AuthorRow row = new AuthorRow(302L, "Makenzie", "Padberg", null, "Bulgarian",
+                LocalDate.of(1928, 8, 10), null, "Brookefort");
+
+        assertEquals(objectMapper.writeValueAsString(toDtoMapper.mapAuthorToAuthorDto(author)),
+                objectMapper.writeValueAsString(row));
+    }
+}